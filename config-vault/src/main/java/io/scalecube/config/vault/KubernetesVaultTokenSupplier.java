@@ -3,14 +3,27 @@
 import com.bettercloud.vault.EnvironmentLoader;
 import com.bettercloud.vault.Vault;
 import com.bettercloud.vault.VaultConfig;
+import com.bettercloud.vault.VaultException;
+import com.bettercloud.vault.response.AuthResponse;
 import io.scalecube.config.utils.ThrowableUtil;
+import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+/**
+ * Logs in to vault with kubernetes service account token (JWT). Service account token is read
+ * again only when its file was modified (kubernetes rotates projected tokens by replacing the
+ * file), and login client is created once per vault address. Concurrent log ins to the same vault
+ * are joined, and lease of issued token is reported, see {@link #getVaultToken(VaultConfig)}.
+ */
 public class KubernetesVaultTokenSupplier implements VaultTokenSupplier {
 
   private static final EnvironmentLoader ENVIRONMENT_LOADER = new EnvironmentLoader();
@@ -19,6 +32,9 @@ public class KubernetesVaultTokenSupplier implements VaultTokenSupplier {
   private final String vaultJwtProvider;
   private final String serviceAccountTokenPath;
 
+  private final Map<String, LoginClient> loginClients = new ConcurrentHashMap<>();
+  private volatile ServiceAccountToken serviceAccountToken;
+
   private KubernetesVaultTokenSupplier(Builder builder) {
     this.vaultRole = Objects.requireNonNull(builder.vaultRole, "vault role");
     this.vaultJwtProvider = Objects.requireNonNull(builder.vaultJwtProvider, "jwt provider");
@@ -36,17 +52,79 @@ public static KubernetesVaultTokenSupplier newInstance() {
 
   @Override
   public String getToken(VaultConfig config) {
-    try (Stream<String> stream = Files.lines(Paths.get(serviceAccountTokenPath))) {
-      String jwt = stream.collect(Collectors.joining());
-      return new Vault(config)
-          .auth()
-          .loginByJwt(vaultJwtProvider, vaultRole, jwt)
-          .getAuthClientToken();
+    return getVaultToken(config).token();
+  }
+
+  @Override
+  public VaultToken getVaultToken(VaultConfig config) {
+    try {
+      String key = config.getAddress() + "#" + config.getNameSpace();
+      return loginClients.computeIfAbsent(key, k -> new LoginClient(config)).login();
     } catch (Exception e) {
       throw ThrowableUtil.propagate(e);
     }
   }
 
+  private String serviceAccountToken() throws IOException {
+    Path path = Paths.get(serviceAccountTokenPath);
+    FileTime lastModifiedTime = Files.getLastModifiedTime(path);
+    ServiceAccountToken serviceAccountToken = this.serviceAccountToken;
+    if (serviceAccountToken == null
+        || !serviceAccountToken.lastModifiedTime.equals(lastModifiedTime)) {
+      try (Stream<String> stream = Files.lines(path)) {
+        String jwt = stream.collect(Collectors.joining());
+        serviceAccountToken = new ServiceAccountToken(lastModifiedTime, jwt);
+      }
+      this.serviceAccountToken = serviceAccountToken;
+    }
+    return serviceAccountToken.jwt;
+  }
+
+  private static final class ServiceAccountToken {
+
+    private final FileTime lastModifiedTime;
+    private final String jwt;
+
+    private ServiceAccountToken(FileTime lastModifiedTime, String jwt) {
+      this.lastModifiedTime = lastModifiedTime;
+      this.jwt = jwt;
+    }
+  }
+
+  private final class LoginClient {
+
+    private final Vault vault;
+    private long loggedInAt;
+    private VaultToken lastToken;
+
+    private LoginClient(VaultConfig config) {
+      this.vault = new Vault(config);
+    }
+
+    /**
+     * Logs in to vault. Log ins are serialized, and caller which waited for log in started after
+     * its call gets token issued by that log in instead of logging in once again.
+     */
+    private VaultToken login() throws IOException, VaultException {
+      long calledAt = System.nanoTime();
+      synchronized (this) {
+        if (lastToken != null && loggedInAt - calledAt > 0) {
+          return lastToken;
+        }
+        long startedAt = System.nanoTime();
+        AuthResponse response =
+            vault.auth().loginByJwt(vaultJwtProvider, vaultRole, serviceAccountToken());
+        lastToken =
+            VaultToken.of(
+                response.getAuthClientToken(),
+                Math.max(0, response.getAuthLeaseDuration()),
+                response.isAuthRenewable());
+        loggedInAt = startedAt;
+        return lastToken;
+      }
+    }
+  }
+
   public static class Builder {
 
     private String vaultRole = ENVIRONMENT_LOADER.loadVariable("VAULT_ROLE");
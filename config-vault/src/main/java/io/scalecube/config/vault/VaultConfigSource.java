@@ -1,23 +1,43 @@
 package io.scalecube.config.vault;
 
+import static io.scalecube.config.vault.VaultInvoker.STATUS_CODE_FORBIDDEN;
 import static io.scalecube.config.vault.VaultInvoker.STATUS_CODE_NOT_FOUND;
 
 import com.bettercloud.vault.EnvironmentLoader;
 import com.bettercloud.vault.VaultConfig;
 import com.bettercloud.vault.VaultException;
+import com.bettercloud.vault.json.Json;
+import com.bettercloud.vault.json.JsonObject;
+import com.bettercloud.vault.json.JsonValue;
 import com.bettercloud.vault.response.LogicalResponse;
+import com.bettercloud.vault.response.VaultResponse;
 import io.scalecube.config.ConfigProperty;
 import io.scalecube.config.ConfigSourceNotAvailableException;
 import io.scalecube.config.source.ConfigSource;
 import io.scalecube.config.source.LoadedConfigProperty;
+import io.scalecube.config.source.PropertySelection;
+import io.scalecube.config.utils.ThrowableUtil;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
@@ -25,7 +45,15 @@
 import org.slf4j.LoggerFactory;
 
 /**
- * This class is an implementation of {@link ConfigSource} for Vault.
+ * This class is an implementation of {@link ConfigSource} for Vault. Secrets paths are read
+ * concurrently (asynchronously, if {@link VaultHttpClient} is configured, see {@link
+ * VaultInvoker.Builder#httpClient(VaultHttpClient)}). If secrets are stored in KV v2 engine, then
+ * source can be made {@link Builder#versionAware(boolean) version aware}: it reads secret metadata
+ * first and reuses previously loaded properties if secret version hasn't changed. Secrets paths
+ * which metadata is forbidden by policy are then read without version check.
+ *
+ * <p>Source supports selective loading ({@link #loadConfig(PropertySelection)}), though vault
+ * reads secret as a whole, so only selected properties of the secret are kept.
  *
  * @see <a href="https://www.vaultproject.io/">Vault Project</a>
  */
@@ -36,50 +64,329 @@ public class VaultConfigSource implements ConfigSource {
   private static final EnvironmentLoader ENVIRONMENT_LOADER = new EnvironmentLoader();
   private static final String PATHS_SEPARATOR = ":";
 
+  private static final int DEFAULT_EXECUTOR_SIZE =
+      Math.max(4, Runtime.getRuntime().availableProcessors());
+
+  private static final Executor DEFAULT_EXECUTOR = newDefaultExecutor();
+
+  // versions of secrets which have no metadata (not in KV v2 engine), or metadata is forbidden
+  private static final long NO_METADATA = -1;
+  private static final long METADATA_FORBIDDEN = -2;
+
   private final VaultInvoker vault;
   private final Collection<String> secretsPaths;
+  private final Executor executor;
+  private final boolean versionAware;
+
+  // last loaded secrets by path, for version aware source
+  private final Map<String, Secrets> secretsCache = new ConcurrentHashMap<>();
+
+  // paths which metadata is forbidden, for version aware source
+  private final Set<String> unversionedPaths = ConcurrentHashMap.newKeySet();
 
-  private VaultConfigSource(VaultInvoker vault, Collection<String> secretsPaths) {
+  private VaultConfigSource(VaultInvoker vault, Collection<String> secretsPaths, Builder builder) {
     this.vault = vault;
     this.secretsPaths = new ArrayList<>(secretsPaths);
+    this.executor = builder.executor;
+    this.versionAware = builder.versionAware;
+  }
+
+  private static Executor newDefaultExecutor() {
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            DEFAULT_EXECUTOR_SIZE,
+            DEFAULT_EXECUTOR_SIZE,
+            1,
+            TimeUnit.MINUTES,
+            new LinkedBlockingQueue<>(),
+            r -> {
+              Thread thread = new Thread(r);
+              thread.setDaemon(true);
+              thread.setName("vault-config-executor");
+              return thread;
+            });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
   }
 
   public static Builder builder() {
     return new Builder();
   }
 
+  @Override
+  public boolean supportsSelection() {
+    return true;
+  }
+
   @Override
   public Map<String, ConfigProperty> loadConfig() {
-    Map<String, ConfigProperty> propertyMap = new HashMap<>();
+    return load(null);
+  }
+
+  @Override
+  public Map<String, ConfigProperty> loadConfig(PropertySelection selection) {
+    return load(Objects.requireNonNull(selection));
+  }
+
+  private Map<String, ConfigProperty> load(PropertySelection selection) {
+    // null selection means all properties
+    // path takes metadata and secret reads, each may be retried once after log in
+    Duration timeout = vault.callTimeout().multipliedBy(versionAware ? 4 : 2);
+    List<CompletableFuture<Map<String, LoadedConfigProperty>>> futures = new ArrayList<>();
     for (String path : secretsPaths) {
+      CompletableFuture<Map<String, LoadedConfigProperty>> future =
+          vault.supportsAsync()
+              ? loadConfigAsync(path)
+              : CompletableFuture.supplyAsync(() -> loadConfig(path), executor);
+      futures.add(future.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS));
+    }
+    Map<String, ConfigProperty> propertyMap = new HashMap<>();
+    for (CompletableFuture<Map<String, LoadedConfigProperty>> future : futures) {
       try {
-        LogicalResponse response = vault.invoke(vault -> vault.logical().read(path));
-        final Map<String, LoadedConfigProperty> pathProps =
-            response.getData().entrySet().stream()
-                .map(LoadedConfigProperty::withNameAndValue)
-                .map(LoadedConfigProperty.Builder::build)
-                .collect(Collectors.toMap(LoadedConfigProperty::name, Function.identity()));
-        propertyMap.putAll(pathProps);
-      } catch (VaultException ex) {
-        if (ex.getHttpStatusCode() == STATUS_CODE_NOT_FOUND) {
-          LOGGER.error("Unable to load config properties from: {}", path);
+        Map<String, LoadedConfigProperty> properties = future.join();
+        if (selection == null) {
+          propertyMap.putAll(properties);
         } else {
-          throw new ConfigSourceNotAvailableException(ex);
+          properties.forEach(
+              (name, property) -> {
+                if (selection.matches(name)) {
+                  propertyMap.put(name, property);
+                }
+              });
         }
-      } catch (Exception ex) {
-        LOGGER.error("Unable to load config properties from: {}", path, ex);
-        throw new ConfigSourceNotAvailableException(ex);
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof TimeoutException) {
+          String message = String.format("TimeoutException after '%s' millis", timeout.toMillis());
+          throw new ConfigSourceNotAvailableException(message, e.getCause());
+        }
+        throw ThrowableUtil.propagate(e.getCause());
       }
     }
     return propertyMap;
   }
 
+  private Map<String, LoadedConfigProperty> loadConfig(String path) {
+    try {
+      if (!versionAware || unversionedPaths.contains(path)) {
+        return readSecrets(path);
+      }
+      long version = readVersion(path);
+      if (version < 0) {
+        return unversioned(path, version, readSecrets(path));
+      }
+      Secrets secrets = secretsCache.get(path);
+      if (secrets == null || secrets.version != version) {
+        secrets = new Secrets(version, readSecrets(path));
+        secretsCache.put(path, secrets);
+      }
+      return secrets.properties;
+    } catch (Exception ex) {
+      return onError(path, ex);
+    }
+  }
+
+  private CompletableFuture<Map<String, LoadedConfigProperty>> loadConfigAsync(String path) {
+    CompletableFuture<Map<String, LoadedConfigProperty>> future;
+    if (!versionAware || unversionedPaths.contains(path)) {
+      future = readSecretsAsync(path);
+    } else {
+      future =
+          readVersionAsync(path)
+              .thenCompose(
+                  version -> {
+                    if (version < 0) {
+                      return readSecretsAsync(path)
+                          .thenApply(properties -> unversioned(path, version, properties));
+                    }
+                    Secrets secrets = secretsCache.get(path);
+                    if (secrets != null && secrets.version == version) {
+                      return CompletableFuture.completedFuture(secrets.properties);
+                    }
+                    return readSecretsAsync(path)
+                        .thenApply(
+                            properties -> {
+                              secretsCache.put(path, new Secrets(version, properties));
+                              return properties;
+                            });
+                  });
+    }
+    return future.handle((properties, ex) -> ex == null ? properties : onError(path, unwrap(ex)));
+  }
+
+  /**
+   * Returns properties of secret read without version check. If secret metadata turned out to be
+   * forbidden while secret itself is readable (i.e. token is valid, and it's not authentication
+   * failure), path is read without version check from now on.
+   */
+  private Map<String, LoadedConfigProperty> unversioned(
+      String path, long version, Map<String, LoadedConfigProperty> properties) {
+    if (version == METADATA_FORBIDDEN && unversionedPaths.add(path)) {
+      LOGGER.warn(
+          "Metadata of secrets path {} is forbidden, reading it without version check", path);
+    }
+    return properties;
+  }
+
+  private Map<String, LoadedConfigProperty> onError(String path, Throwable ex) {
+    if (ex instanceof VaultException) {
+      if (((VaultException) ex).getHttpStatusCode() == STATUS_CODE_NOT_FOUND) {
+        LOGGER.error("Unable to load config properties from: {}", path);
+        secretsCache.remove(path);
+        return Collections.emptyMap();
+      } else {
+        throw new ConfigSourceNotAvailableException(ex);
+      }
+    }
+    LOGGER.error("Unable to load config properties from: {}", path, ex);
+    throw new ConfigSourceNotAvailableException(ex);
+  }
+
+  private Map<String, LoadedConfigProperty> readSecrets(String path) throws VaultException {
+    LogicalResponse response = vault.invoke(vault -> vault.logical().read(path));
+    return response.getData().entrySet().stream()
+        .map(LoadedConfigProperty::withNameAndValue)
+        .map(LoadedConfigProperty.Builder::build)
+        .collect(Collectors.toMap(LoadedConfigProperty::name, Function.identity()));
+  }
+
+  private CompletableFuture<Map<String, LoadedConfigProperty>> readSecretsAsync(String path) {
+    return vault
+        .readAsync(vaultConfig -> secretsApiPath(vaultConfig, path))
+        .thenApply(VaultConfigSource::toProperties);
+  }
+
+  /**
+   * Reads current version of KV v2 secret from its metadata. See
+   * https://www.vaultproject.io/api-docs/secret/kv/kv-v2#read-secret-metadata.
+   *
+   * @param path secrets path
+   * Metadata read doesn't log in again on 403, since metadata may be forbidden by policy.
+   *
+   * @param path secrets path
+   * @return current version, or {@link #NO_METADATA} if there's no metadata (i.e. secret is not in
+   *     KV v2 engine), or {@link #METADATA_FORBIDDEN}
+   */
+  private long readVersion(String path) throws VaultException {
+    try {
+      return currentVersion(
+          vault.read(vaultConfig -> apiPath(vaultConfig, path, "metadata"), false));
+    } catch (VaultException ex) {
+      return versionOnError(ex);
+    }
+  }
+
+  private CompletableFuture<Long> readVersionAsync(String path) {
+    return vault
+        .readAsync(vaultConfig -> apiPath(vaultConfig, path, "metadata"), false)
+        .thenApply(VaultConfigSource::currentVersion)
+        .exceptionally(
+            ex -> {
+              Throwable cause = unwrap(ex);
+              if (cause instanceof VaultException) {
+                try {
+                  return versionOnError((VaultException) cause);
+                } catch (VaultException e) {
+                  throw new CompletionException(e);
+                }
+              }
+              throw new CompletionException(cause);
+            });
+  }
+
+  private static long versionOnError(VaultException ex) throws VaultException {
+    switch (ex.getHttpStatusCode()) {
+      case STATUS_CODE_NOT_FOUND:
+        return NO_METADATA;
+      case STATUS_CODE_FORBIDDEN:
+        return METADATA_FORBIDDEN;
+      default:
+        throw ex;
+    }
+  }
+
+  private static long currentVersion(VaultResponse response) {
+    return parseData(response).getLong("current_version", NO_METADATA);
+  }
+
+  /**
+   * Converts response of secret read to properties. Response of KV v2 engine has secret data
+   * wrapped along with metadata, see
+   * https://www.vaultproject.io/api-docs/secret/kv/kv-v2#read-secret-version.
+   */
+  private static Map<String, LoadedConfigProperty> toProperties(VaultResponse response) {
+    JsonObject data = parseData(response);
+    JsonValue metadata = data.get("metadata");
+    JsonValue secretData = data.get("data");
+    if (metadata != null && metadata.isObject() && secretData != null && secretData.isObject()) {
+      data = secretData.asObject();
+    }
+    Map<String, LoadedConfigProperty> properties = new HashMap<>();
+    for (JsonObject.Member member : data) {
+      JsonValue value = member.getValue();
+      String name = member.getName();
+      properties.put(
+          name,
+          LoadedConfigProperty.withNameAndValue(
+                  name, value.isString() ? value.asString() : value.toString())
+              .build());
+    }
+    return properties;
+  }
+
+  private static JsonObject parseData(VaultResponse response) {
+    String body = new String(response.getRestResponse().getBody(), StandardCharsets.UTF_8);
+    return Json.parse(body).asObject().get("data").asObject();
+  }
+
+  /**
+   * Returns API path to read secret, according to engine version of vault config (same as vault
+   * driver does).
+   */
+  private static String secretsApiPath(VaultConfig vaultConfig, String path) {
+    Integer engineVersion = vaultConfig.getGlobalEngineVersion();
+    return engineVersion != null && engineVersion == 1 ? path : apiPath(vaultConfig, path, "data");
+  }
+
+  /**
+   * Returns API path of KV v2 engine. Secrets path is of form mount/secret, where mount has
+   * vaultConfig.prefixPathDepth segments, and API path is of form mount/kind/secret.
+   */
+  private static String apiPath(VaultConfig vaultConfig, String path, String kind) {
+    List<String> segments = Arrays.asList(path.split("/"));
+    int depth = Math.min(vaultConfig.getPrefixPathDepth(), segments.size());
+    return String.join("/", segments.subList(0, depth))
+        + "/"
+        + kind
+        + "/"
+        + String.join("/", segments.subList(depth, segments.size()));
+  }
+
+  private static Throwable unwrap(Throwable throwable) {
+    return throwable instanceof CompletionException && throwable.getCause() != null
+        ? throwable.getCause()
+        : throwable;
+  }
+
+  private static final class Secrets {
+    private final long version;
+    private final Map<String, LoadedConfigProperty> properties;
+
+    private Secrets(long version, Map<String, LoadedConfigProperty> properties) {
+      this.version = version;
+      this.properties = properties;
+    }
+  }
+
   public static final class Builder {
 
     private Function<VaultInvoker.Builder, VaultInvoker.Builder> builderFunction = b -> b;
 
     private VaultInvoker invoker;
 
+    private Executor executor = DEFAULT_EXECUTOR;
+
+    private boolean versionAware;
+
     private Set<String> secretsPaths =
         Optional.ofNullable(
                 Optional.ofNullable(ENVIRONMENT_LOADER.loadVariable("VAULT_SECRETS_PATH"))
@@ -163,10 +470,50 @@ public Builder tokenSupplier(VaultTokenSupplier tokenSupplier) {
       return this;
     }
 
+    /**
+     * Setter for {@link VaultHttpClient}, see {@link VaultInvoker.Builder#httpClient}.
+     *
+     * @param httpClient httpClient
+     * @return this
+     */
+    public Builder httpClient(VaultHttpClient httpClient) {
+      this.builderFunction = this.builderFunction.andThen(b -> b.httpClient(httpClient));
+      return this;
+    }
+
+    /**
+     * Setter for executor secrets paths are read on. It's also executor of blocking calls of vault
+     * invoker built by this builder, see {@link VaultInvoker.Builder#executor(Executor)}. By
+     * default shared bounded executor is used.
+     *
+     * @param executor executor
+     * @return this
+     */
+    public Builder executor(Executor executor) {
+      this.executor = Objects.requireNonNull(executor);
+      return this;
+    }
+
+    /**
+     * Setter for version awareness. Version aware source reads metadata of KV v2 secret first, and
+     * reads secret itself only if its version has changed since last load. Secrets paths which are
+     * not in KV v2 engine are read as usual.
+     *
+     * @param versionAware versionAware
+     * @return this
+     */
+    public Builder versionAware(boolean versionAware) {
+      this.versionAware = versionAware;
+      return this;
+    }
+
     public VaultConfigSource build() {
       return new VaultConfigSource(
-          invoker != null ? invoker : builderFunction.apply(VaultInvoker.builder()).build(),
-          secretsPaths);
+          invoker != null
+              ? invoker
+              : builderFunction.apply(VaultInvoker.builder().executor(executor)).build(),
+          secretsPaths,
+          this);
     }
   }
 }
@@ -0,0 +1,197 @@
+package io.scalecube.config.vault;
+
+import com.bettercloud.vault.VaultConfig;
+import com.bettercloud.vault.VaultException;
+import com.bettercloud.vault.rest.RestResponse;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import javax.net.ssl.SSLContext;
+
+/**
+ * Vault HTTP client built on {@link HttpClient}: connections are pooled and reused, HTTP/2 is used
+ * if server supports it, and requests can be sent asynchronously. Responses are mapped to vault
+ * driver's {@link RestResponse}, so they're handled the same way as responses of vault driver.
+ *
+ * <p>Vault driver is still used to log in and to renew token, while reads go through this client,
+ * see {@link VaultInvoker.Builder#httpClient(VaultHttpClient)}.
+ */
+public final class VaultHttpClient {
+
+  private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+  private static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+  private static final Executor DEFAULT_EXECUTOR =
+      Executors.newCachedThreadPool(
+          r -> {
+            Thread thread = new Thread(r);
+            thread.setDaemon(true);
+            thread.setName("vault-http-client");
+            return thread;
+          });
+
+  private final HttpClient httpClient;
+  private final Duration requestTimeout;
+  private final Executor executor;
+
+  private VaultHttpClient(Builder builder) {
+    HttpClient.Builder httpClientBuilder =
+        HttpClient.newBuilder()
+            .version(builder.version)
+            .connectTimeout(builder.connectTimeout)
+            .executor(builder.executor);
+    if (builder.sslContext != null) {
+      httpClientBuilder.sslContext(builder.sslContext);
+    }
+    this.httpClient = httpClientBuilder.build();
+    this.requestTimeout = builder.requestTimeout;
+    this.executor = builder.executor;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Sends GET request to vault HTTP API.
+   *
+   * @param vaultConfig vault config (address, token and namespace are used)
+   * @param apiPath path relative to {@code /v1/}
+   * @return response
+   * @throws VaultException in case request couldn't be sent
+   */
+  public RestResponse get(VaultConfig vaultConfig, String apiPath) throws VaultException {
+    try {
+      HttpRequest request = request(vaultConfig, apiPath);
+      return toRestResponse(httpClient.send(request, BodyHandlers.ofByteArray()));
+    } catch (IOException e) {
+      throw new VaultException(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new VaultException(e);
+    }
+  }
+
+  /**
+   * Sends GET request to vault HTTP API asynchronously.
+   *
+   * @param vaultConfig vault config (address, token and namespace are used)
+   * @param apiPath path relative to {@code /v1/}
+   * @return response
+   */
+  public CompletableFuture<RestResponse> getAsync(VaultConfig vaultConfig, String apiPath) {
+    return httpClient
+        .sendAsync(request(vaultConfig, apiPath), BodyHandlers.ofByteArray())
+        .thenApply(VaultHttpClient::toRestResponse);
+  }
+
+  /**
+   * Returns executor of this client, which is also used to run blocking calls (like log in) which
+   * asynchronous requests depend on.
+   *
+   * @return executor
+   */
+  Executor executor() {
+    return executor;
+  }
+
+  private HttpRequest request(VaultConfig vaultConfig, String apiPath) {
+    HttpRequest.Builder builder =
+        HttpRequest.newBuilder(URI.create(vaultConfig.getAddress() + "/v1/" + apiPath))
+            .timeout(requestTimeout)
+            .GET();
+    if (vaultConfig.getToken() != null) {
+      builder.header("X-Vault-Token", vaultConfig.getToken());
+    }
+    if (vaultConfig.getNameSpace() != null && !vaultConfig.getNameSpace().isEmpty()) {
+      builder.header("X-Vault-Namespace", vaultConfig.getNameSpace());
+    }
+    return builder.build();
+  }
+
+  private static RestResponse toRestResponse(HttpResponse<byte[]> response) {
+    return new RestResponse(
+        response.statusCode(),
+        response.headers().firstValue("Content-Type").orElse(null),
+        response.body());
+  }
+
+  public static class Builder {
+
+    private Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+    private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
+    private HttpClient.Version version = HttpClient.Version.HTTP_2;
+    private Executor executor = DEFAULT_EXECUTOR;
+    private SSLContext sslContext;
+
+    private Builder() {}
+
+    /**
+     * Setter for connect timeout.
+     *
+     * @param connectTimeout connect timeout
+     * @return this
+     */
+    public Builder connectTimeout(Duration connectTimeout) {
+      this.connectTimeout = Objects.requireNonNull(connectTimeout);
+      return this;
+    }
+
+    /**
+     * Setter for request timeout.
+     *
+     * @param requestTimeout request timeout
+     * @return this
+     */
+    public Builder requestTimeout(Duration requestTimeout) {
+      this.requestTimeout = Objects.requireNonNull(requestTimeout);
+      return this;
+    }
+
+    /**
+     * Setter for preferred HTTP version, {@link HttpClient.Version#HTTP_2} by default (HTTP/1.1 is
+     * used if server doesn't support HTTP/2).
+     *
+     * @param version HTTP version
+     * @return this
+     */
+    public Builder version(HttpClient.Version version) {
+      this.version = Objects.requireNonNull(version);
+      return this;
+    }
+
+    /**
+     * Setter for executor to handle responses on. By default shared cached executor is used.
+     *
+     * @param executor executor
+     * @return this
+     */
+    public Builder executor(Executor executor) {
+      this.executor = Objects.requireNonNull(executor);
+      return this;
+    }
+
+    /**
+     * Setter for {@link SSLContext}, by default system one is used.
+     *
+     * @param sslContext ssl context
+     * @return this
+     */
+    public Builder sslContext(SSLContext sslContext) {
+      this.sslContext = sslContext;
+      return this;
+    }
+
+    public VaultHttpClient build() {
+      return new VaultHttpClient(this);
+    }
+  }
+}
@@ -7,13 +7,22 @@
 import com.bettercloud.vault.response.AuthResponse;
 import com.bettercloud.vault.response.LookupResponse;
 import com.bettercloud.vault.response.VaultResponse;
+import com.bettercloud.vault.rest.Rest;
+import com.bettercloud.vault.rest.RestException;
 import com.bettercloud.vault.rest.RestResponse;
 import io.scalecube.config.utils.ThrowableUtil;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
@@ -32,10 +41,26 @@ public class VaultInvoker {
 
   private static final long MIN_REFRESH_MARGIN = TimeUnit.MINUTES.toSeconds(10);
 
+  private static final double RENEWAL_JITTER_FACTOR = 0.1;
+
+  // shared by all invokers, only triggers renewals which run on blocking executor
+  private static final ScheduledExecutorService SCHEDULER = newScheduler();
+
+  // runs blocking calls by default, if there's no http client executor
+  private static final Executor BLOCKING_EXECUTOR =
+      Executors.newCachedThreadPool(
+          r -> {
+            Thread thread = new Thread(r);
+            thread.setDaemon(true);
+            thread.setName("vault-invoker");
+            return thread;
+          });
+
   private final Builder builder;
 
-  private Vault vault;
-  private Timer timer;
+  private volatile Session session; // null until logged in
+  private ScheduledFuture<?> renewTask;
+  private CompletableFuture<Session> recreation; // in-progress recreation of vault
 
   private VaultInvoker(Builder builder) {
     this.builder = builder;
@@ -45,6 +70,20 @@ public static Builder builder() {
     return new Builder();
   }
 
+  private static ScheduledExecutorService newScheduler() {
+    ScheduledThreadPoolExecutor scheduler =
+        new ScheduledThreadPoolExecutor(
+            1,
+            r -> {
+              Thread thread = new Thread(r);
+              thread.setDaemon(true);
+              thread.setName("VaultScheduler");
+              return thread;
+            });
+    scheduler.setRemoveOnCancelPolicy(true);
+    return scheduler;
+  }
+
   /**
    * Invokes a given call with vault.
    *
@@ -52,80 +91,303 @@ public static Builder builder() {
    * @return vault response
    */
   public <T extends VaultResponse> T invoke(VaultCall<T> call) throws VaultException {
-    Vault vault = this.vault;
+    return invoke((vault, vaultConfig) -> call.apply(vault), true);
+  }
+
+  /**
+   * Invokes a given call with config of vault, e.g. to make request which is not covered by vault
+   * driver.
+   *
+   * @param call call
+   * @return vault response
+   */
+  public <T extends VaultResponse> T invokeWithConfig(VaultConfigCall<T> call)
+      throws VaultException {
+    return invoke((vault, vaultConfig) -> call.apply(vaultConfig), true);
+  }
+
+  /**
+   * Returns whether {@link #readAsync(Function)} is truly asynchronous, i.e. whether {@link
+   * VaultHttpClient} is configured.
+   *
+   * @return true if http client is configured
+   */
+  public boolean supportsAsync() {
+    return builder.httpClient != null;
+  }
+
+  /**
+   * Reads given path of vault HTTP API with {@link VaultHttpClient} if it's configured, or with
+   * vault driver's rest client otherwise.
+   *
+   * @param apiPath function of vault config to path relative to {@code /v1/}
+   * @return vault response
+   */
+  public VaultResponse read(Function<VaultConfig, String> apiPath) throws VaultException {
+    return read(apiPath, true);
+  }
+
+  /**
+   * Reads given path of vault HTTP API, see {@link #read(Function)}.
+   *
+   * @param apiPath function of vault config to path relative to {@code /v1/}
+   * @param relogin whether to log in again and retry on 403, otherwise it's thrown as {@link
+   *     VaultException}; reads which may be forbidden by policy should not log in again
+   * @return vault response
+   */
+  VaultResponse read(Function<VaultConfig, String> apiPath, boolean relogin)
+      throws VaultException {
+    return invoke(
+        (vault, vaultConfig) ->
+            new VaultResponse(get(vaultConfig, apiPath.apply(vaultConfig)), 0),
+        relogin);
+  }
+
+  /**
+   * Reads given path of vault HTTP API asynchronously. Without {@link VaultHttpClient} configured
+   * this is the same as {@link #read(Function)} but called on executor of blocking calls (see
+   * {@link Builder#executor(Executor)}). Authentication failure is handled the same way as by
+   * {@link #invoke(VaultCall)}.
+   *
+   * @param apiPath function of vault config to path relative to {@code /v1/}
+   * @return vault response
+   */
+  public CompletableFuture<VaultResponse> readAsync(Function<VaultConfig, String> apiPath) {
+    return readAsync(apiPath, true);
+  }
+
+  /**
+   * Reads given path of vault HTTP API asynchronously, see {@link #readAsync(Function)}.
+   *
+   * @param apiPath function of vault config to path relative to {@code /v1/}
+   * @param relogin whether to log in again and retry on 403, see {@link #read(Function, boolean)}
+   * @return vault response
+   */
+  CompletableFuture<VaultResponse> readAsync(
+      Function<VaultConfig, String> apiPath, boolean relogin) {
+    VaultHttpClient httpClient = builder.httpClient;
+    Session session = this.session;
+    if (httpClient == null || session == null) {
+      // read with vault driver or log in is blocking
+      return CompletableFuture.supplyAsync(
+          () -> readOrThrow(apiPath, relogin), blockingExecutor());
+    }
+    return httpClient
+        .getAsync(session.vaultConfig, apiPath.apply(session.vaultConfig))
+        .thenCompose(
+            restResponse -> {
+              if (relogin && restResponse.getStatus() == STATUS_CODE_FORBIDDEN) {
+                LOGGER.warn("Authentication failed, now trying to recreate vault");
+                return CompletableFuture.supplyAsync(
+                    () -> {
+                      try {
+                        recreateVault(session);
+                      } catch (VaultException e) {
+                        throw new CompletionException(e);
+                      }
+                      return readOrThrow(apiPath, false);
+                    },
+                    blockingExecutor());
+              }
+              try {
+                checkResponse(restResponse);
+              } catch (VaultException e) {
+                throw new CompletionException(e);
+              }
+              return CompletableFuture.completedFuture(new VaultResponse(restResponse, 0));
+            });
+  }
+
+  private VaultResponse readOrThrow(Function<VaultConfig, String> apiPath, boolean relogin) {
+    try {
+      return read(apiPath, relogin);
+    } catch (VaultException e) {
+      throw new CompletionException(e);
+    }
+  }
+
+  private RestResponse get(VaultConfig vaultConfig, String apiPath) throws VaultException {
+    if (builder.httpClient != null) {
+      return builder.httpClient.get(vaultConfig, apiPath);
+    }
+    try {
+      return new Rest()
+          .url(vaultConfig.getAddress() + "/v1/" + apiPath)
+          .header("X-Vault-Token", vaultConfig.getToken())
+          .header("X-Vault-Namespace", vaultConfig.getNameSpace())
+          .connectTimeoutSeconds(vaultConfig.getOpenTimeout())
+          .readTimeoutSeconds(vaultConfig.getReadTimeout())
+          .sslVerification(vaultConfig.getSslConfig().isVerify())
+          .sslContext(vaultConfig.getSslConfig().getSslContext())
+          .get();
+    } catch (RestException e) {
+      throw new VaultException(e);
+    }
+  }
+
+  private <T extends VaultResponse> T invoke(Call<T> call, boolean relogin)
+      throws VaultException {
+    Session session = this.session;
     try {
-      if (vault == null) {
-        vault = recreateVault(null);
+      if (session == null) {
+        session = recreateVault(null);
       }
-      T response = call.apply(vault);
+      T response = call.apply(session.vault, session.vaultConfig);
       checkResponse(response.getRestResponse());
       return response;
     } catch (VaultException e) {
       // try recreate Vault according to https://www.vaultproject.io/api/overview#http-status-codes
-      if (e.getHttpStatusCode() == STATUS_CODE_FORBIDDEN) {
+      if (relogin && e.getHttpStatusCode() == STATUS_CODE_FORBIDDEN) {
         LOGGER.warn(
             "Authentication failed (error message: {}), now trying to recreate vault",
             e.getMessage());
-        vault = recreateVault(vault);
-        return call.apply(vault);
+        session = recreateVault(session);
+        T response = call.apply(session.vault, session.vaultConfig);
+        checkResponse(response.getRestResponse());
+        return response;
       }
       throw e;
     }
   }
 
-  private synchronized Vault recreateVault(Vault prev) throws VaultException {
-    try {
-      if (!Objects.equals(prev, vault) && vault != null) {
-        return vault;
+  /**
+   * Returns timeout of single call of vault HTTP API, i.e. sum of open and read timeouts of vault
+   * config.
+   *
+   * @return call timeout
+   */
+  public Duration callTimeout() {
+    Session session = this.session;
+    VaultConfig vaultConfig =
+        session != null ? session.vaultConfig : builder.options.apply(new VaultConfig());
+    int openTimeout =
+        Optional.ofNullable(vaultConfig.getOpenTimeout()).orElse(Builder.OPEN_TIMEOUT_SEC);
+    int readTimeout =
+        Optional.ofNullable(vaultConfig.getReadTimeout()).orElse(Builder.READ_TIMEOUT_SEC);
+    return Duration.ofSeconds(openTimeout + readTimeout);
+  }
+
+  /**
+   * Recreates vault (i.e. logs in again) unless it was already recreated since {@code prev} was
+   * taken. Recreation is single-flight: concurrent callers await the same in-progress login.
+   *
+   * @param prev session which vault turned out to be unusable, or null
+   * @return new session
+   */
+  private Session recreateVault(Session prev) throws VaultException {
+    CompletableFuture<Session> recreation;
+    boolean owner = false;
+    synchronized (this) {
+      if (session != null && session != prev) {
+        return session;
+      }
+      if (this.recreation == null) {
+        this.recreation = new CompletableFuture<>();
+        owner = true;
+        if (renewTask != null) {
+          renewTask.cancel(false);
+          renewTask = null;
+        }
+        session = null;
       }
-      if (timer != null) {
-        timer.cancel();
-        timer = null;
+      recreation = this.recreation;
+    }
+    if (owner) {
+      try {
+        recreation.complete(createVault());
+      } catch (Throwable e) {
+        recreation.completeExceptionally(e);
+      } finally {
+        synchronized (this) {
+          this.recreation = null;
+        }
       }
-      vault = null;
+    }
+    try {
+      return recreation.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof VaultException) {
+        throw (VaultException) e.getCause();
+      }
+      throw ThrowableUtil.propagate(e.getCause());
+    }
+  }
 
+  private Session createVault() throws VaultException {
+    try {
       VaultConfig vaultConfig =
           builder
               .options
               .apply(new VaultConfig().environmentLoader(new EnvironmentLoader()))
               .build();
-      String token = builder.tokenSupplier.getToken(vaultConfig);
-      Vault vault = new Vault(vaultConfig.token(token));
+      VaultToken token = builder.tokenSupplier.getVaultToken(vaultConfig);
+      Vault vault = new Vault(vaultConfig.token(token.token()));
       checkVault(vault);
-      LookupResponse lookupSelf = vault.auth().lookupSelf();
-      if (lookupSelf.isRenewable()) {
-        long ttl = lookupSelf.getTTL();
-        long delay = TimeUnit.SECONDS.toMillis(suggestedRefreshInterval(ttl));
-        timer = new Timer("VaultScheduler", true);
-        timer.schedule(new RenewTokenTask(), delay);
-        LOGGER.info("Renew token timer was set to {}s, (TTL = {}s)", delay, ttl);
-      } else {
-        LOGGER.warn("Vault token is not renewable");
+      if (!token.hasLease()) {
+        LookupResponse lookupSelf = vault.auth().lookupSelf();
+        token = VaultToken.of(token.token(), lookupSelf.getTTL(), lookupSelf.isRenewable());
       }
-      this.vault = vault;
+      Session session = new Session(vault, vaultConfig);
+      synchronized (this) {
+        this.session = session;
+        if (token.isRenewable()) {
+          scheduleRenewal(session, token.ttl());
+        } else {
+          LOGGER.warn("Vault token is not renewable");
+        }
+      }
+      return session;
     } catch (VaultException e) {
       LOGGER.error("Could not initialize and validate the vault", e);
       throw e;
     }
-    return vault;
   }
 
-  private void renewToken() throws VaultException {
-    Vault vault = this.vault;
-    if (vault == null) {
-      return;
+  /**
+   * Schedules renewal of token of the given vault on shared scheduler. Renewal is proactive: it's
+   * scheduled at {@link #suggestedRefreshInterval(long)} less random jitter of up to {@link
+   * #RENEWAL_JITTER_FACTOR} of it, so that tokens issued at the same time aren't renewed at once.
+   * Renewal (and log in, if renewal fails) is blocking, so it's handed off to {@link
+   * #blockingExecutor()} in order not to stall renewals of other invokers.
+   *
+   * @param session session which token is renewed
+   * @param ttl token TTL in seconds
+   */
+  private synchronized void scheduleRenewal(Session session, long ttl) {
+    if (this.session != session) {
+      return; // vault was recreated meanwhile
+    }
+    long interval = TimeUnit.SECONDS.toMillis(suggestedRefreshInterval(ttl));
+    double jitter = RENEWAL_JITTER_FACTOR * ThreadLocalRandom.current().nextDouble();
+    long delay = interval - (long) (interval * jitter);
+    renewTask =
+        SCHEDULER.schedule(
+            () -> blockingExecutor().execute(() -> renewToken(session)),
+            delay,
+            TimeUnit.MILLISECONDS);
+    LOGGER.info(
+        "Renew token task was scheduled in {}s, (TTL = {}s)",
+        TimeUnit.MILLISECONDS.toSeconds(delay),
+        ttl);
+  }
+
+  private void renewToken(Session session) {
+    synchronized (this) {
+      if (this.session != session) {
+        return; // vault was recreated meanwhile
+      }
+      renewTask = null;
     }
     try {
-      AuthResponse response = vault.auth().renewSelf();
+      AuthResponse response = session.vault.auth().renewSelf();
       long ttl = response.getAuthLeaseDuration();
       LOGGER.debug("Token was successfully renewed (new TTL = {}s)", ttl);
       if (response.isAuthRenewable()) {
         if (ttl > 1) {
-          long delay = TimeUnit.SECONDS.toMillis(suggestedRefreshInterval(ttl));
-          timer.schedule(new RenewTokenTask(), delay);
+          scheduleRenewal(session, ttl);
         } else {
           LOGGER.warn("Token TTL ({}s) is not enough for scheduling", ttl);
-          vault = recreateVault(vault);
+          recreateVault(session);
         }
       } else {
         LOGGER.warn("Vault token is not renewable now");
@@ -134,10 +396,24 @@ private void renewToken() throws VaultException {
       // try recreate Vault according to https://www.vaultproject.io/api/overview#http-status-codes
       if (e.getHttpStatusCode() == STATUS_CODE_FORBIDDEN) {
         LOGGER.warn("Could not renew the Vault token", e);
-        //noinspection UnusedAssignment
-        vault = recreateVault(vault);
+        try {
+          recreateVault(session);
+        } catch (Exception ex) {
+          LOGGER.error("Could not recreate the vault", ex);
+        }
+      } else {
+        LOGGER.error("Could not renew the Vault token", e);
       }
+    } catch (Exception e) {
+      LOGGER.error("Could not renew the Vault token", e);
+    }
+  }
+
+  private Executor blockingExecutor() {
+    if (builder.executor != null) {
+      return builder.executor;
     }
+    return builder.httpClient != null ? builder.httpClient.executor() : BLOCKING_EXECUTOR;
   }
 
   /**
@@ -192,15 +468,27 @@ private static String bodyAsString(RestResponse response) {
     T apply(Vault vault) throws VaultException;
   }
 
-  private class RenewTokenTask extends TimerTask {
+  @FunctionalInterface
+  public interface VaultConfigCall<T extends VaultResponse> {
 
-    @Override
-    public void run() {
-      try {
-        renewToken();
-      } catch (Exception e) {
-        throw ThrowableUtil.propagate(e);
-      }
+    T apply(VaultConfig vaultConfig) throws VaultException;
+  }
+
+  @FunctionalInterface
+  private interface Call<T extends VaultResponse> {
+
+    T apply(Vault vault, VaultConfig vaultConfig) throws VaultException;
+  }
+
+  /** Logged in vault along with its config, published as a whole. */
+  private static final class Session {
+
+    private final Vault vault;
+    private final VaultConfig vaultConfig;
+
+    private Session(Vault vault, VaultConfig vaultConfig) {
+      this.vault = vault;
+      this.vaultConfig = vaultConfig;
     }
   }
 
@@ -217,6 +505,10 @@ public static class Builder {
 
     private VaultTokenSupplier tokenSupplier = new EnvironmentVaultTokenSupplier();
 
+    private VaultHttpClient httpClient;
+
+    private Executor executor;
+
     private Builder() {}
 
     /**
@@ -241,6 +533,30 @@ public Builder tokenSupplier(VaultTokenSupplier supplier) {
       return this;
     }
 
+    /**
+     * Setter for {@link VaultHttpClient}, which (if set) is used for reads instead of vault driver.
+     *
+     * @param httpClient vault http client
+     * @return this
+     */
+    public Builder httpClient(VaultHttpClient httpClient) {
+      this.httpClient = httpClient;
+      return this;
+    }
+
+    /**
+     * Setter for executor to run blocking calls on (log in, token renewal and async reads without
+     * {@link VaultHttpClient}). By default executor of http client is used if it's set, or shared
+     * cached executor otherwise.
+     *
+     * @param executor executor
+     * @return this
+     */
+    public Builder executor(Executor executor) {
+      this.executor = Objects.requireNonNull(executor);
+      return this;
+    }
+
     /**
      * Builds vault invoker.
      *
@@ -250,6 +566,8 @@ public VaultInvoker build() {
       Builder builder = new Builder();
       builder.options = options;
       builder.tokenSupplier = tokenSupplier;
+      builder.httpClient = httpClient;
+      builder.executor = executor;
       return new VaultInvoker(builder);
     }
   }
@@ -0,0 +1,79 @@
+package io.scalecube.config.vault;
+
+import java.util.Objects;
+
+/**
+ * Vault token along with its lease, as reported by vault on log in. Lease is unknown if token was
+ * obtained without logging in (like from environment), then vault is asked for it with token
+ * lookup.
+ */
+public final class VaultToken {
+
+  private static final long UNKNOWN_TTL = -1;
+
+  private final String token;
+  private final long ttl;
+  private final boolean renewable;
+
+  private VaultToken(String token, long ttl, boolean renewable) {
+    this.token = Objects.requireNonNull(token, "token");
+    this.ttl = ttl;
+    this.renewable = renewable;
+  }
+
+  /**
+   * Returns token with unknown lease.
+   *
+   * @param token token
+   * @return vault token
+   */
+  public static VaultToken of(String token) {
+    return new VaultToken(token, UNKNOWN_TTL, false);
+  }
+
+  /**
+   * Returns token with known lease.
+   *
+   * @param token token
+   * @param ttl token TTL in seconds
+   * @param renewable whether token is renewable
+   * @return vault token
+   */
+  public static VaultToken of(String token, long ttl, boolean renewable) {
+    if (ttl < 0) {
+      throw new IllegalArgumentException("ttl must be non-negative");
+    }
+    return new VaultToken(token, ttl, renewable);
+  }
+
+  public String token() {
+    return token;
+  }
+
+  /**
+   * Returns whether token lease (TTL and renewability) is known.
+   *
+   * @return true if lease is known
+   */
+  public boolean hasLease() {
+    return ttl != UNKNOWN_TTL;
+  }
+
+  /**
+   * Returns token TTL in seconds, negative if lease is unknown.
+   *
+   * @return token TTL
+   */
+  public long ttl() {
+    return ttl;
+  }
+
+  public boolean isRenewable() {
+    return renewable;
+  }
+
+  @Override
+  public String toString() {
+    return "VaultToken{ttl=" + ttl + ", renewable=" + renewable + "}";
+  }
+}
@@ -6,4 +6,16 @@
 public interface VaultTokenSupplier {
 
   String getToken(VaultConfig config);
+
+  /**
+   * Obtains token along with its lease. Suppliers which log in to vault should override this to
+   * report lease of issued token, so that its renewal is scheduled without asking vault for it. By
+   * default lease is unknown.
+   *
+   * @param config vault config
+   * @return vault token
+   */
+  default VaultToken getVaultToken(VaultConfig config) {
+    return VaultToken.of(getToken(config));
+  }
 }
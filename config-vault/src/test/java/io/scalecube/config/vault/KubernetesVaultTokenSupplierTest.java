@@ -0,0 +1,104 @@
+package io.scalecube.config.vault;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bettercloud.vault.VaultConfig;
+import io.scalecube.config.ConfigProperty;
+import io.scalecube.config.utils.ThrowableUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class KubernetesVaultTokenSupplierTest {
+
+  private static final String SECRETS_PATH = "secret/application/tenant1";
+
+  @TempDir Path tempDir;
+
+  private VaultStubServer server;
+  private Path serviceAccountTokenPath;
+  private KubernetesVaultTokenSupplier tokenSupplier;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    server = VaultStubServer.start();
+    server.putSecret(SECRETS_PATH, Collections.singletonMap("top_secret", "password1"));
+    serviceAccountTokenPath = tempDir.resolve("token");
+    writeServiceAccountToken("jwt1", Instant.now());
+    tokenSupplier =
+        KubernetesVaultTokenSupplier.builder()
+            .vaultRole("role")
+            .vaultJwtProvider("kubernetes")
+            .serviceAccountTokenPath(serviceAccountTokenPath.toString())
+            .build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.close();
+  }
+
+  private void writeServiceAccountToken(String jwt, Instant lastModifiedTime) throws Exception {
+    Files.write(serviceAccountTokenPath, jwt.getBytes());
+    Files.setLastModifiedTime(serviceAccountTokenPath, FileTime.from(lastModifiedTime));
+  }
+
+  private VaultConfig vaultConfig() {
+    try {
+      return new VaultConfig().address(server.address()).build();
+    } catch (Exception e) {
+      throw ThrowableUtil.propagate(e);
+    }
+  }
+
+  @Test
+  void testTokenLeaseIsReported() {
+    VaultToken token = tokenSupplier.getVaultToken(vaultConfig());
+
+    assertEquals(server.token(), token.token());
+    assertTrue(token.hasLease());
+    assertTrue(token.isRenewable());
+    assertEquals(3600, token.ttl());
+  }
+
+  @Test
+  void testServiceAccountTokenIsReadAgainWhenModified() throws Exception {
+    tokenSupplier.getVaultToken(vaultConfig());
+    assertTrue(server.loginRequest().contains("jwt1"));
+
+    // same modification time, cached service account token is used
+    FileTime lastModifiedTime = Files.getLastModifiedTime(serviceAccountTokenPath);
+    writeServiceAccountToken("jwt2", lastModifiedTime.toInstant());
+    tokenSupplier.getVaultToken(vaultConfig());
+    assertTrue(server.loginRequest().contains("jwt1"));
+
+    writeServiceAccountToken("jwt3", Instant.now().plusSeconds(1));
+    tokenSupplier.getVaultToken(vaultConfig());
+    assertTrue(server.loginRequest().contains("jwt3"));
+    assertEquals(3, server.requests("auth/kubernetes/login"));
+  }
+
+  @Test
+  void testRenewalIsScheduledWithoutTokenLookup() {
+    VaultConfigSource vaultConfigSource =
+        VaultConfigSource.builder()
+            .config(c -> c.address(server.address()).engineVersion(2))
+            .tokenSupplier(tokenSupplier)
+            .addSecretsPath(SECRETS_PATH)
+            .build();
+
+    Map<String, ConfigProperty> loadConfig = vaultConfigSource.loadConfig();
+
+    assertEquals("password1", loadConfig.get("top_secret").valueAsString(""));
+    assertEquals(1, server.requests("auth/kubernetes/login"));
+    assertEquals(0, server.requests("auth/token/lookup-self"));
+  }
+}
@@ -6,6 +6,7 @@
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -133,6 +134,31 @@ void testMissingProperty() {
     assertThat(actual, nullValue());
   }
 
+  @Test
+  void testVersionAwareSourceReusesUnchangedSecrets() {
+    VaultInstance vaultInstance = vaultContainerExtension.vaultInstance();
+    String secretsPath = "secret/application/tenant4";
+    vaultInstance.putSecrets(secretsPath, "top_secret=password4");
+    VaultConfigSource vaultConfigSource =
+        VaultConfigSource.builder()
+            .config(c -> c.token(vaultInstance.rootToken()))
+            .config(c -> c.address(vaultInstance.address()))
+            .addSecretsPath(secretsPath, VAULT_SECRETS_PATH3)
+            .versionAware(true)
+            .build();
+
+    ConfigProperty property = vaultConfigSource.loadConfig().get("top_secret");
+
+    assertThat(property.valueAsString(""), equalTo("password4"));
+    assertThat(vaultConfigSource.loadConfig().get("top_secret"), sameInstance(property));
+    assertThat(vaultConfigSource.loadConfig().get("secret"), notNullValue());
+
+    vaultInstance.putSecrets(secretsPath, "top_secret=password5");
+
+    ConfigProperty actual = vaultConfigSource.loadConfig().get("top_secret");
+    assertThat(actual.valueAsString(""), equalTo("password5"));
+  }
+
   @Test
   void testMissingTenant() {
     VaultConfigSource.builder()
@@ -338,6 +364,27 @@ void testRenewableToken() throws InterruptedException {
     }
   }
 
+  @Test
+  void testConcurrentReadsShareSingleLogin() {
+    LongAdder logins = new LongAdder();
+    VaultConfigSource vaultConfigSource =
+        VaultConfigSource.builder()
+            .config(c -> c.token(vaultContainerExtension.vaultInstance().rootToken()))
+            .config(c -> c.address(vaultContainerExtension.vaultInstance().address()))
+            .addSecretsPath(VAULT_SECRETS_PATH1, VAULT_SECRETS_PATH2, VAULT_SECRETS_PATH3)
+            .tokenSupplier(
+                (config) -> {
+                  logins.increment();
+                  return config.getToken();
+                })
+            .build();
+
+    Map<String, ConfigProperty> loadConfig = vaultConfigSource.loadConfig();
+
+    assertThat(loadConfig.get("secret"), notNullValue());
+    assertThat(logins.intValue(), equalTo(1));
+  }
+
   @Test
   void testNonrenewableToken() {
     String token =
@@ -0,0 +1,98 @@
+package io.scalecube.config.vault;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.scalecube.config.ConfigProperty;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Comparison of vault driver transport against {@link VaultHttpClient}, loading a number of
+ * secrets paths from {@link VaultStubServer} (which responds with a fixed delay) over and over
+ * (like on every reload). Reports average load latency and peak number of live threads. Skipped by
+ * default, run with {@code mvn test -Dtest=VaultHttpClientBenchmarkTest -Dbenchmark=true}.
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class VaultHttpClientBenchmarkTest {
+
+  private static final int SECRETS_PATHS = 30;
+  private static final Duration RESPONSE_DELAY = Duration.ofMillis(5);
+
+  private static final int WARMUP_ITERATIONS = 20;
+  private static final int ITERATIONS = 100;
+
+  private VaultStubServer server;
+  private List<String> secretsPaths;
+
+  @BeforeEach
+  void setUp() {
+    server = VaultStubServer.start();
+    secretsPaths = new ArrayList<>();
+    for (int i = 0; i < SECRETS_PATHS; i++) {
+      String secretsPath = "secret/application/tenant" + i;
+      server.putSecret(secretsPath, Collections.singletonMap("secret" + i, "password" + i));
+      secretsPaths.add(secretsPath);
+    }
+    server.responseDelay(RESPONSE_DELAY);
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.close();
+  }
+
+  @Test
+  void benchmarkLoadConfig() {
+    Map<String, String> expected = run("vault driver", builder().build());
+
+    assertEquals(SECRETS_PATHS, expected.size());
+    assertEquals(
+        expected,
+        run("http client", builder().httpClient(VaultHttpClient.builder().build()).build()));
+    assertEquals(
+        expected,
+        run(
+            "http client (version aware)",
+            builder().httpClient(VaultHttpClient.builder().build()).versionAware(true).build()));
+  }
+
+  private VaultConfigSource.Builder builder() {
+    return VaultConfigSource.builder()
+        .config(c -> c.address(server.address()).engineVersion(2))
+        .tokenSupplier(config -> server.token())
+        .secretsPaths(secretsPaths);
+  }
+
+  private static Map<String, String> run(String name, VaultConfigSource configSource) {
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      configSource.loadConfig();
+    }
+    ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    threadBean.resetPeakThreadCount();
+    Map<String, ConfigProperty> loadConfig = null;
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      loadConfig = configSource.loadConfig();
+    }
+    double avgMillis = (System.nanoTime() - start) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    System.out.printf(
+        "%-30s %8.2f ms/load, peak threads: %d%n",
+        name, avgMillis / ITERATIONS, threadBean.getPeakThreadCount());
+    return loadConfig.entrySet().stream()
+        .collect(Collectors.toMap(Entry::getKey, entry -> entry.getValue().valueAsString("")));
+  }
+}
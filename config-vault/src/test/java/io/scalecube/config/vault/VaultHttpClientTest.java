@@ -0,0 +1,110 @@
+package io.scalecube.config.vault;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.scalecube.config.ConfigProperty;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class VaultHttpClientTest {
+
+  private static final String SECRETS_PATH1 = "secret/application/tenant1";
+  private static final String SECRETS_PATH2 = "secret/application/tenant2";
+
+  private VaultStubServer server;
+
+  @BeforeEach
+  void setUp() {
+    server = VaultStubServer.start();
+    server.putSecret(SECRETS_PATH1, Collections.singletonMap("top_secret", "password1"));
+    server.putSecret(SECRETS_PATH2, Collections.singletonMap("db_password", "dbpassword2"));
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.close();
+  }
+
+  private VaultConfigSource.Builder builder(UnaryOperator<VaultConfigSource.Builder> operator) {
+    return operator.apply(
+        VaultConfigSource.builder()
+            .config(c -> c.address(server.address()).engineVersion(2))
+            .tokenSupplier(config -> server.token())
+            .httpClient(VaultHttpClient.builder().build()));
+  }
+
+  @Test
+  void testReadSecrets() {
+    VaultConfigSource vaultConfigSource =
+        builder(b -> b.addSecretsPath(SECRETS_PATH1, SECRETS_PATH2)).build();
+
+    Map<String, ConfigProperty> loadConfig = vaultConfigSource.loadConfig();
+
+    assertEquals("password1", loadConfig.get("top_secret").valueAsString(""));
+    assertEquals("dbpassword2", loadConfig.get("db_password").valueAsString(""));
+  }
+
+  @Test
+  void testMissingSecretIsSkipped() {
+    VaultConfigSource vaultConfigSource =
+        builder(b -> b.addSecretsPath(SECRETS_PATH1, "secret/unknown/path")).build();
+
+    Map<String, ConfigProperty> loadConfig = vaultConfigSource.loadConfig();
+
+    assertEquals(1, loadConfig.size());
+  }
+
+  @Test
+  void testVersionAwareReadsUnchangedSecretOnce() {
+    VaultConfigSource vaultConfigSource =
+        builder(b -> b.addSecretsPath(SECRETS_PATH1).versionAware(true)).build();
+
+    for (int i = 0; i < 3; i++) {
+      vaultConfigSource.loadConfig();
+    }
+
+    assertEquals(3, server.requests("secret/metadata/application/tenant1"));
+    assertEquals(1, server.requests("secret/data/application/tenant1"));
+
+    server.putSecret(SECRETS_PATH1, Collections.singletonMap("top_secret", "password2"));
+
+    Map<String, ConfigProperty> loadConfig = vaultConfigSource.loadConfig();
+
+    assertEquals("password2", loadConfig.get("top_secret").valueAsString(""));
+    assertEquals(2, server.requests("secret/data/application/tenant1"));
+  }
+
+  @Test
+  void testVersionAwareFallsBackOnForbiddenMetadata() {
+    server.forbidMetadata();
+    VaultConfigSource vaultConfigSource =
+        builder(b -> b.addSecretsPath(SECRETS_PATH1).versionAware(true)).build();
+
+    for (int i = 0; i < 3; i++) {
+      Map<String, ConfigProperty> loadConfig = vaultConfigSource.loadConfig();
+      assertEquals("password1", loadConfig.get("top_secret").valueAsString(""));
+    }
+
+    assertEquals(1, server.requests("secret/metadata/application/tenant1"));
+    assertEquals(3, server.requests("secret/data/application/tenant1"));
+    assertEquals(1, server.requests("auth/token/lookup-self")); // no log in again
+  }
+
+  @Test
+  void testReauthenticateOnForbidden() {
+    VaultConfigSource vaultConfigSource = builder(b -> b.addSecretsPath(SECRETS_PATH1)).build();
+
+    vaultConfigSource.loadConfig();
+    server.rotateToken();
+    Map<String, ConfigProperty> loadConfig = vaultConfigSource.loadConfig();
+
+    assertEquals("password1", loadConfig.get("top_secret").valueAsString(""));
+    assertEquals(2, server.requests("auth/token/lookup-self"));
+    assertTrue(server.requests("secret/data/application/tenant1") >= 3);
+  }
+}
@@ -0,0 +1,226 @@
+package io.scalecube.config.vault;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.scalecube.config.utils.ThrowableUtil;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Local stub of Vault HTTP API, serves only what config source needs: health check, JWT log in
+ * (issues current token), token lookup and KV v2 secret data and metadata reads (under {@code
+ * secret} mount). Requests with token other than current one are forbidden. Counts requests by
+ * path.
+ */
+public class VaultStubServer implements AutoCloseable {
+
+  private static final String MOUNT = "secret";
+  private static final long TOKEN_TTL = 3600;
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+  private final Map<String, Secret> secrets = new ConcurrentHashMap<>();
+  private final Map<String, LongAdder> requests = new ConcurrentHashMap<>();
+  private volatile String token = UUID.randomUUID().toString();
+  private volatile Duration responseDelay = Duration.ZERO;
+  private volatile boolean metadataForbidden;
+  private volatile String loginRequest;
+
+  private VaultStubServer(HttpServer server, ExecutorService executor) {
+    this.server = server;
+    this.executor = executor;
+  }
+
+  /**
+   * Starts stub server on random port of loopback interface.
+   *
+   * @return started server
+   */
+  public static VaultStubServer start() {
+    try {
+      HttpServer server =
+          HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+      ExecutorService executor = Executors.newFixedThreadPool(16);
+      VaultStubServer stubServer = new VaultStubServer(server, executor);
+      server.createContext("/v1/", stubServer::handle);
+      server.setExecutor(executor);
+      server.start();
+      return stubServer;
+    } catch (IOException e) {
+      throw ThrowableUtil.propagate(e);
+    }
+  }
+
+  public String address() {
+    InetSocketAddress address = server.getAddress();
+    return "http://" + address.getHostString() + ":" + address.getPort();
+  }
+
+  public String token() {
+    return token;
+  }
+
+  /** Issues new token, so that requests with previous one become forbidden. */
+  public void rotateToken() {
+    token = UUID.randomUUID().toString();
+  }
+
+  public void responseDelay(Duration responseDelay) {
+    this.responseDelay = responseDelay;
+  }
+
+  /** Forbids secret metadata reads, like policy granting only secret data reads does. */
+  public void forbidMetadata() {
+    metadataForbidden = true;
+  }
+
+  /**
+   * Returns body of last log in request.
+   *
+   * @return log in request, or null
+   */
+  public String loginRequest() {
+    return loginRequest;
+  }
+
+  /**
+   * Puts new version of secret.
+   *
+   * @param path secret path, including mount
+   * @param data secret data
+   */
+  public void putSecret(String path, Map<String, String> data) {
+    String key = path.substring(MOUNT.length() + 1);
+    secrets.compute(
+        key, (k, secret) -> new Secret(secret == null ? 1 : secret.version + 1, data));
+  }
+
+  /**
+   * Returns number of requests made to the given api path.
+   *
+   * @param apiPath path relative to {@code /v1/}
+   * @return number of requests
+   */
+  public long requests(String apiPath) {
+    LongAdder adder = requests.get(apiPath);
+    return adder != null ? adder.sum() : 0;
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try {
+      String apiPath = exchange.getRequestURI().getPath().substring("/v1/".length());
+      requests.computeIfAbsent(apiPath, k -> new LongAdder()).increment();
+      if (!responseDelay.isZero()) {
+        Thread.sleep(responseDelay.toMillis());
+      }
+      if (apiPath.equals("sys/health")) {
+        respond(exchange, 200, "{\"initialized\":true,\"sealed\":false,\"standby\":false}");
+        return;
+      }
+      if (apiPath.startsWith("auth/") && apiPath.endsWith("/login")) {
+        loginRequest = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        respond(exchange, 200, login());
+        return;
+      }
+      if (!token.equals(exchange.getRequestHeaders().getFirst("X-Vault-Token"))) {
+        respond(exchange, 403, "{\"errors\":[\"permission denied\"]}");
+        return;
+      }
+      if (apiPath.equals("auth/token/lookup-self")) {
+        respond(exchange, 200, lookupSelf());
+        return;
+      }
+      if (apiPath.startsWith(MOUNT + "/data/")) {
+        Secret secret = secrets.get(apiPath.substring((MOUNT + "/data/").length()));
+        if (secret != null) {
+          respond(exchange, 200, secretData(secret));
+          return;
+        }
+      }
+      if (apiPath.startsWith(MOUNT + "/metadata/") && metadataForbidden) {
+        respond(exchange, 403, "{\"errors\":[\"permission denied\"]}");
+        return;
+      }
+      if (apiPath.startsWith(MOUNT + "/metadata/")) {
+        Secret secret = secrets.get(apiPath.substring((MOUNT + "/metadata/").length()));
+        if (secret != null) {
+          respond(exchange, 200, "{\"data\":{\"current_version\":" + secret.version + "}}");
+          return;
+        }
+      }
+      respond(exchange, 404, "{\"errors\":[]}");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      respond(exchange, 500, "{\"errors\":[\"interrupted\"]}");
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private String login() {
+    return "{\"auth\":{\"client_token\":\""
+        + token
+        + "\",\"accessor\":\"\",\"policies\":[\"default\"],\"token_policies\":[\"default\"],"
+        + "\"metadata\":{},\"lease_duration\":"
+        + TOKEN_TTL
+        + ",\"renewable\":true}}";
+  }
+
+  private String lookupSelf() {
+    return "{\"data\":{"
+        + "\"accessor\":\"\",\"creation_time\":0,\"creation_ttl\":0,\"display_name\":\"stub\","
+        + "\"entity_id\":\"\",\"explicit_max_ttl\":0,\"id\":\""
+        + token
+        + "\",\"num_uses\":0,\"orphan\":true,\"path\":\"auth/token/create\","
+        + "\"policies\":[\"root\"],\"renewable\":false,\"ttl\":0,\"type\":\"service\"}}";
+  }
+
+  private static String secretData(Secret secret) {
+    String data =
+        secret.data.entrySet().stream()
+            .map(e -> "\"" + e.getKey() + "\":\"" + e.getValue() + "\"")
+            .collect(Collectors.joining(",", "{", "}"));
+    return "{\"data\":{\"data\":"
+        + data
+        + ",\"metadata\":{\"version\":"
+        + secret.version
+        + ",\"deletion_time\":\"\",\"destroyed\":false}}}";
+  }
+
+  private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream outputStream = exchange.getResponseBody()) {
+      outputStream.write(bytes);
+    }
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  private static final class Secret {
+    private final long version;
+    private final Map<String, String> data;
+
+    private Secret(long version, Map<String, String> data) {
+      this.version = version;
+      this.data = new TreeMap<>(data);
+    }
+  }
+}
@@ -21,6 +21,11 @@
  * changed and validation passed. Collections of validators and callbacks (of type {@link T}) are
  * defined here and only operations around them are shared to subclasses.
  *
+ * <p>In lazy mode (see {@link ConfigRegistrySettings.Builder#lazyParsingEnabled(boolean)}) reload
+ * process only stores new {@link #pendingInputList} for config property without validators and
+ * callbacks, and parsing happens on first read after the change. Once validator or callback gets
+ * added the config property is being parsed eagerly again.
+ *
  * @param <T> type of the property value
  */
 abstract class AbstractConfigProperty<T> {
@@ -41,10 +46,17 @@
   private volatile T value; // initialized from subclass, reset in callback
   private volatile List<LoadedConfigProperty>
       inputList; // initialized from subclass, reset in callback
+  private final boolean lazy;
+  private volatile List<LoadedConfigProperty> pendingInputList; // not yet parsed, lazy mode only
 
   AbstractConfigProperty(String name, Class<?> propertyClass) {
+    this(name, propertyClass, false);
+  }
+
+  AbstractConfigProperty(String name, Class<?> propertyClass, boolean lazy) {
     this.name = name;
     this.propertyClass = propertyClass;
+    this.lazy = lazy;
   }
 
   public final String name() {
@@ -52,21 +64,27 @@ public final String name() {
   }
 
   public final Optional<T> value() {
+    if (pendingInputList != null) {
+      computePendingValue();
+    }
     return Optional.ofNullable(value);
   }
 
-  public final void addValidator(Predicate<T> validator) {
+  public final synchronized void addValidator(Predicate<T> validator) {
+    computePendingValue(); // validators run against parsed values only
     if (!validator.test(value)) {
       throw new IllegalArgumentException(String.format(ERROR_VALIDATION_FAILED, name, value));
     }
     validators.add(validator);
   }
 
-  public final void addCallback(BiConsumer<T, T> callback) {
+  public final synchronized void addCallback(BiConsumer<T, T> callback) {
+    computePendingValue(); // callbacks need previous value
     callbacks.add((t1, t2) -> invokeCallback(callback, t1, t2));
   }
 
-  public final void addCallback(Executor executor, BiConsumer<T, T> callback) {
+  public final synchronized void addCallback(Executor executor, BiConsumer<T, T> callback) {
+    computePendingValue(); // callbacks need previous value
     callbacks.add((t1, t2) -> executor.execute(() -> invokeCallback(callback, t1, t2)));
   }
 
@@ -86,7 +104,24 @@ final void setPropertyCallback(PropertyCallback<T> propertyCallback) {
    * @see PropertyCallback#computeValue(List, AbstractConfigProperty)
    */
   final void computeValue(List<LoadedConfigProperty> inputList) {
-    propertyCallback.computeValue(inputList, this);
+    if (!deferValue(inputList)) {
+      propertyCallback.computeValue(inputList, this);
+    }
+  }
+
+  /**
+   * In lazy mode stores given input list to be parsed on first read, unless there're validators or
+   * callbacks on this config property which need the parsed value right away.
+   *
+   * @param inputList1 valueParser input list.
+   * @return true if parsing was deferred, false if value has to be computed eagerly.
+   */
+  final synchronized boolean deferValue(List<LoadedConfigProperty> inputList1) {
+    if (!lazy || !validators.isEmpty() || !callbacks.isEmpty()) {
+      return false;
+    }
+    pendingInputList = inputList1;
+    return true;
   }
 
   /**
@@ -126,9 +161,26 @@ final void acceptValue(T value1, List<LoadedConfigProperty> inputList1, boolean
    * property, like source, origin and etc.
    */
   final Optional<String> mapToString(Function<List<LoadedConfigProperty>, String> mapper) {
+    if (pendingInputList != null) {
+      computePendingValue();
+    }
     return Optional.ofNullable(inputList).map(mapper);
   }
 
+  private synchronized void computePendingValue() {
+    List<LoadedConfigProperty> inputList1 = pendingInputList;
+    if (inputList1 == null) {
+      return;
+    }
+    pendingInputList = null;
+    try {
+      value = propertyCallback.applyValueParser(inputList1);
+      inputList = inputList1;
+    } catch (Exception e) {
+      LOGGER.error("Exception occurred at lazy parsing of config property: {}", name, e);
+    }
+  }
+
   private void invokeCallback(BiConsumer<T, T> callback, T t1, T t2) {
     try {
       callback.accept(t1, t2);
@@ -21,9 +21,10 @@
       Class<?> propertyClass,
       Map<String, LoadedConfigProperty> propertyMap,
       Map<String, Map<Class, PropertyCallback>> propertyCallbackMap,
-      Function<String, T> valueParser) {
+      Function<String, T> valueParser,
+      boolean lazy) {
 
-    super(name, propertyClass);
+    super(name, propertyClass, lazy);
 
     // noinspection unchecked
     setPropertyCallback(computePropertyCallback(valueParser, propertyCallbackMap));
@@ -9,8 +9,15 @@ class BooleanConfigPropertyImpl extends AbstractSimpleConfigProperty<Boolean>
   BooleanConfigPropertyImpl(
       String name,
       Map<String, LoadedConfigProperty> propertyMap,
-      Map<String, Map<Class, PropertyCallback>> propertyCallbackMap) {
-    super(name, Boolean.class, propertyMap, propertyCallbackMap, ConfigRegistryImpl.BOOLEAN_PARSER);
+      Map<String, Map<Class, PropertyCallback>> propertyCallbackMap,
+      boolean lazy) {
+    super(
+        name,
+        Boolean.class,
+        propertyMap,
+        propertyCallbackMap,
+        ConfigRegistryImpl.BOOLEAN_PARSER,
+        lazy);
   }
 
   @Override
@@ -0,0 +1,116 @@
+package io.scalecube.config;
+
+import io.scalecube.config.source.LoadedConfigProperty;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable array-backed property map of published snapshot. Names and properties are kept in two
+ * parallel open-addressing arrays (linear probing), which takes a fraction of memory of hash map
+ * nodes per property.
+ */
+final class CompactPropertyMap extends AbstractMap<String, LoadedConfigProperty> {
+
+  private final String[] names;
+  private final LoadedConfigProperty[] properties;
+  private final int size;
+
+  private CompactPropertyMap(Map<String, LoadedConfigProperty> propertyMap) {
+    int capacity = 2;
+    while (capacity < propertyMap.size() * 2) {
+      capacity <<= 1;
+    }
+    this.names = new String[capacity];
+    this.properties = new LoadedConfigProperty[capacity];
+    this.size = propertyMap.size();
+    propertyMap.forEach(
+        (name, property) -> {
+          int i = indexOf(name);
+          names[i] = name;
+          properties[i] = property;
+        });
+  }
+
+  /**
+   * Returns compact copy of given property map, or the map itself if it's already immutable.
+   *
+   * @param propertyMap property map
+   * @return immutable property map
+   */
+  static Map<String, LoadedConfigProperty> of(Map<String, LoadedConfigProperty> propertyMap) {
+    if (propertyMap instanceof CompactPropertyMap || propertyMap instanceof OverlayPropertyMap) {
+      return propertyMap;
+    }
+    return new CompactPropertyMap(propertyMap);
+  }
+
+  /** Returns slot of the given name, or empty slot where it would be. */
+  private int indexOf(Object name) {
+    int mask = names.length - 1;
+    int h = name.hashCode();
+    int i = (h ^ (h >>> 16)) & mask;
+    while (names[i] != null && !names[i].equals(name)) {
+      i = (i + 1) & mask;
+    }
+    return i;
+  }
+
+  @Override
+  public LoadedConfigProperty get(Object key) {
+    return key instanceof String ? properties[indexOf(key)] : null;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return key instanceof String && names[indexOf(key)] != null;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public Set<Entry<String, LoadedConfigProperty>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Entry<String, LoadedConfigProperty>> iterator() {
+        return new Iterator<>() {
+          private int next = advance(0);
+
+          private int advance(int i) {
+            while (i < names.length && names[i] == null) {
+              i++;
+            }
+            return i;
+          }
+
+          @Override
+          public boolean hasNext() {
+            return next < names.length;
+          }
+
+          @Override
+          public Entry<String, LoadedConfigProperty> next() {
+            if (!hasNext()) {
+              throw new NoSuchElementException();
+            }
+            Entry<String, LoadedConfigProperty> entry =
+                new SimpleImmutableEntry<>(names[next], properties[next]);
+            next = advance(next + 1);
+            return entry;
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+    };
+  }
+}
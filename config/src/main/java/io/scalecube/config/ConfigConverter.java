@@ -0,0 +1,37 @@
+package io.scalecube.config;
+
+/**
+ * Converter of raw string property value to the value of certain type. Converters are resolved
+ * once per type and then shared among simple, list, multimap and object properties of that type.
+ *
+ * <p>Converters can be registered per config registry with {@link
+ * ConfigRegistrySettings.Builder#addConverter(Class, java.util.function.Function)}, or globally as
+ * a service provider listed in {@code META-INF/services/io.scalecube.config.ConfigConverter}.
+ * Registry converters take precedence over service providers. Converters for built-in types
+ * (primitives and their wrappers, {@link String}, {@link java.time.Duration}, {@link
+ * java.math.BigDecimal}, {@link java.math.BigInteger}, {@link java.net.URI}, {@link
+ * java.net.InetSocketAddress}, {@link java.nio.file.Path} and {@link DataSize}) can't be
+ * overridden. Enums, and types declaring public static {@code valueOf(String)}, {@code
+ * of(String)}, {@code parse(CharSequence)}, {@code fromString(String)} method or public {@code
+ * (String)} constructor are supported out of the box.
+ *
+ * @param <T> type of the value
+ */
+public interface ConfigConverter<T> {
+
+  /**
+   * Returns type this converter produces.
+   *
+   * @return type of the value
+   */
+  Class<T> type();
+
+  /**
+   * Converts raw string value. Should return immutable value.
+   *
+   * @param value raw string value, never null
+   * @return converted value
+   * @throws IllegalArgumentException in case value can't be converted
+   */
+  T convert(String value);
+}
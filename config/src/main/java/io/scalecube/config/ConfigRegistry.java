@@ -1,16 +1,23 @@
 package io.scalecube.config;
 
 import io.scalecube.config.audit.ConfigEvent;
+import io.scalecube.config.audit.ConfigEventListener;
 import io.scalecube.config.source.ConfigSourceInfo;
+import io.scalecube.config.source.LoadedConfigProperty;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
- * Config registry base facade interface.
+ * Config registry base facade interface. Methods added after the original facade have default
+ * implementations, so that other implementations keep compiling; those which can't be expressed
+ * through the original methods throw {@link UnsupportedOperationException} by default.
  *
  * @author Anton Kharenko
  */
@@ -378,9 +385,214 @@ Map<String, List<Double>> doubleMultimapValue(
   Map<String, List<Duration>> durationMultimapValue(
       String name, Map<String, List<Duration>> defaultValue);
 
+  /**
+   * Returns dynamic property of the given type, parsed with {@link ConfigConverter converter}
+   * resolved for that type.
+   *
+   * @param name property name
+   * @param type type of the value
+   * @param <T> type of the value
+   * @return property instance
+   * @throws IllegalArgumentException in case there's no converter for the given type
+   */
+  default <T> ObjectConfigProperty<T> typedProperty(String name, Class<T> type) {
+    return objectProperty(name, Converters.DEFAULT.converter(type));
+  }
+
+  /**
+   * Returns current value of typed property or default.
+   *
+   * @param name property name
+   * @param type type of the value
+   * @param defaultValue default property value
+   * @param <T> type of the value
+   * @return property value
+   */
+  default <T> T typedValue(String name, Class<T> type, T defaultValue) {
+    return typedProperty(name, type).value(defaultValue);
+  }
+
+  /**
+   * Returns dynamic list property of values of the given type.
+   *
+   * @param name property name
+   * @param type type of list element
+   * @param <T> type of list element
+   * @return property instance
+   * @throws IllegalArgumentException in case there's no converter for the given type
+   */
+  default <T> ListConfigProperty<T> typedListProperty(String name, Class<T> type) {
+    throw new UnsupportedOperationException(
+        "typedListProperty is not supported by " + getClass().getName());
+  }
+
+  /**
+   * Returns current value of typed list property or default.
+   *
+   * @param name property name
+   * @param type type of list element
+   * @param defaultValue default property value
+   * @param <T> type of list element
+   * @return property value
+   */
+  default <T> List<T> typedListValue(String name, Class<T> type, List<T> defaultValue) {
+    return typedListProperty(name, type).value(defaultValue);
+  }
+
+  /**
+   * Returns dynamic multimap property of values of the given type.
+   *
+   * @param name property name
+   * @param type type of multimap value
+   * @param <T> type of multimap value
+   * @return property instance
+   * @throws IllegalArgumentException in case there's no converter for the given type
+   */
+  default <T> MultimapConfigProperty<T> typedMultimapProperty(String name, Class<T> type) {
+    throw new UnsupportedOperationException(
+        "typedMultimapProperty is not supported by " + getClass().getName());
+  }
+
+  /**
+   * Returns current value of typed multimap property or default.
+   *
+   * @param name property name
+   * @param type type of multimap value
+   * @param defaultValue default property value
+   * @param <T> type of multimap value
+   * @return property value
+   */
+  default <T> Map<String, List<T>> typedMultimapValue(
+      String name, Class<T> type, Map<String, List<T>> defaultValue) {
+    return typedMultimapProperty(name, type).value(defaultValue);
+  }
+
+  /**
+   * Returns memoized value derived from the given properties. Value is computed lazily and
+   * recomputed only after reload changed one of the dependencies.
+   *
+   * @param function function computing value, reads current values of dependencies
+   * @param dependencies properties the value is derived from
+   * @param <T> type of derived value
+   * @return derived property instance
+   */
+  default <T> DerivedConfigProperty<T> derived(
+      Supplier<T> function, ConfigProperty... dependencies) {
+    return derived(function, Arrays.asList(dependencies));
+  }
+
+  /**
+   * Returns memoized value derived from the given properties, which may include object properties.
+   * Object property is tracked by properties bound to its fields. See {@link #derived(Supplier,
+   * ConfigProperty...)}.
+   *
+   * @param function function computing value, reads current values of dependencies
+   * @param dependencies {@link ConfigProperty} or {@link ObjectConfigProperty} instances the value
+   *     is derived from
+   * @param <T> type of derived value
+   * @return derived property instance
+   * @throws IllegalArgumentException in case dependency is not a config property
+   */
+  default <T> DerivedConfigProperty<T> derived(Supplier<T> function, Collection<?> dependencies) {
+    throw new UnsupportedOperationException(
+        "derived is not supported by " + getClass().getName());
+  }
+
+  /**
+   * Returns scoped view of this registry which resolves property keys as {@code prefix.key}. Scope
+   * instances are cached, so the same instance is returned for the same prefix (by default a new
+   * uncached instance is returned).
+   *
+   * @param prefix scope prefix
+   * @return scope instance
+   */
+  default ConfigScope scope(String prefix) {
+    return new ConfigScopeImpl(this, prefix);
+  }
+
+  /**
+   * Returns current immutable snapshot of all properties. Reading several properties from the same
+   * snapshot guarantees they come from the same reload generation. By default snapshot is built
+   * from {@link #getConfigProperties()} and its generation is always 0.
+   *
+   * @return config snapshot, never null
+   */
+  default ConfigSnapshot snapshot() {
+    Map<String, LoadedConfigProperty> propertyMap = new HashMap<>();
+    for (ConfigPropertyInfo info : getConfigProperties()) {
+      propertyMap.put(
+          info.getName(),
+          LoadedConfigProperty.withNameAndValue(info.getName(), info.getValue())
+              .source(info.getSource())
+              .origin(info.getOrigin())
+              .build());
+    }
+    return new ConfigSnapshot(0, propertyMap);
+  }
+
   /** Returns set of all loaded property keys. */
   Set<String> allProperties();
 
+  /**
+   * Returns sorted set of loaded property keys starting with the given prefix. Backed by sorted
+   * index of current properties, so doesn't scan all of them.
+   *
+   * @param prefix property key prefix, for example {@code "db.shards."}
+   * @return set of property keys
+   */
+  default Set<String> propertyNames(String prefix) {
+    return snapshot().names(prefix);
+  }
+
+  /**
+   * Returns snapshot of current raw property values which keys start with the given prefix.
+   *
+   * @param prefix property key prefix
+   * @return sorted map of property key to its string value
+   */
+  default Map<String, String> propertyValues(String prefix) {
+    return snapshot().values(prefix);
+  }
+
+  /**
+   * Adds change set listener filtered by the given key prefix. See {@link
+   * #addChangeListener(ConfigEventListener)}.
+   *
+   * @param prefix property key prefix
+   * @param listener listener of config events
+   * @return action removing the listener
+   */
+  default Runnable addPrefixListener(String prefix, ConfigEventListener listener) {
+    throw new UnsupportedOperationException(
+        "addPrefixListener is not supported by " + getClass().getName());
+  }
+
+  /**
+   * Adds change set listener. Listener receives all changes of one reload as a single batch, once
+   * per reload (only if there're changes) and after all property values have been recomputed, so
+   * that dependent components can be rebuilt once per reload instead of once per changed property.
+   *
+   * @param listener listener of config events
+   * @return action removing the listener
+   */
+  default Runnable addChangeListener(ConfigEventListener listener) {
+    throw new UnsupportedOperationException(
+        "addChangeListener is not supported by " + getClass().getName());
+  }
+
+  /**
+   * Adds change set listener filtered by the given set of property keys. See {@link
+   * #addChangeListener(ConfigEventListener)}.
+   *
+   * @param names property keys of interest
+   * @param listener listener of config events
+   * @return action removing the listener
+   */
+  default Runnable addChangeListener(Set<String> names, ConfigEventListener listener) {
+    throw new UnsupportedOperationException(
+        "addChangeListener is not supported by " + getClass().getName());
+  }
+
   /** Returns snapshot of all current property values. */
   Collection<ConfigPropertyInfo> getConfigProperties();
 
@@ -392,4 +604,13 @@ Map<String, List<Duration>> durationMultimapValue(
 
   /** Returns config registry settings. */
   ConfigRegistrySettings getSettings();
+
+  /**
+   * Closes this registry: stops reloading of sources and releases sources shared with other
+   * registries (see {@link ConfigRegistrySettings.Builder#sharedLoadWindow}). Properties keep
+   * their last values. Does nothing by default.
+   */
+  default void close() {
+    // no-op
+  }
 }
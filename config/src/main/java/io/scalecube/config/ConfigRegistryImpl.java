@@ -1,10 +1,12 @@
 package io.scalecube.config;
 
 import io.scalecube.config.audit.ConfigEvent;
+import io.scalecube.config.audit.ConfigEventListener;
 import io.scalecube.config.jmx.JmxConfigRegistry;
 import io.scalecube.config.source.ConfigSource;
 import io.scalecube.config.source.ConfigSourceInfo;
 import io.scalecube.config.source.LoadedConfigProperty;
+import io.scalecube.config.source.PropertySelection;
 import io.scalecube.config.utils.ThrowableUtil;
 import java.lang.management.ManagementFactory;
 import java.lang.reflect.Field;
@@ -15,6 +17,7 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -22,12 +25,19 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.management.MBeanServer;
@@ -44,12 +54,21 @@ final class ConfigRegistryImpl implements ConfigRegistry {
   static final Function<String, Long> LONG_PARSER = Long::parseLong;
   static final Function<String, Boolean> BOOLEAN_PARSER = Boolean::parseBoolean;
   static final Function<String, Integer> INT_PARSER = Integer::parseInt;
-  static final Function<String, Duration> DURATION_PARSER = DurationParser::parseDuration;
+  static final Function<String, Duration> DURATION_PARSER =
+      ParsedValueCache.cached(DurationParser::parseDuration);
+
+  // key of pending reload of parent properties
+  private static final String PARENT_LAYER = "<parent>";
+
+  // how long handle registration waits for reload of newly selected properties
+  private static final Duration SELECTION_RELOAD_TIMEOUT = Duration.ofSeconds(10);
 
   // reload executor
 
   private static final ScheduledExecutorService reloadExecutor;
 
+  private static volatile Thread reloadThread;
+
   static {
     ThreadFactory threadFactory =
         r -> {
@@ -57,9 +76,12 @@ final class ConfigRegistryImpl implements ConfigRegistry {
           thread.setDaemon(true);
           thread.setName("config-registry");
           thread.setUncaughtExceptionHandler((t, e) -> LOGGER.error("Exception occurred", e));
+          reloadThread = thread;
           return thread;
         };
-    reloadExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, threadFactory);
+    executor.setRemoveOnCancelPolicy(true); // reloads get rescheduled often
+    reloadExecutor = executor;
   }
 
   // state fields
@@ -68,7 +90,40 @@ final class ConfigRegistryImpl implements ConfigRegistry {
 
   private final Map<String, Integer> configSourceStatusMap = new HashMap<>();
 
-  private volatile Map<String, LoadedConfigProperty> propertyMap; // being reset on reload
+  // last loaded config by source name, used to merge properties on reload of single source
+  private final Map<String, Map<String, ConfigProperty>> loadedConfigMaps = new HashMap<>();
+
+  // sources pushed changes, with names of changed properties (null means all of them)
+  private final Map<String, Set<String>> pendingReloads = new HashMap<>();
+
+  // reload schedules by source name, used on reload executor
+  private final Map<String, ReloadSchedule> reloadSchedules = new HashMap<>();
+
+  // names of sources which load results are shared with other registries
+  private final Set<String> sharedSourceNames = new HashSet<>();
+
+  private final AtomicBoolean closed = new AtomicBoolean();
+
+  // actions unsubscribing from sources, being run on close
+  private final Collection<Runnable> subscriptions = new CopyOnWriteArrayList<>();
+
+  private final ConfigRegistryImpl parent; // nullable
+  private final Collection<ConfigRegistryImpl> children = new CopyOnWriteArrayList<>();
+
+  // names and prefixes of properties selective sources load for this registry, grows as handles
+  // get registered
+  private volatile PropertySelection selection;
+  private final Object selectionLock = new Object();
+  private CompletableFuture<Void> selectionFlush; // guarded by selectionLock, pending push
+
+  private final PlaceholderResolver placeholderResolver; // nullable
+  private final Converters converters;
+
+  private volatile ConfigSnapshot snapshot = ConfigSnapshot.EMPTY; // being reset on reload
+
+  private final Collection<ChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+
+  private final Map<String, ConfigScope> scopes = new ConcurrentHashMap<>();
 
   @SuppressWarnings("rawtypes")
   private final Map<String, Map<Class, PropertyCallback>> propertyCallbackMap =
@@ -85,23 +140,68 @@ protected boolean removeEldestEntry(Map.Entry<ConfigEvent, Object> eldest) {
   ConfigRegistryImpl(ConfigRegistrySettings settings) {
     Objects.requireNonNull(settings, "ConfigRegistrySettings can't be null");
     this.settings = settings;
+    this.placeholderResolver = settings.isInterpolationEnabled() ? new PlaceholderResolver() : null;
+    this.converters = new Converters(settings.getConverters());
+    this.selection = settings.getInitialSelection();
+    if (settings.getParent() != null && !(settings.getParent() instanceof ConfigRegistryImpl)) {
+      throw new IllegalArgumentException(
+          "Parent registry must be created with ConfigRegistry.create()");
+    }
+    this.parent = (ConfigRegistryImpl) settings.getParent();
+    if (settings.isReloadEnabled()) {
+      for (String sourceName : settings.getSources().keySet()) {
+        reloadSchedules.put(
+            sourceName,
+            new ReloadSchedule(
+                settings.getReloadInterval(sourceName),
+                settings.getMaxReloadInterval(sourceName),
+                settings.getReloadJitter()));
+      }
+    }
+    if (settings.getSharedLoadWindow() != null) {
+      settings
+          .getSources()
+          .forEach(
+              (sourceName, source) -> {
+                if (!settings.isSelectiveLoadingEnabled() || !source.supportsSelection()) {
+                  sharedSourceNames.add(sourceName);
+                }
+              });
+    }
   }
 
   void init() {
-    loadAndNotify();
+    sharedSourceNames.forEach(
+        sourceName -> SharedSourceCache.INSTANCE.acquire(settings.getSources().get(sourceName)));
+
+    long parentGeneration = parent != null ? parent.snapshot().generation() : 0;
+
+    try {
+      loadAndNotify();
+    } catch (RuntimeException e) {
+      releaseSharedSources();
+      throw e;
+    }
+
+    if (parent != null) {
+      parent.children.add(this);
+      if (parent.snapshot().generation() != parentGeneration) {
+        reload(PARENT_LAYER, null); // parent changed meanwhile
+      }
+    }
+
+    settings
+        .getSources()
+        .forEach(
+            (sourceName, source) -> {
+              Runnable unsubscribe = source.subscribe(names -> reload(sourceName, names));
+              if (unsubscribe != null) {
+                subscriptions.add(unsubscribe);
+              }
+            });
 
     if (settings.isReloadEnabled()) {
-      reloadExecutor.scheduleAtFixedRate(
-          () -> {
-            try {
-              loadAndNotify();
-            } catch (Exception e) {
-              LOGGER.error("[loadAndNotify] Exception occurred", e);
-            }
-          },
-          settings.getReloadIntervalSec(),
-          settings.getReloadIntervalSec(),
-          TimeUnit.SECONDS);
+      reloadExecutor.execute(() -> reloadSchedules.keySet().forEach(this::scheduleReload));
     }
 
     if (settings.isJmxEnabled()) {
@@ -109,6 +209,37 @@ void init() {
     }
   }
 
+  @Override
+  public void close() {
+    if (!closed.compareAndSet(false, true)) {
+      return;
+    }
+    reloadExecutor.execute(
+        () -> {
+          reloadSchedules.values().forEach(schedule -> schedule.reschedule(null));
+          reloadSchedules.clear();
+        });
+    subscriptions.forEach(Runnable::run);
+    subscriptions.clear();
+    releaseSharedSources();
+    if (parent != null) {
+      parent.children.remove(this);
+    }
+    if (settings.isJmxEnabled()) {
+      try {
+        MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+        mbeanServer.unregisterMBean(new ObjectName(settings.getJmxMBeanName()));
+      } catch (Exception e) {
+        LOGGER.warn("[close] Exception occurred on unregistering MBean", e);
+      }
+    }
+  }
+
+  private void releaseSharedSources() {
+    sharedSourceNames.forEach(
+        sourceName -> SharedSourceCache.INSTANCE.release(settings.getSources().get(sourceName)));
+  }
+
   private void registerJmxMBean() {
     try {
       MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
@@ -122,7 +253,9 @@ private void registerJmxMBean() {
   @Override
   public <T> ObjectConfigProperty<T> objectProperty(String name, Function<String, T> mapper) {
     return new MappedObjectConfigProperty<>(
-        new StringConfigPropertyImpl(name, propertyMap, propertyCallbackMap), mapper);
+        new StringConfigPropertyImpl(
+            name, propertyMap(name), propertyCallbackMap, settings.isLazyParsingEnabled()),
+        mapper);
   }
 
   @Override
@@ -136,7 +269,8 @@ public <T> ObjectConfigProperty<T> objectProperty(String prefix, Class<T> cfgCla
   @Override
   public <T> ObjectConfigProperty<T> objectProperty(
       Map<String, String> bindingMap, Class<T> cfgClass) {
-    return new ObjectConfigPropertyImpl<>(bindingMap, cfgClass, propertyMap, propertyCallbackMap);
+    return new ObjectConfigPropertyImpl<>(
+        bindingMap, cfgClass, propertyMap(bindingMap.values()), propertyCallbackMap, converters);
   }
 
   @Override
@@ -161,7 +295,8 @@ public <T> T objectValue(Class<T> cfgClass, T defaultValue) {
 
   @Override
   public StringConfigProperty stringProperty(String name) {
-    return new StringConfigPropertyImpl(name, propertyMap, propertyCallbackMap);
+    return new StringConfigPropertyImpl(
+        name, propertyMap(name), propertyCallbackMap, settings.isLazyParsingEnabled());
   }
 
   @Override
@@ -171,7 +306,8 @@ public String stringValue(String name, String defaultValue) {
 
   @Override
   public DoubleConfigProperty doubleProperty(String name) {
-    return new DoubleConfigPropertyImpl(name, propertyMap, propertyCallbackMap);
+    return new DoubleConfigPropertyImpl(
+        name, propertyMap(name), propertyCallbackMap, settings.isLazyParsingEnabled());
   }
 
   @Override
@@ -181,7 +317,8 @@ public double doubleValue(String name, double defaultValue) {
 
   @Override
   public LongConfigProperty longProperty(String name) {
-    return new LongConfigPropertyImpl(name, propertyMap, propertyCallbackMap);
+    return new LongConfigPropertyImpl(
+        name, propertyMap(name), propertyCallbackMap, settings.isLazyParsingEnabled());
   }
 
   @Override
@@ -191,7 +328,8 @@ public long longValue(String name, long defaultValue) {
 
   @Override
   public BooleanConfigProperty booleanProperty(String name) {
-    return new BooleanConfigPropertyImpl(name, propertyMap, propertyCallbackMap);
+    return new BooleanConfigPropertyImpl(
+        name, propertyMap(name), propertyCallbackMap, settings.isLazyParsingEnabled());
   }
 
   @Override
@@ -201,7 +339,8 @@ public boolean booleanValue(String name, boolean defaultValue) {
 
   @Override
   public IntConfigProperty intProperty(String name) {
-    return new IntConfigPropertyImpl(name, propertyMap, propertyCallbackMap);
+    return new IntConfigPropertyImpl(
+        name, propertyMap(name), propertyCallbackMap, settings.isLazyParsingEnabled());
   }
 
   @Override
@@ -211,7 +350,8 @@ public int intValue(String name, int defaultValue) {
 
   @Override
   public DurationConfigProperty durationProperty(String name) {
-    return new DurationConfigPropertyImpl(name, propertyMap, propertyCallbackMap);
+    return new DurationConfigPropertyImpl(
+        name, propertyMap(name), propertyCallbackMap, settings.isLazyParsingEnabled());
   }
 
   @Override
@@ -221,7 +361,12 @@ public Duration durationValue(String name, Duration defaultValue) {
 
   @Override
   public ListConfigProperty<String> stringListProperty(String name) {
-    return new ListConfigPropertyImpl<>(name, propertyMap, propertyCallbackMap, STRING_PARSER);
+    return new ListConfigPropertyImpl<>(
+        name,
+        propertyMap(name),
+        propertyCallbackMap,
+        STRING_PARSER,
+        settings.isLazyParsingEnabled());
   }
 
   @Override
@@ -231,7 +376,12 @@ public List<String> stringListValue(String name, List<String> defaultValue) {
 
   @Override
   public ListConfigProperty<Double> doubleListProperty(String name) {
-    return new ListConfigPropertyImpl<>(name, propertyMap, propertyCallbackMap, DOUBLE_PARSER);
+    return new ListConfigPropertyImpl<>(
+        name,
+        propertyMap(name),
+        propertyCallbackMap,
+        DOUBLE_PARSER,
+        settings.isLazyParsingEnabled());
   }
 
   @Override
@@ -241,7 +391,12 @@ public List<Double> doubleListValue(String name, List<Double> defaultValue) {
 
   @Override
   public ListConfigProperty<Long> longListProperty(String name) {
-    return new ListConfigPropertyImpl<>(name, propertyMap, propertyCallbackMap, LONG_PARSER);
+    return new ListConfigPropertyImpl<>(
+        name,
+        propertyMap(name),
+        propertyCallbackMap,
+        LONG_PARSER,
+        settings.isLazyParsingEnabled());
   }
 
   @Override
@@ -251,7 +406,12 @@ public List<Long> longListValue(String name, List<Long> defaultValue) {
 
   @Override
   public ListConfigProperty<Integer> intListProperty(String name) {
-    return new ListConfigPropertyImpl<>(name, propertyMap, propertyCallbackMap, INT_PARSER);
+    return new ListConfigPropertyImpl<>(
+        name,
+        propertyMap(name),
+        propertyCallbackMap,
+        INT_PARSER,
+        settings.isLazyParsingEnabled());
   }
 
   @Override
@@ -261,7 +421,12 @@ public List<Integer> intListValue(String name, List<Integer> defaultValue) {
 
   @Override
   public ListConfigProperty<Duration> durationListProperty(String name) {
-    return new ListConfigPropertyImpl<>(name, propertyMap, propertyCallbackMap, DURATION_PARSER);
+    return new ListConfigPropertyImpl<>(
+        name,
+        propertyMap(name),
+        propertyCallbackMap,
+        DURATION_PARSER,
+        settings.isLazyParsingEnabled());
   }
 
   @Override
@@ -271,7 +436,12 @@ public List<Duration> durationListValue(String name, List<Duration> defaultValue
 
   @Override
   public MultimapConfigProperty<String> stringMultimapProperty(String name) {
-    return new MultimapConfigPropertyImpl<>(name, propertyMap, propertyCallbackMap, STRING_PARSER);
+    return new MultimapConfigPropertyImpl<>(
+        name,
+        propertyMap(name),
+        propertyCallbackMap,
+        STRING_PARSER,
+        settings.isLazyParsingEnabled());
   }
 
   @Override
@@ -282,7 +452,12 @@ public Map<String, List<String>> stringMultimapValue(
 
   @Override
   public MultimapConfigProperty<Double> doubleMultimapProperty(String name) {
-    return new MultimapConfigPropertyImpl<>(name, propertyMap, propertyCallbackMap, DOUBLE_PARSER);
+    return new MultimapConfigPropertyImpl<>(
+        name,
+        propertyMap(name),
+        propertyCallbackMap,
+        DOUBLE_PARSER,
+        settings.isLazyParsingEnabled());
   }
 
   @Override
@@ -293,7 +468,12 @@ public Map<String, List<Double>> doubleMultimapValue(
 
   @Override
   public MultimapConfigProperty<Long> longMultimapProperty(String name) {
-    return new MultimapConfigPropertyImpl<>(name, propertyMap, propertyCallbackMap, LONG_PARSER);
+    return new MultimapConfigPropertyImpl<>(
+        name,
+        propertyMap(name),
+        propertyCallbackMap,
+        LONG_PARSER,
+        settings.isLazyParsingEnabled());
   }
 
   @Override
@@ -304,7 +484,12 @@ public Map<String, List<Long>> longMultimapValue(
 
   @Override
   public MultimapConfigProperty<Integer> intMultimapProperty(String name) {
-    return new MultimapConfigPropertyImpl<>(name, propertyMap, propertyCallbackMap, INT_PARSER);
+    return new MultimapConfigPropertyImpl<>(
+        name,
+        propertyMap(name),
+        propertyCallbackMap,
+        INT_PARSER,
+        settings.isLazyParsingEnabled());
   }
 
   @Override
@@ -316,7 +501,11 @@ public Map<String, List<Integer>> intMultimapValue(
   @Override
   public MultimapConfigProperty<Duration> durationMultimapProperty(String name) {
     return new MultimapConfigPropertyImpl<>(
-        name, propertyMap, propertyCallbackMap, DURATION_PARSER);
+        name,
+        propertyMap(name),
+        propertyCallbackMap,
+        DURATION_PARSER,
+        settings.isLazyParsingEnabled());
   }
 
   @Override
@@ -325,16 +514,150 @@ public Map<String, List<Duration>> durationMultimapValue(
     return durationMultimapProperty(name).value(defaultValue);
   }
 
+  @Override
+  public <T> ObjectConfigProperty<T> typedProperty(String name, Class<T> type) {
+    return new TypedConfigPropertyImpl<>(
+        name,
+        type,
+        propertyMap(name),
+        propertyCallbackMap,
+        converters.converter(type),
+        settings.isLazyParsingEnabled());
+  }
+
+  @Override
+  public <T> T typedValue(String name, Class<T> type, T defaultValue) {
+    return typedProperty(name, type).value(defaultValue);
+  }
+
+  @Override
+  public <T> ListConfigProperty<T> typedListProperty(String name, Class<T> type) {
+    return new ListConfigPropertyImpl<>(
+        name,
+        type,
+        propertyMap(name),
+        propertyCallbackMap,
+        converters.converter(type),
+        settings.isLazyParsingEnabled());
+  }
+
+  @Override
+  public <T> List<T> typedListValue(String name, Class<T> type, List<T> defaultValue) {
+    return typedListProperty(name, type).value(defaultValue);
+  }
+
+  @Override
+  public <T> MultimapConfigProperty<T> typedMultimapProperty(String name, Class<T> type) {
+    return new MultimapConfigPropertyImpl<>(
+        name,
+        type,
+        propertyMap(name),
+        propertyCallbackMap,
+        converters.converter(type),
+        settings.isLazyParsingEnabled());
+  }
+
+  @Override
+  public <T> Map<String, List<T>> typedMultimapValue(
+      String name, Class<T> type, Map<String, List<T>> defaultValue) {
+    return typedMultimapProperty(name, type).value(defaultValue);
+  }
+
+  @Override
+  public <T> DerivedConfigProperty<T> derived(
+      Supplier<T> function, ConfigProperty... dependencies) {
+    return derived(function, Arrays.asList(dependencies));
+  }
+
+  @Override
+  public <T> DerivedConfigProperty<T> derived(Supplier<T> function, Collection<?> dependencies) {
+    Objects.requireNonNull(function, "function can't be null");
+    Set<String> names =
+        dependencies.stream()
+            .flatMap(ConfigRegistryImpl::dependencyNames)
+            .collect(Collectors.toSet());
+    DerivedConfigPropertyImpl<T> property = new DerivedConfigPropertyImpl<>(function, names);
+    property.track(listener -> addChangeListener(names, listener));
+    return property;
+  }
+
+  private static Stream<String> dependencyNames(Object dependency) {
+    if (dependency instanceof ObjectConfigPropertyImpl) {
+      return ((ObjectConfigPropertyImpl<?>) dependency).propertyNames().stream();
+    }
+    if (dependency instanceof ObjectConfigProperty) {
+      return Stream.of(((ObjectConfigProperty<?>) dependency).name()); // bound to one property
+    }
+    if (dependency instanceof ConfigProperty) {
+      return Stream.of(((ConfigProperty) dependency).name());
+    }
+    throw new IllegalArgumentException("Not a config property: " + dependency);
+  }
+
+  @Override
+  public ConfigScope scope(String prefix) {
+    Objects.requireNonNull(prefix, "prefix can't be null");
+    ConfigScope scope = scopes.get(prefix);
+    if (scope == null) {
+      scope = scopes.computeIfAbsent(prefix, k -> new ConfigScopeImpl(this, k));
+    }
+    return scope;
+  }
+
+  @Override
+  public ConfigSnapshot snapshot() {
+    return snapshot;
+  }
+
   @Override
   public Set<String> allProperties() {
-    return propertyMap.values().stream()
+    return snapshot.propertyMap().values().stream()
         .map(LoadedConfigProperty::name)
         .collect(Collectors.toSet());
   }
 
+  @Override
+  public Set<String> propertyNames(String prefix) {
+    Objects.requireNonNull(prefix, "prefix can't be null");
+    return snapshot.names(prefix);
+  }
+
+  @Override
+  public Map<String, String> propertyValues(String prefix) {
+    Objects.requireNonNull(prefix, "prefix can't be null");
+    return snapshot.values(prefix);
+  }
+
+  @Override
+  public Runnable addPrefixListener(String prefix, ConfigEventListener listener) {
+    Objects.requireNonNull(prefix, "prefix can't be null");
+    Objects.requireNonNull(listener, "listener can't be null");
+    return addChangeListener(
+        new ChangeListener("prefix=" + prefix, name -> name.startsWith(prefix), listener));
+  }
+
+  @Override
+  public Runnable addChangeListener(ConfigEventListener listener) {
+    Objects.requireNonNull(listener, "listener can't be null");
+    return addChangeListener(new ChangeListener("all", name -> true, listener));
+  }
+
+  @Override
+  public Runnable addChangeListener(Set<String> names, ConfigEventListener listener) {
+    Objects.requireNonNull(names, "names can't be null");
+    Objects.requireNonNull(listener, "listener can't be null");
+    Set<String> nameSet = new HashSet<>(names);
+    return addChangeListener(new ChangeListener("names=" + nameSet, nameSet::contains, listener));
+  }
+
+  private Runnable addChangeListener(ChangeListener changeListener) {
+    changeListeners.add(changeListener);
+    return () -> changeListeners.remove(changeListener);
+  }
+
   @Override
   public Collection<ConfigPropertyInfo> getConfigProperties() {
-    return propertyMap.values().stream()
+    return snapshot.propertyMap().values().stream()
         .map(
             property -> {
               ConfigPropertyInfo info = new ConfigPropertyInfo();
@@ -382,19 +705,108 @@ public ConfigRegistrySettings getSettings() {
     return settings;
   }
 
-  private void loadAndNotify() {
-    // calculate new load map
-    Map<String, LoadedConfigProperty> loadedPropertyMap = new ConcurrentHashMap<>();
+  private Map<String, LoadedConfigProperty> propertyMap(String name) {
+    return propertyMap(Collections.singleton(name));
+  }
 
-    // load config from sources
-    Map<String, ConfigSource> sources = settings.getSources();
-    for (String sourceName : sources.keySet()) {
-      ConfigSource source = sources.get(sourceName);
+  private Map<String, LoadedConfigProperty> propertyMap(Collection<String> names) {
+    select(names, Collections.emptySet());
+    return snapshot.propertyMap();
+  }
 
+  /**
+   * Adds given names and prefixes to {@link #selection}, if selective loading is enabled. In case
+   * selection grew, sources supporting selection get reloaded. Growth requested before the reload
+   * runs is loaded at once, so that concurrent callers share single reload. Waits for reload to
+   * complete (at most {@link #SELECTION_RELOAD_TIMEOUT}) unless being called on reload executor
+   * (e.g. from property callback), otherwise newly selected properties show up once reload
+   * completes.
+   *
+   * @param names property names
+   * @param prefixes property name prefixes
+   */
+  private void select(Collection<String> names, Collection<String> prefixes) {
+    if (!settings.isSelectiveLoadingEnabled()) {
+      return;
+    }
+    PropertySelection requested = PropertySelection.of(names, prefixes);
+    if (selection.covers(requested)) {
+      return;
+    }
+    CompletableFuture<Void> flush;
+    synchronized (selectionLock) {
+      PropertySelection current = selection;
+      if (current.covers(requested)) {
+        return;
+      }
+      Set<String> selectedNames = new HashSet<>(current.names());
+      selectedNames.addAll(names);
+      Set<String> selectedPrefixes = new HashSet<>(current.prefixes());
+      selectedPrefixes.addAll(prefixes);
+      selection = PropertySelection.of(selectedNames, selectedPrefixes);
+      flush = selectionFlush;
+      if (flush == null) {
+        flush = selectionFlush = new CompletableFuture<>();
+        reloadExecutor.execute(this::flushSelection);
+      }
+    }
+    if (Thread.currentThread() != reloadThread) {
+      try {
+        flush.get(SELECTION_RELOAD_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (ExecutionException e) {
+        throw ThrowableUtil.propagate(e.getCause());
+      } catch (TimeoutException e) {
+        LOGGER.warn(
+            "[select] Reload of selected properties didn't complete within {}, names: {}",
+            SELECTION_RELOAD_TIMEOUT,
+            names);
+      }
+    }
+  }
+
+  /** Reloads sources supporting selection with grown selection, runs on reload executor. */
+  private void flushSelection() {
+    CompletableFuture<Void> flush;
+    synchronized (selectionLock) {
+      flush = selectionFlush;
+      selectionFlush = null;
+    }
+    try {
+      settings
+          .getSources()
+          .forEach(
+              (sourceName, source) -> {
+                if (source.supportsSelection()) {
+                  reload(sourceName, null);
+                }
+              });
+    } catch (Exception e) {
+      flush.completeExceptionally(e);
+      return;
+    }
+    // reload executor is single threaded, so reload scheduled above is done by then
+    reloadExecutor.execute(() -> flush.complete(null));
+  }
+
+  private Map<String, ConfigProperty> loadConfig(String sourceName) {
+    ConfigSource source = settings.getSources().get(sourceName);
+    if (sharedSourceNames.contains(sourceName)) {
+      return SharedSourceCache.INSTANCE.load(source, settings.getSharedLoadWindow());
+    }
+    return settings.isSelectiveLoadingEnabled() && source.supportsSelection()
+        ? source.loadConfig(selection)
+        : source.loadConfig();
+  }
+
+  private void loadAndNotify() {
+    // load config from sources
+    for (String sourceName : settings.getSources().keySet()) {
       final Map<String, ConfigProperty> configMap;
       Throwable error = null;
       try {
-        configMap = source.loadConfig();
+        configMap = loadConfig(sourceName);
       } catch (Exception e) {
         error = e;
         throw ThrowableUtil.propagate(e);
@@ -402,17 +814,202 @@ private void loadAndNotify() {
         computeConfigLoadStatus(sourceName, error);
       }
 
-      // populate loaded properties with new field 'source'
-      configMap.forEach(
-          (key, configProperty) ->
-              loadedPropertyMap.putIfAbsent(
-                  key,
-                  LoadedConfigProperty.withCopyFrom(configProperty).source(sourceName).build()));
+      loadedConfigMaps.put(sourceName, configMap);
+    }
+
+    publishAndNotify(mergeLoadedConfigMaps(), null);
+  }
+
+  /**
+   * Schedules reload of the given source which pushed changes of the given properties (or is due
+   * to scheduled reload, or is {@link #PARENT_LAYER} which properties changed). Reloads requested
+   * in a row are coalesced and done at once on reload executor.
+   *
+   * @param sourceName source name
+   * @param names names of changed properties, or null if any property could have changed
+   */
+  private void reload(String sourceName, Set<String> names) {
+    if (closed.get()) {
+      return;
+    }
+    synchronized (pendingReloads) {
+      boolean scheduled = !pendingReloads.isEmpty();
+      if (names == null) {
+        pendingReloads.put(sourceName, null);
+      } else if (!pendingReloads.containsKey(sourceName)) {
+        pendingReloads.put(sourceName, new HashSet<>(names));
+      } else if (pendingReloads.get(sourceName) != null) {
+        pendingReloads.get(sourceName).addAll(names);
+      }
+      if (!scheduled) {
+        reloadExecutor.execute(this::reloadPending);
+      }
+    }
+  }
+
+  /**
+   * Reloads only sources which pushed changes (or are due to scheduled reload), and merges them
+   * with last loaded config of other sources. Schedules next reload of reloaded sources according
+   * to outcome. Only changed properties (and, if placeholder interpolation is enabled, properties
+   * referencing them) are being compared and notified about.
+   */
+  private void reloadPending() {
+    Map<String, Set<String>> reloads;
+    synchronized (pendingReloads) {
+      reloads = new HashMap<>(pendingReloads);
+      pendingReloads.clear();
+    }
+
+    Set<String> names = new HashSet<>();
+    boolean allNames = false;
+    for (Map.Entry<String, Set<String>> entry : reloads.entrySet()) {
+      String sourceName = entry.getKey();
+      if (PARENT_LAYER.equals(sourceName)) {
+        // parent properties are taken on merge
+        if (entry.getValue() != null) {
+          names.addAll(entry.getValue());
+        } else {
+          allNames = true;
+        }
+        continue;
+      }
+      Map<String, ConfigProperty> configMap;
+      Throwable error = null;
+      try {
+        configMap = loadConfig(sourceName);
+      } catch (Exception e) {
+        error = e;
+        LOGGER.error("[reloadPending] Exception occurred, source: {}", sourceName, e);
+        Optional.ofNullable(reloadSchedules.get(sourceName)).ifPresent(ReloadSchedule::onFailed);
+        scheduleReload(sourceName);
+        continue;
+      } finally {
+        computeConfigLoadStatus(sourceName, error);
+      }
+      Map<String, ConfigProperty> oldConfigMap = loadedConfigMaps.put(sourceName, configMap);
+      Optional.ofNullable(reloadSchedules.get(sourceName))
+          .ifPresent(schedule -> schedule.onLoaded(isChanged(oldConfigMap, configMap)));
+      scheduleReload(sourceName);
+      if (entry.getValue() != null) {
+        names.addAll(entry.getValue());
+      } else {
+        names.addAll(configMap.keySet());
+        if (oldConfigMap != null) {
+          names.addAll(oldConfigMap.keySet());
+        }
+      }
+    }
+
+    publishAndNotify(mergeLoadedConfigMaps(), allNames ? null : names);
+  }
+
+  /**
+   * Merges last loaded properties of sources in order of sources, on top of current properties of
+   * parent registry (if any). Parent properties are not copied unless placeholder interpolation is
+   * enabled, since then placeholders are resolved in place. Properties unchanged since the last
+   * snapshot are reused.
+   *
+   * @return merged properties
+   */
+  private Map<String, LoadedConfigProperty> mergeLoadedConfigMaps() {
+    Map<String, LoadedConfigProperty> previousPropertyMap = snapshot.propertyMap();
+    Map<String, LoadedConfigProperty> loadedPropertyMap = new ConcurrentHashMap<>();
+    for (String sourceName : settings.getSources().keySet()) {
+      Map<String, ConfigProperty> configMap = loadedConfigMaps.get(sourceName);
+      if (configMap != null) {
+        configMap.forEach(
+            (key, configProperty) -> {
+              if (!loadedPropertyMap.containsKey(key)) {
+                LoadedConfigProperty property =
+                    LoadedConfigProperty.withSource(
+                        sourceName, configProperty, previousPropertyMap.get(key));
+                // keep name instance of previous generation
+                String name = property.name().equals(key) ? property.name() : key;
+                loadedPropertyMap.put(name, property);
+              }
+            });
+      }
+    }
+
+    if (parent == null) {
+      return loadedPropertyMap;
+    }
+    Map<String, LoadedConfigProperty> parentPropertyMap = parent.snapshot().propertyMap();
+    if (placeholderResolver != null) {
+      parentPropertyMap.forEach(loadedPropertyMap::putIfAbsent);
+      return loadedPropertyMap;
+    }
+    return new OverlayPropertyMap(CompactPropertyMap.of(loadedPropertyMap), parentPropertyMap);
+  }
+
+  /**
+   * Schedules next reload of the given source (if reload is enabled) according to its {@link
+   * ReloadSchedule}, replacing already scheduled one. Must be called on reload executor.
+   *
+   * @param sourceName source name
+   */
+  private void scheduleReload(String sourceName) {
+    ReloadSchedule schedule = reloadSchedules.get(sourceName);
+    if (schedule != null) {
+      schedule.reschedule(
+          reloadExecutor.schedule(
+              () -> reload(sourceName, null), schedule.nextDelayNanos(), TimeUnit.NANOSECONDS));
+    }
+  }
+
+  private static boolean isChanged(
+      Map<String, ConfigProperty> oldConfigMap, Map<String, ConfigProperty> configMap) {
+    if (oldConfigMap == configMap) {
+      return false; // source returned its previous result
+    }
+    if (oldConfigMap == null || oldConfigMap.size() != configMap.size()) {
+      return true;
+    }
+    for (Map.Entry<String, ConfigProperty> entry : configMap.entrySet()) {
+      ConfigProperty oldProperty = oldConfigMap.get(entry.getKey());
+      if (oldProperty == null
+          || !oldProperty.valueAsString().equals(entry.getValue().valueAsString())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Compares loaded properties with current ones, publishes new snapshot if anything changed and
+   * notifies listeners and property callbacks.
+   *
+   * @param loadedPropertyMap merged properties of all sources
+   * @param loadedNames names of properties to compare, or null to compare all of them
+   */
+  private void publishAndNotify(
+      Map<String, LoadedConfigProperty> loadedPropertyMap, Set<String> loadedNames) {
+    Set<String> names = loadedNames;
+    if (placeholderResolver != null) {
+      // changed properties along with properties referencing them
+      Set<String> resolvedNames = placeholderResolver.resolve(loadedPropertyMap, loadedNames);
+      names = loadedNames != null ? resolvedNames : null;
     }
 
     List<ConfigEvent> detectedChanges = new ArrayList<>();
 
-    if (propertyMap == null) {
+    ConfigSnapshot snapshot = this.snapshot;
+    Map<String, LoadedConfigProperty> propertyMap = snapshot.propertyMap();
+
+    if (names != null) {
+      for (String propName : names) {
+        ConfigProperty oldProp = propertyMap.get(propName);
+        ConfigProperty newProp = loadedPropertyMap.get(propName);
+        if (oldProp != null && newProp != null) {
+          detectedChanges.add(
+              ConfigEvent.createUpdated(propName, settings.getHost(), oldProp, newProp));
+        } else if (oldProp != null) {
+          detectedChanges.add(ConfigEvent.createRemoved(propName, settings.getHost(), oldProp));
+        } else if (newProp != null) {
+          detectedChanges.add(ConfigEvent.createAdded(propName, settings.getHost(), newProp));
+        }
+      }
+    } else if (propertyMap.isEmpty()) {
       for (String propName : loadedPropertyMap.keySet()) {
         ConfigProperty newProp = loadedPropertyMap.get(propName); // not null
         // collect changes
@@ -458,13 +1055,21 @@ private void loadAndNotify() {
       }
     }
 
-    // reset loaded
-    propertyMap = loadedPropertyMap;
+    List<ConfigEvent> changedEvents =
+        detectedChanges.stream().filter(ConfigEvent::isChanged).collect(Collectors.toList());
+
+    // reset loaded (publish new generation only if something actually changed)
+    if (!changedEvents.isEmpty()) {
+      this.snapshot =
+          new ConfigSnapshot(snapshot.generation() + 1, CompactPropertyMap.of(loadedPropertyMap));
+      Set<String> changedNames =
+          changedEvents.stream().map(ConfigEvent::getName).collect(Collectors.toSet());
+      children.forEach(child -> child.reload(PARENT_LAYER, changedNames));
+    }
 
     detectedChanges.forEach(input -> recentConfigEvents.put(input, null)); // keep recent changes
 
-    reportChanges(
-        detectedChanges.stream().filter(ConfigEvent::isChanged).collect(Collectors.toList()));
+    reportChanges(changedEvents);
 
     // re-compute values and invoke callbacks
     detectedChanges.stream()
@@ -478,6 +1083,30 @@ private void loadAndNotify() {
                 SimpleImmutableEntry::getKey,
                 Collectors.mapping(SimpleImmutableEntry::getValue, Collectors.toList())))
         .forEach(PropertyCallback::computeValue);
+
+    reportChangeSet(changedEvents);
+  }
+
+  private void reportChangeSet(List<ConfigEvent> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+    for (ChangeListener changeListener : changeListeners) {
+      List<ConfigEvent> filteredEvents =
+          events.stream()
+              .filter(event -> changeListener.filter.test(event.getName()))
+              .collect(Collectors.toList());
+      if (filteredEvents.isEmpty()) {
+        continue;
+      }
+      Collection<ConfigEvent> configEvents = Collections.unmodifiableCollection(filteredEvents);
+      try {
+        changeListener.listener.onEvents(configEvents);
+      } catch (Exception e) {
+        LOGGER.error(
+            "Exception on change listener: {}, events: {}", changeListener, configEvents, e);
+      }
+    }
   }
 
   private void reportChanges(Collection<ConfigEvent> events) {
@@ -506,4 +1135,22 @@ private void computeConfigLoadStatus(String sourceName, Throwable ex) {
       }
     }
   }
+
+  private static final class ChangeListener {
+    private final String description;
+    private final Predicate<String> filter;
+    private final ConfigEventListener listener;
+
+    private ChangeListener(
+        String description, Predicate<String> filter, ConfigEventListener listener) {
+      this.description = description;
+      this.filter = filter;
+      this.listener = listener;
+    }
+
+    @Override
+    public String toString() {
+      return "ChangeListener{" + description + ", listener=" + listener + '}';
+    }
+  }
 }
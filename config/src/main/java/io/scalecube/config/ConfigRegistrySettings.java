@@ -2,13 +2,17 @@
 
 import io.scalecube.config.audit.ConfigEventListener;
 import io.scalecube.config.source.ConfigSource;
+import io.scalecube.config.source.PropertySelection;
 import java.net.InetAddress;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Objects;
 import java.util.StringJoiner;
+import java.util.function.Function;
 
 /**
  * Represents settings of config registry.
@@ -18,17 +22,31 @@
 public final class ConfigRegistrySettings {
 
   public static final int DEFAULT_RELOAD_PERIOD_SEC = 15;
+  public static final double DEFAULT_RELOAD_JITTER = 0;
   public static final int DEFAULT_RECENT_EVENTS_NUM = 30;
   public static final boolean DEFAULT_JMX_ENABLED = true;
   public static final String DEFAULT_JMX_MBEAN_NAME = "io.scalecube.config:name=ConfigRegistry";
+  public static final boolean DEFAULT_INTERPOLATION_ENABLED = false;
+  public static final boolean DEFAULT_LAZY_PARSING_ENABLED = false;
+  public static final boolean DEFAULT_SELECTIVE_LOADING_ENABLED = false;
 
   private final Map<String, ConfigSource> sources;
   private final String host;
-  private final int reloadIntervalSec;
+  private final Duration reloadInterval; // null means reload is disabled
+  private final Map<String, Duration> sourceReloadIntervals;
+  private final Duration maxReloadInterval; // nullable
+  private final double reloadJitter;
+  private final Duration sharedLoadWindow; // nullable
+  private final ConfigRegistry parent; // nullable
   private final int recentConfigEventsNum;
   private final Map<String, ConfigEventListener> listeners;
   private final boolean jmxEnabled;
   private final String jmxMBeanName;
+  private final boolean interpolationEnabled;
+  private final boolean lazyParsingEnabled;
+  private final boolean selectiveLoadingEnabled;
+  private final PropertySelection initialSelection;
+  private final Map<Class<?>, Function<String, ?>> converters;
 
   private ConfigRegistrySettings(Builder builder) {
     Map<String, ConfigSource> sourcesTmp = new LinkedHashMap<>(builder.sources.size());
@@ -37,11 +55,22 @@ private ConfigRegistrySettings(Builder builder) {
     }
     this.sources = Collections.unmodifiableMap(sourcesTmp);
     this.host = builder.host != null ? builder.host : resolveLocalHost();
-    this.reloadIntervalSec = builder.reloadIntervalSec;
+    this.reloadInterval = builder.reloadInterval;
+    this.sourceReloadIntervals =
+        Collections.unmodifiableMap(new HashMap<>(builder.sourceReloadIntervals));
+    this.maxReloadInterval = builder.maxReloadInterval;
+    this.reloadJitter = builder.reloadJitter;
+    this.sharedLoadWindow = builder.sharedLoadWindow;
+    this.parent = builder.parent;
     this.recentConfigEventsNum = builder.recentConfigEventsNum;
     this.listeners = Collections.unmodifiableMap(new HashMap<>(builder.listeners));
     this.jmxEnabled = builder.jmxEnabled;
     this.jmxMBeanName = builder.jmxMBeanName;
+    this.interpolationEnabled = builder.interpolationEnabled;
+    this.lazyParsingEnabled = builder.lazyParsingEnabled;
+    this.selectiveLoadingEnabled = builder.selectiveLoadingEnabled;
+    this.initialSelection = builder.initialSelection;
+    this.converters = Collections.unmodifiableMap(new HashMap<>(builder.converters));
   }
 
   private static String resolveLocalHost() {
@@ -56,12 +85,80 @@ public static Builder builder() {
     return new Builder();
   }
 
+  /**
+   * Returns reload interval in whole seconds (at least one second), or {@link Integer#MAX_VALUE} if
+   * reload is disabled.
+   *
+   * @return reload interval in seconds
+   */
   public int getReloadIntervalSec() {
-    return reloadIntervalSec;
+    if (reloadInterval == null) {
+      return Integer.MAX_VALUE;
+    }
+    return (int) Math.min(Integer.MAX_VALUE - 1, Math.max(1, reloadInterval.getSeconds()));
+  }
+
+  /**
+   * Returns reload interval of sources, see {@link #getReloadInterval(String)}.
+   *
+   * @return reload interval, or null if reload is disabled
+   */
+  public Duration getReloadInterval() {
+    return reloadInterval;
+  }
+
+  /**
+   * Returns reload interval of given source.
+   *
+   * @param sourceName source name
+   * @return reload interval, or null if reload is disabled
+   */
+  public Duration getReloadInterval(String sourceName) {
+    return reloadInterval != null
+        ? sourceReloadIntervals.getOrDefault(sourceName, reloadInterval)
+        : null;
+  }
+
+  /**
+   * Returns max reload interval of given source, up to which reload interval grows while source
+   * fails to load or stays unchanged. Equals to reload interval unless adaptive reload is enabled.
+   *
+   * @param sourceName source name
+   * @return max reload interval, or null if reload is disabled
+   */
+  public Duration getMaxReloadInterval(String sourceName) {
+    Duration reloadInterval = getReloadInterval(sourceName);
+    if (reloadInterval == null || maxReloadInterval == null) {
+      return reloadInterval;
+    }
+    return maxReloadInterval.compareTo(reloadInterval) > 0 ? maxReloadInterval : reloadInterval;
+  }
+
+  public double getReloadJitter() {
+    return reloadJitter;
+  }
+
+  /**
+   * Returns window within which load result of source is shared with other registries, see {@link
+   * Builder#sharedLoadWindow(Duration)}.
+   *
+   * @return shared load window, or null if sharing is disabled
+   */
+  public Duration getSharedLoadWindow() {
+    return sharedLoadWindow;
+  }
+
+  /**
+   * Returns parent registry, see {@link Builder#parent(ConfigRegistry)}.
+   *
+   * @return parent registry, or null
+   */
+  public ConfigRegistry getParent() {
+    return parent;
   }
 
   public boolean isReloadEnabled() {
-    return reloadIntervalSec != Integer.MAX_VALUE;
+    return reloadInterval != null;
   }
 
   public int getRecentConfigEventsNum() {
@@ -88,16 +185,46 @@ public String getJmxMBeanName() {
     return jmxMBeanName;
   }
 
+  public boolean isInterpolationEnabled() {
+    return interpolationEnabled;
+  }
+
+  public boolean isLazyParsingEnabled() {
+    return lazyParsingEnabled;
+  }
+
+  public boolean isSelectiveLoadingEnabled() {
+    return selectiveLoadingEnabled;
+  }
+
+  public PropertySelection getInitialSelection() {
+    return initialSelection;
+  }
+
+  public Map<Class<?>, Function<String, ?>> getConverters() {
+    return converters;
+  }
+
   @Override
   public String toString() {
     return new StringJoiner(", ", ConfigRegistrySettings.class.getSimpleName() + "[", "]")
         .add("sources=" + sources)
         .add("host='" + host + "'")
-        .add("reloadIntervalSec=" + reloadIntervalSec)
+        .add("reloadInterval=" + reloadInterval)
+        .add("sourceReloadIntervals=" + sourceReloadIntervals)
+        .add("maxReloadInterval=" + maxReloadInterval)
+        .add("reloadJitter=" + reloadJitter)
+        .add("sharedLoadWindow=" + sharedLoadWindow)
+        .add("parent=" + (parent != null ? "present" : "none"))
         .add("recentConfigEventsNum=" + recentConfigEventsNum)
         .add("listeners=" + listeners)
         .add("jmxEnabled=" + jmxEnabled)
         .add("jmxMBeanName='" + jmxMBeanName + "'")
+        .add("interpolationEnabled=" + interpolationEnabled)
+        .add("lazyParsingEnabled=" + lazyParsingEnabled)
+        .add("selectiveLoadingEnabled=" + selectiveLoadingEnabled)
+        .add("initialSelection=" + initialSelection)
+        .add("converters=" + converters.keySet())
         .toString();
   }
 
@@ -105,24 +232,128 @@ public static class Builder {
     private final LinkedList<String> sourceOrder = new LinkedList<>();
     private final Map<String, ConfigSource> sources = new HashMap<>();
     private final String host = null;
-    private int reloadIntervalSec = DEFAULT_RELOAD_PERIOD_SEC;
+    private Duration reloadInterval = Duration.ofSeconds(DEFAULT_RELOAD_PERIOD_SEC);
+    private final Map<String, Duration> sourceReloadIntervals = new HashMap<>();
+    private Duration maxReloadInterval;
+    private double reloadJitter = DEFAULT_RELOAD_JITTER;
+    private Duration sharedLoadWindow;
+    private ConfigRegistry parent;
     private int recentConfigEventsNum = DEFAULT_RECENT_EVENTS_NUM;
     private final Map<String, ConfigEventListener> listeners = new HashMap<>();
     private boolean jmxEnabled = DEFAULT_JMX_ENABLED;
     private String jmxMBeanName = DEFAULT_JMX_MBEAN_NAME;
+    private boolean interpolationEnabled = DEFAULT_INTERPOLATION_ENABLED;
+    private boolean lazyParsingEnabled = DEFAULT_LAZY_PARSING_ENABLED;
+    private boolean selectiveLoadingEnabled = DEFAULT_SELECTIVE_LOADING_ENABLED;
+    private PropertySelection initialSelection = PropertySelection.EMPTY;
+    private final Map<Class<?>, Function<String, ?>> converters = new HashMap<>();
 
     private Builder() {}
 
     public Builder noReload() {
-      this.reloadIntervalSec = Integer.MAX_VALUE;
+      this.reloadInterval = null;
       return this;
     }
 
     public Builder reloadIntervalSec(int reloadPeriodSec) {
-      this.reloadIntervalSec = reloadPeriodSec;
+      return reloadPeriodSec != Integer.MAX_VALUE
+          ? reloadInterval(Duration.ofSeconds(reloadPeriodSec))
+          : noReload();
+    }
+
+    /**
+     * Sets reload interval of sources (unless set for particular source with {@link
+     * #reloadInterval(String, Duration)}). Each source is being reloaded on its own schedule.
+     *
+     * @param reloadInterval reload interval, must be positive
+     * @return builder instance
+     */
+    public Builder reloadInterval(Duration reloadInterval) {
+      this.reloadInterval = requirePositive(reloadInterval);
+      return this;
+    }
+
+    /**
+     * Sets reload interval of given source.
+     *
+     * @param sourceName source name
+     * @param reloadInterval reload interval, must be positive
+     * @return builder instance
+     */
+    public Builder reloadInterval(String sourceName, Duration reloadInterval) {
+      this.sourceReloadIntervals.put(
+          Objects.requireNonNull(sourceName), requirePositive(reloadInterval));
+      return this;
+    }
+
+    /**
+     * Enables adaptive reload: while source fails to load its reload interval doubles after every
+     * failure, and while source stays unchanged its reload interval gradually grows, but not
+     * beyond given max interval. Once source loads again or changes, its reload interval gets back
+     * to configured one. Disabled by default.
+     *
+     * @param maxReloadInterval max reload interval
+     * @return builder instance
+     */
+    public Builder maxReloadInterval(Duration maxReloadInterval) {
+      this.maxReloadInterval = requirePositive(maxReloadInterval);
+      return this;
+    }
+
+    /**
+     * Sets random jitter of reload interval, as a fraction of it: every reload happens earlier by
+     * random part of interval up to given fraction, so that reloads of many instances started at
+     * once spread out over time. Zero (no jitter) by default.
+     *
+     * @param reloadJitter jitter, from 0 to 1
+     * @return builder instance
+     */
+    public Builder reloadJitter(double reloadJitter) {
+      if (reloadJitter < 0 || reloadJitter > 1) {
+        throw new IllegalArgumentException("reloadJitter must be in range [0, 1]");
+      }
+      this.reloadJitter = reloadJitter;
       return this;
     }
 
+    /**
+     * Enables sharing of source load results between registries: if the same source instance is
+     * added to several registries (with sharing enabled), then it's loaded once within given
+     * window and its load result is reused by all of them. Changes pushed by source invalidate load
+     * result. Sources loading selectively (see {@link #selectiveLoadingEnabled(boolean)}) are not
+     * shared. Registry stops sharing its sources once it's closed. Disabled by default.
+     *
+     * @param sharedLoadWindow window within which load result is reused
+     * @return builder instance
+     */
+    public Builder sharedLoadWindow(Duration sharedLoadWindow) {
+      this.sharedLoadWindow = requirePositive(sharedLoadWindow);
+      return this;
+    }
+
+    /**
+     * Sets parent registry, making registry being built a child one: properties of its own sources
+     * take precedence over (already merged) properties of parent, which are not copied but shared
+     * with parent and its other children. Child re-merges properties on reload of own sources and
+     * on changes of parent properties, and notifies about changes of both. Parent must be created
+     * with {@link ConfigRegistry#create(ConfigRegistrySettings)}.
+     *
+     * @param parent parent registry
+     * @return builder instance
+     */
+    public Builder parent(ConfigRegistry parent) {
+      this.parent = Objects.requireNonNull(parent);
+      return this;
+    }
+
+    private static Duration requirePositive(Duration duration) {
+      Objects.requireNonNull(duration);
+      if (duration.isNegative() || duration.isZero()) {
+        throw new IllegalArgumentException("Duration must be positive: " + duration);
+      }
+      return duration;
+    }
+
     public Builder keepRecentConfigEvents(int recentConfigEventsNum) {
       this.recentConfigEventsNum = recentConfigEventsNum;
       return this;
@@ -184,6 +415,83 @@ public Builder jmxMBeanName(String jmxMBeanName) {
       return this;
     }
 
+    /**
+     * Enables resolving of placeholders of form {@code ${name}} or {@code ${name:default}} in
+     * property values against other properties. Placeholders are resolved incrementally, only for
+     * properties affected by changes of current reload.
+     *
+     * @param interpolationEnabled flag
+     * @return builder instance
+     */
+    public Builder interpolationEnabled(boolean interpolationEnabled) {
+      this.interpolationEnabled = interpolationEnabled;
+      return this;
+    }
+
+    /**
+     * Enables lazy parsing of simple (non-object) property values. On reload only raw value gets
+     * stored, and parsing happens on first read after the change. Properties with validators or
+     * callbacks are still parsed (and validated) eagerly on reload.
+     *
+     * @param lazyParsingEnabled flag
+     * @return builder instance
+     */
+    public Builder lazyParsingEnabled(boolean lazyParsingEnabled) {
+      this.lazyParsingEnabled = lazyParsingEnabled;
+      return this;
+    }
+
+    /**
+     * Enables selective loading: sources which support it (see {@link
+     * ConfigSource#supportsSelection()}) load only properties which have registered handles (or
+     * are selected upfront, see {@link #initialSelection(PropertySelection)}). Registering handle
+     * of a property which isn't loaded yet reloads such sources before handle gets created. Queries
+     * and change listeners don't widen the selection, so {@link ConfigRegistry#allProperties()},
+     * prefix queries and listeners see only loaded properties. Other sources keep loading all
+     * properties.
+     *
+     * @param selectiveLoadingEnabled flag
+     * @return builder instance
+     */
+    public Builder selectiveLoadingEnabled(boolean selectiveLoadingEnabled) {
+      this.selectiveLoadingEnabled = selectiveLoadingEnabled;
+      return this;
+    }
+
+    /**
+     * Sets properties which sources loading selectively (see {@link
+     * #selectiveLoadingEnabled(boolean)}) load from the first load on. Registering handles of
+     * these properties doesn't reload sources, so properties known upfront (e.g. registered at
+     * startup one by one) are better selected here. Empty by default.
+     *
+     * @param initialSelection names and prefixes of properties to load
+     * @return builder instance
+     */
+    public Builder initialSelection(PropertySelection initialSelection) {
+      this.initialSelection = Objects.requireNonNull(initialSelection, "initialSelection");
+      return this;
+    }
+
+    /**
+     * Registers converter for the given type, see {@link ConfigConverter}. Converters for built-in
+     * types can't be overridden.
+     *
+     * @param type type of the value
+     * @param converter converter function, should produce immutable values
+     * @param <T> type of the value
+     * @return builder instance
+     * @throws IllegalArgumentException in case given type is built-in
+     */
+    public <T> Builder addConverter(Class<T> type, Function<String, T> converter) {
+      Objects.requireNonNull(type, "type");
+      Objects.requireNonNull(converter, "converter");
+      if (Converters.isBuiltIn(type)) {
+        throw new IllegalArgumentException("Can't override converter of built-in type: " + type);
+      }
+      this.converters.put(type, converter);
+      return this;
+    }
+
     public ConfigRegistrySettings build() {
       return new ConfigRegistrySettings(this);
     }
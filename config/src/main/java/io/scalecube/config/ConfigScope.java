@@ -0,0 +1,153 @@
+package io.scalecube.config;
+
+import java.time.Duration;
+
+/**
+ * Scoped view of {@link ConfigRegistry}. Resolves property keys against the scope prefix as {@code
+ * prefix.key}, shares current properties and callbacks infrastructure of the parent registry, and
+ * doesn't copy anything. Property instances are created once per key and cached in the scope, so
+ * repeated lookups neither concatenate names nor register new property instances:
+ *
+ * <pre>
+ * ConfigScope tenant =
+ *     registry.scope("tenant.acme").withFallback(registry.scope("tenant.default"));
+ * // tenant.acme.pool.size, then tenant.default.pool.size
+ * int poolSize = tenant.intValue("pool.size", 8);
+ * </pre>
+ */
+public interface ConfigScope {
+
+  /**
+   * Returns scope prefix.
+   *
+   * @return prefix, never null
+   */
+  String prefix();
+
+  /**
+   * Returns full property name for the given key.
+   *
+   * @param key property key relative to this scope
+   * @return full property name
+   */
+  String name(String key);
+
+  /**
+   * Returns nested scope.
+   *
+   * @param prefix prefix relative to this scope
+   * @return scope instance
+   */
+  ConfigScope scope(String prefix);
+
+  /**
+   * Returns view of this scope which falls back to the given scope in {@code *Value(...)} methods
+   * when property is absent in this scope. Fallbacks can be chained.
+   *
+   * @param fallback fallback scope
+   * @return scope instance
+   */
+  ConfigScope withFallback(ConfigScope fallback);
+
+  /**
+   * Returns dynamic typed string property of this scope (without fallback).
+   *
+   * @param key property key relative to this scope
+   * @return property instance
+   */
+  StringConfigProperty stringProperty(String key);
+
+  /**
+   * Returns current value of string property of this scope or of fallback scope or defaults.
+   *
+   * @param key property key relative to this scope
+   * @param defaultValue default property value
+   * @return property value
+   */
+  String stringValue(String key, String defaultValue);
+
+  /**
+   * Returns dynamic typed int property of this scope (without fallback).
+   *
+   * @param key property key relative to this scope
+   * @return property instance
+   */
+  IntConfigProperty intProperty(String key);
+
+  /**
+   * Returns current value of int property of this scope or of fallback scope or defaults.
+   *
+   * @param key property key relative to this scope
+   * @param defaultValue default property value
+   * @return property value
+   */
+  int intValue(String key, int defaultValue);
+
+  /**
+   * Returns dynamic typed long property of this scope (without fallback).
+   *
+   * @param key property key relative to this scope
+   * @return property instance
+   */
+  LongConfigProperty longProperty(String key);
+
+  /**
+   * Returns current value of long property of this scope or of fallback scope or defaults.
+   *
+   * @param key property key relative to this scope
+   * @param defaultValue default property value
+   * @return property value
+   */
+  long longValue(String key, long defaultValue);
+
+  /**
+   * Returns dynamic typed double property of this scope (without fallback).
+   *
+   * @param key property key relative to this scope
+   * @return property instance
+   */
+  DoubleConfigProperty doubleProperty(String key);
+
+  /**
+   * Returns current value of double property of this scope or of fallback scope or defaults.
+   *
+   * @param key property key relative to this scope
+   * @param defaultValue default property value
+   * @return property value
+   */
+  double doubleValue(String key, double defaultValue);
+
+  /**
+   * Returns dynamic typed boolean property of this scope (without fallback).
+   *
+   * @param key property key relative to this scope
+   * @return property instance
+   */
+  BooleanConfigProperty booleanProperty(String key);
+
+  /**
+   * Returns current value of boolean property of this scope or of fallback scope or defaults.
+   *
+   * @param key property key relative to this scope
+   * @param defaultValue default property value
+   * @return property value
+   */
+  boolean booleanValue(String key, boolean defaultValue);
+
+  /**
+   * Returns dynamic typed duration property of this scope (without fallback).
+   *
+   * @param key property key relative to this scope
+   * @return property instance
+   */
+  DurationConfigProperty durationProperty(String key);
+
+  /**
+   * Returns current value of duration property of this scope or of fallback scope or defaults.
+   *
+   * @param key property key relative to this scope
+   * @param defaultValue default property value
+   * @return property value
+   */
+  Duration durationValue(String key, Duration defaultValue);
+}
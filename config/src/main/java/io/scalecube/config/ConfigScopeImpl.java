@@ -0,0 +1,166 @@
+package io.scalecube.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Implementation of {@link ConfigScope}. Property instances are cached per key in {@link Handles}
+ * which is shared between this scope and its {@link #withFallback(ConfigScope)} views.
+ */
+final class ConfigScopeImpl implements ConfigScope {
+
+  private final ConfigRegistry registry;
+  private final String prefix;
+  private final Handles handles;
+  private final ConfigScope fallback; // nullable
+
+  ConfigScopeImpl(ConfigRegistry registry, String prefix) {
+    this(registry, prefix, new Handles(), null);
+  }
+
+  private ConfigScopeImpl(
+      ConfigRegistry registry, String prefix, Handles handles, ConfigScope fallback) {
+    this.registry = registry;
+    this.prefix = Objects.requireNonNull(prefix, "prefix can't be null");
+    this.handles = handles;
+    this.fallback = fallback;
+  }
+
+  @Override
+  public String prefix() {
+    return prefix;
+  }
+
+  @Override
+  public String name(String key) {
+    return prefix.isEmpty() ? key : prefix + '.' + key;
+  }
+
+  @Override
+  public ConfigScope scope(String prefix) {
+    return registry.scope(name(prefix));
+  }
+
+  @Override
+  public ConfigScope withFallback(ConfigScope fallback) {
+    Objects.requireNonNull(fallback, "fallback can't be null");
+    ConfigScope chain = this.fallback != null ? this.fallback.withFallback(fallback) : fallback;
+    return new ConfigScopeImpl(registry, prefix, handles, chain);
+  }
+
+  @Override
+  public StringConfigProperty stringProperty(String key) {
+    return property(handles.stringProperties, key, registry::stringProperty);
+  }
+
+  @Override
+  public String stringValue(String key, String defaultValue) {
+    Optional<String> value = stringProperty(key).value();
+    if (value.isPresent()) {
+      return value.get();
+    }
+    return fallback != null ? fallback.stringValue(key, defaultValue) : defaultValue;
+  }
+
+  @Override
+  public IntConfigProperty intProperty(String key) {
+    return property(handles.intProperties, key, registry::intProperty);
+  }
+
+  @Override
+  public int intValue(String key, int defaultValue) {
+    Optional<Integer> value = intProperty(key).value();
+    if (value.isPresent()) {
+      return value.get();
+    }
+    return fallback != null ? fallback.intValue(key, defaultValue) : defaultValue;
+  }
+
+  @Override
+  public LongConfigProperty longProperty(String key) {
+    return property(handles.longProperties, key, registry::longProperty);
+  }
+
+  @Override
+  public long longValue(String key, long defaultValue) {
+    Optional<Long> value = longProperty(key).value();
+    if (value.isPresent()) {
+      return value.get();
+    }
+    return fallback != null ? fallback.longValue(key, defaultValue) : defaultValue;
+  }
+
+  @Override
+  public DoubleConfigProperty doubleProperty(String key) {
+    return property(handles.doubleProperties, key, registry::doubleProperty);
+  }
+
+  @Override
+  public double doubleValue(String key, double defaultValue) {
+    Optional<Double> value = doubleProperty(key).value();
+    if (value.isPresent()) {
+      return value.get();
+    }
+    return fallback != null ? fallback.doubleValue(key, defaultValue) : defaultValue;
+  }
+
+  @Override
+  public BooleanConfigProperty booleanProperty(String key) {
+    return property(handles.booleanProperties, key, registry::booleanProperty);
+  }
+
+  @Override
+  public boolean booleanValue(String key, boolean defaultValue) {
+    Optional<Boolean> value = booleanProperty(key).value();
+    if (value.isPresent()) {
+      return value.get();
+    }
+    return fallback != null ? fallback.booleanValue(key, defaultValue) : defaultValue;
+  }
+
+  @Override
+  public DurationConfigProperty durationProperty(String key) {
+    return property(handles.durationProperties, key, registry::durationProperty);
+  }
+
+  @Override
+  public Duration durationValue(String key, Duration defaultValue) {
+    Optional<Duration> value = durationProperty(key).value();
+    if (value.isPresent()) {
+      return value.get();
+    }
+    return fallback != null ? fallback.durationValue(key, defaultValue) : defaultValue;
+  }
+
+  private <P> P property(Map<String, P> cache, String key, Function<String, P> factory) {
+    P property = cache.get(key); // fast path, no name concatenation
+    if (property == null) {
+      property = cache.computeIfAbsent(key, k -> factory.apply(name(k)));
+    }
+    return property;
+  }
+
+  @Override
+  public String toString() {
+    return new StringJoiner(", ", ConfigScope.class.getSimpleName() + "[", "]")
+        .add("prefix='" + prefix + "'")
+        .add("fallback=" + fallback)
+        .toString();
+  }
+
+  private static final class Handles {
+    private final Map<String, StringConfigProperty> stringProperties = new ConcurrentHashMap<>();
+    private final Map<String, IntConfigProperty> intProperties = new ConcurrentHashMap<>();
+    private final Map<String, LongConfigProperty> longProperties = new ConcurrentHashMap<>();
+    private final Map<String, DoubleConfigProperty> doubleProperties = new ConcurrentHashMap<>();
+    private final Map<String, BooleanConfigProperty> booleanProperties =
+        new ConcurrentHashMap<>();
+    private final Map<String, DurationConfigProperty> durationProperties =
+        new ConcurrentHashMap<>();
+  }
+}
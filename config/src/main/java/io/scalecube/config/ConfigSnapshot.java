@@ -0,0 +1,164 @@
+package io.scalecube.config;
+
+import io.scalecube.config.source.LoadedConfigProperty;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Immutable generation-stamped snapshot of all properties of config registry. New snapshot is
+ * published atomically by config registry on every reload which detected changes, so reading many
+ * properties from one snapshot gives consistent combination of values at the cost of one volatile
+ * read:
+ *
+ * <pre>
+ * ConfigSnapshot snapshot = registry.snapshot();
+ * String host = snapshot.stringValue("db.host", "localhost");
+ * int port = snapshot.intValue("db.port", 5432); // from the same generation as host
+ * </pre>
+ *
+ * <p>{@link #generation()} is incremented with every published snapshot and can be used as a cache
+ * key for objects derived from config values.
+ */
+public final class ConfigSnapshot {
+
+  static final ConfigSnapshot EMPTY = new ConfigSnapshot(0, Collections.emptyMap());
+
+  private final long generation;
+  private final Map<String, LoadedConfigProperty> propertyMap;
+
+  private volatile PropertyIndex propertyIndex; // lazy, computed on first prefix query
+
+  ConfigSnapshot(long generation, Map<String, LoadedConfigProperty> propertyMap) {
+    this.generation = generation;
+    this.propertyMap = propertyMap;
+  }
+
+  /**
+   * Returns generation number of this snapshot.
+   *
+   * @return generation, 0 for empty snapshot (before the first load)
+   */
+  public long generation() {
+    return generation;
+  }
+
+  /**
+   * Returns set of all property names of this snapshot.
+   *
+   * @return unmodifiable set of property names
+   */
+  public Set<String> names() {
+    return Collections.unmodifiableSet(propertyMap.keySet());
+  }
+
+  /**
+   * Returns sorted set of property names starting with the given prefix.
+   *
+   * @param prefix property name prefix
+   * @return set of property names
+   */
+  public Set<String> names(String prefix) {
+    return propertyIndex().names(prefix);
+  }
+
+  /**
+   * Returns raw property values which names start with the given prefix.
+   *
+   * @param prefix property name prefix
+   * @return sorted map of property name to its string value
+   */
+  public Map<String, String> values(String prefix) {
+    Map<String, String> result = new LinkedHashMap<>();
+    propertyIndex()
+        .properties(prefix)
+        .forEach((name, property) -> result.put(name, property.valueAsString(null)));
+    return Collections.unmodifiableMap(result);
+  }
+
+  /**
+   * Returns loaded property.
+   *
+   * @param name property name
+   * @return optional property (with source and origin info)
+   */
+  public Optional<ConfigProperty> property(String name) {
+    return Optional.ofNullable(propertyMap.get(name));
+  }
+
+  public boolean contains(String name) {
+    return propertyMap.containsKey(name);
+  }
+
+  public Optional<String> stringValue(String name) {
+    return value(name, ConfigRegistryImpl.STRING_PARSER);
+  }
+
+  public String stringValue(String name, String defaultValue) {
+    return stringValue(name).orElse(defaultValue);
+  }
+
+  public int intValue(String name, int defaultValue) {
+    return value(name, ConfigRegistryImpl.INT_PARSER).orElse(defaultValue);
+  }
+
+  public long longValue(String name, long defaultValue) {
+    return value(name, ConfigRegistryImpl.LONG_PARSER).orElse(defaultValue);
+  }
+
+  public double doubleValue(String name, double defaultValue) {
+    return value(name, ConfigRegistryImpl.DOUBLE_PARSER).orElse(defaultValue);
+  }
+
+  public boolean booleanValue(String name, boolean defaultValue) {
+    return value(name, ConfigRegistryImpl.BOOLEAN_PARSER).orElse(defaultValue);
+  }
+
+  public Duration durationValue(String name, Duration defaultValue) {
+    return value(name, ConfigRegistryImpl.DURATION_PARSER).orElse(defaultValue);
+  }
+
+  /**
+   * Returns property value parsed with the given parser.
+   *
+   * @param name property name
+   * @param parser value parser
+   * @param <T> type of value
+   * @return optional value
+   * @throws IllegalArgumentException in case value can't be parsed
+   */
+  public <T> Optional<T> value(String name, Function<String, T> parser) {
+    LoadedConfigProperty property = propertyMap.get(name);
+    if (property == null) {
+      return Optional.empty();
+    }
+    Optional<String> value = property.valueAsString();
+    try {
+      return value.map(parser);
+    } catch (Exception e) {
+      throw new IllegalArgumentException(
+          "Exception occurred at parsing property: " + name + ", value: " + value.orElse(null), e);
+    }
+  }
+
+  Map<String, LoadedConfigProperty> propertyMap() {
+    return propertyMap;
+  }
+
+  PropertyIndex propertyIndex() {
+    PropertyIndex index = propertyIndex;
+    if (index == null) {
+      propertyIndex = index = PropertyIndex.of(propertyMap);
+    }
+    return index;
+  }
+
+  @Override
+  public String toString() {
+    return "ConfigSnapshot{generation=" + generation + ", size=" + propertyMap.size() + '}';
+  }
+}
@@ -0,0 +1,227 @@
+package io.scalecube.config;
+
+import io.scalecube.config.utils.ThrowableUtil;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Resolves {@link ConfigConverter converters} by type in the following order: built-in converters,
+ * converters registered on config registry, {@link ServiceLoader service provider} converters,
+ * enum converter, converter over public static factory method or public constructor. All but
+ * registered converters are resolved once per type for all config registries (and cached in {@link
+ * ClassValue}), so that they're stable and parsed values of the same type are shared via {@link
+ * ParsedValueCache} among registries. Registered converters are looked up in converters of the
+ * registry first and live as long as the registry.
+ */
+final class Converters {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(Converters.class);
+
+  private static final Map<Class<?>, Function<String, ?>> BUILT_IN_CONVERTERS = builtInConverters();
+
+  static final Converters DEFAULT = new Converters(Collections.emptyMap());
+
+  private static final String[] FACTORY_METHOD_NAMES = {"valueOf", "of", "parse", "fromString"};
+
+  private final Map<Class<?>, Function<String, ?>> customConverters;
+
+  private static final ClassValue<Function<String, ?>> RESOLVED_CONVERTERS =
+      new ClassValue<Function<String, ?>>() {
+        @Override
+        protected Function<String, ?> computeValue(Class<?> type) {
+          return resolve(type);
+        }
+      };
+
+  Converters(Map<Class<?>, Function<String, ?>> customConverters) {
+    this.customConverters = new HashMap<>(customConverters);
+  }
+
+  static boolean isBuiltIn(Class<?> type) {
+    return BUILT_IN_CONVERTERS.containsKey(type);
+  }
+
+  /**
+   * Returns converter for the given type.
+   *
+   * @param type type of the value
+   * @param <T> type of the value
+   * @return converter function
+   * @throws IllegalArgumentException in case there's no converter for the given type
+   */
+  @SuppressWarnings("unchecked") // converters are registered and resolved per type
+  <T> Function<String, T> converter(Class<T> type) {
+    Function<String, ?> converter = customConverters.get(type); // never built-in type
+    if (converter == null) {
+      converter = RESOLVED_CONVERTERS.get(type);
+    }
+    if (converter == null) {
+      throw new IllegalArgumentException("No converter found for type: " + type.getName());
+    }
+    return (Function<String, T>) converter;
+  }
+
+  private static Function<String, ?> resolve(Class<?> type) {
+    Function<String, ?> converter = BUILT_IN_CONVERTERS.get(type);
+    if (converter != null) {
+      return converter;
+    }
+    converter = ServiceConverters.CONVERTERS.get(type);
+    if (converter != null) {
+      return converter;
+    }
+    if (type.isEnum()) {
+      return enumConverter(type);
+    }
+    if (type.isAssignableFrom(String.class)) {
+      return ConfigRegistryImpl.STRING_PARSER; // Object, CharSequence and etc.
+    }
+    return factoryConverter(type);
+  }
+
+  private static Map<Class<?>, Function<String, ?>> builtInConverters() {
+    Map<Class<?>, Function<String, ?>> map = new HashMap<>();
+    map.put(String.class, ConfigRegistryImpl.STRING_PARSER);
+    map.put(Integer.TYPE, ConfigRegistryImpl.INT_PARSER);
+    map.put(Integer.class, ConfigRegistryImpl.INT_PARSER);
+    map.put(Long.TYPE, ConfigRegistryImpl.LONG_PARSER);
+    map.put(Long.class, ConfigRegistryImpl.LONG_PARSER);
+    map.put(Double.TYPE, ConfigRegistryImpl.DOUBLE_PARSER);
+    map.put(Double.class, ConfigRegistryImpl.DOUBLE_PARSER);
+    map.put(Boolean.TYPE, ConfigRegistryImpl.BOOLEAN_PARSER);
+    map.put(Boolean.class, ConfigRegistryImpl.BOOLEAN_PARSER);
+    map.put(Duration.class, ConfigRegistryImpl.DURATION_PARSER);
+    map.put(BigDecimal.class, (Function<String, BigDecimal>) BigDecimal::new);
+    map.put(BigInteger.class, (Function<String, BigInteger>) BigInteger::new);
+    map.put(URI.class, (Function<String, URI>) URI::create);
+    map.put(Path.class, (Function<String, Path>) Paths::get);
+    map.put(InetSocketAddress.class, (Function<String, InetSocketAddress>) Converters::toAddress);
+    map.put(DataSize.class, ParsedValueCache.cached(DataSize::parse));
+    return Collections.unmodifiableMap(map);
+  }
+
+  /**
+   * Parses address of form {@code host:port} or {@code [ipv6]:port}. Address is created unresolved,
+   * so that config reload never blocks on DNS lookup.
+   */
+  private static InetSocketAddress toAddress(String str) {
+    String input = str.trim();
+    int i = input.lastIndexOf(':');
+    if (i <= 0 || i == input.length() - 1) {
+      throw new IllegalArgumentException("Address must be of form host:port, got: " + str);
+    }
+    String host = input.substring(0, i);
+    if (host.startsWith("[") && host.endsWith("]")) {
+      host = host.substring(1, host.length() - 1);
+    }
+    return InetSocketAddress.createUnresolved(host, Integer.parseInt(input.substring(i + 1)));
+  }
+
+  private static Function<String, ?> enumConverter(Class<?> type) {
+    Map<String, Object> constants = new HashMap<>();
+    for (Object constant : type.getEnumConstants()) {
+      constants.putIfAbsent(((Enum<?>) constant).name().toUpperCase(Locale.ROOT), constant);
+    }
+    for (Object constant : type.getEnumConstants()) {
+      constants.put(((Enum<?>) constant).name(), constant); // exact match wins
+    }
+    return str -> {
+      String name = str.trim();
+      Object constant = constants.get(name);
+      if (constant == null) {
+        constant = constants.get(name.toUpperCase(Locale.ROOT));
+      }
+      if (constant == null) {
+        throw new IllegalArgumentException(
+            "No enum constant " + type.getName() + " for value '" + str + "'");
+      }
+      return constant;
+    };
+  }
+
+  private static Function<String, ?> factoryConverter(Class<?> type) {
+    if (!Modifier.isPublic(type.getModifiers()) || type.isInterface()) {
+      return null;
+    }
+    MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+    MethodHandle handle = null;
+    for (String name : FACTORY_METHOD_NAMES) {
+      handle = findStatic(lookup, type, name, String.class);
+      if (handle == null) {
+        handle = findStatic(lookup, type, name, CharSequence.class);
+      }
+      if (handle != null) {
+        break;
+      }
+    }
+    if (handle == null && !Modifier.isAbstract(type.getModifiers())) {
+      try {
+        handle = lookup.findConstructor(type, MethodType.methodType(void.class, String.class));
+      } catch (NoSuchMethodException | IllegalAccessException e) {
+        return null;
+      }
+    }
+    if (handle == null) {
+      return null;
+    }
+    MethodHandle converter = handle.asType(MethodType.methodType(Object.class, String.class));
+    return str -> {
+      try {
+        return (Object) converter.invokeExact(str);
+      } catch (Throwable e) {
+        throw ThrowableUtil.propagate(e);
+      }
+    };
+  }
+
+  private static MethodHandle findStatic(
+      MethodHandles.Lookup lookup, Class<?> type, String name, Class<?> paramType) {
+    try {
+      return lookup.findStatic(type, name, MethodType.methodType(type, paramType));
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  /** Lazy holder of service provider converters, loaded once. */
+  private static final class ServiceConverters {
+
+    private static final Map<Class<?>, Function<String, ?>> CONVERTERS = load();
+
+    private static Map<Class<?>, Function<String, ?>> load() {
+      Map<Class<?>, Function<String, ?>> map = new HashMap<>();
+      List<ConfigConverter<?>> converters = new ArrayList<>();
+      ServiceLoader.load(ConfigConverter.class).forEach(converters::add);
+      for (ConfigConverter<?> converter : converters) {
+        Class<?> type = converter.type();
+        if (isBuiltIn(type)) {
+          LOGGER.warn("Ignoring converter {} for built-in type: {}", converter, type.getName());
+          continue;
+        }
+        if (map.putIfAbsent(type, converter::convert) != null) {
+          LOGGER.warn("Ignoring duplicate converter {} for type: {}", converter, type.getName());
+        }
+      }
+      return Collections.unmodifiableMap(map);
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package io.scalecube.config;
+
+import java.util.Locale;
+
+/**
+ * Amount of data in bytes. Parsed from integer value followed by optional case insensitive unit
+ * (which is one of: <b>b</b> - bytes, <b>k</b>/<b>kb</b>/<b>kib</b> - kilobytes, <b>m</b>/<b>mb</b>
+ * /<b>mib</b> - megabytes, <b>g</b>/<b>gb</b>/<b>gib</b> - gigabytes, <b>t</b>/<b>tb</b>/<b>tib
+ * </b> - terabytes), bytes by default. Units are binary, i.e. {@code 1kb} is {@code 1024} bytes.
+ */
+public final class DataSize implements Comparable<DataSize> {
+
+  private static final long KB = 1024;
+  private static final long MB = KB * 1024;
+  private static final long GB = MB * 1024;
+  private static final long TB = GB * 1024;
+
+  private final long bytes;
+
+  private DataSize(long bytes) {
+    this.bytes = bytes;
+  }
+
+  public static DataSize ofBytes(long bytes) {
+    return new DataSize(bytes);
+  }
+
+  public static DataSize ofKilobytes(long kilobytes) {
+    return new DataSize(Math.multiplyExact(kilobytes, KB));
+  }
+
+  public static DataSize ofMegabytes(long megabytes) {
+    return new DataSize(Math.multiplyExact(megabytes, MB));
+  }
+
+  public static DataSize ofGigabytes(long gigabytes) {
+    return new DataSize(Math.multiplyExact(gigabytes, GB));
+  }
+
+  /**
+   * Parses data size from string like {@code 512}, {@code 64kb} or {@code 1 GiB}.
+   *
+   * @param input string to parse
+   * @return data size
+   * @throws IllegalArgumentException in case input can't be parsed
+   */
+  public static DataSize parse(String input) {
+    int i = input.length() - 1;
+    while (i >= 0 && Character.isLetter(input.charAt(i))) {
+      i -= 1;
+    }
+    String numberString = input.substring(0, i + 1).trim();
+    String unitString = input.substring(i + 1).trim();
+
+    if (numberString.length() == 0) {
+      throw new IllegalArgumentException(String.format("No number in data size value '%s'", input));
+    }
+
+    long multiplier;
+    switch (unitString.toLowerCase(Locale.ROOT)) {
+      case "":
+      case "b":
+        multiplier = 1;
+        break;
+      case "k":
+      case "kb":
+      case "kib":
+        multiplier = KB;
+        break;
+      case "m":
+      case "mb":
+      case "mib":
+        multiplier = MB;
+        break;
+      case "g":
+      case "gb":
+      case "gib":
+        multiplier = GB;
+        break;
+      case "t":
+      case "tb":
+      case "tib":
+        multiplier = TB;
+        break;
+      default:
+        throw new IllegalArgumentException(
+            String.format(
+                "Could not parse data size unit '%s' (try b, kb, mb, gb, tb)", unitString));
+    }
+
+    return new DataSize(Math.multiplyExact(Long.parseLong(numberString), multiplier));
+  }
+
+  public long toBytes() {
+    return bytes;
+  }
+
+  public long toKilobytes() {
+    return bytes / KB;
+  }
+
+  public long toMegabytes() {
+    return bytes / MB;
+  }
+
+  public long toGigabytes() {
+    return bytes / GB;
+  }
+
+  @Override
+  public int compareTo(DataSize other) {
+    return Long.compare(bytes, other.bytes);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return bytes == ((DataSize) o).bytes;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(bytes);
+  }
+
+  @Override
+  public String toString() {
+    return bytes + "b";
+  }
+}
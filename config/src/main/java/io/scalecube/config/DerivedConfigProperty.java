@@ -0,0 +1,60 @@
+package io.scalecube.config;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Memoized value computed from several config properties. Value is computed lazily on first read,
+ * and recomputed (again lazily, on next read) only after a reload changed one of its dependencies.
+ * Reading memoized value costs a single volatile read. Suitable for expensive objects built from
+ * several config values (compiled patterns, routing tables, ssl contexts and etc.):
+ *
+ * <pre>
+ * ListConfigProperty&lt;String&gt; patterns = registry.stringListProperty("acl.patterns");
+ * BooleanConfigProperty caseSensitive = registry.booleanProperty("acl.caseSensitive");
+ * DerivedConfigProperty&lt;List&lt;Pattern&gt;&gt; acl =
+ *     registry.derived(() -> compile(patterns.value(List.of()), caseSensitive.value(true)),
+ *         patterns, caseSensitive);
+ * </pre>
+ *
+ * @param <T> type of derived value
+ */
+public interface DerivedConfigProperty<T> {
+
+  /**
+   * Returns names of properties this value depends on.
+   *
+   * @return set of property names
+   */
+  Set<String> dependencies();
+
+  /**
+   * Returns memoized value, computes it if needed.
+   *
+   * @return optional derived value
+   */
+  Optional<T> value();
+
+  /**
+   * Shortcut on {@code value().orElse(defaultValue)}.
+   *
+   * @return existing value or default
+   */
+  T value(T defaultValue);
+
+  /**
+   * Returns existing value or throws {@link NoSuchElementException} if value is null.
+   *
+   * @return existing value or exception
+   * @throws NoSuchElementException if value is null
+   */
+  T valueOrThrow();
+
+  /**
+   * Stops tracking dependencies: reloads no longer invalidate memoized value, so value is computed
+   * on every read then. Property which is no longer referenced stops being tracked on its own, on
+   * next change of its dependencies.
+   */
+  void close();
+}
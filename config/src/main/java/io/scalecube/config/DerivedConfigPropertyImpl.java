@@ -0,0 +1,124 @@
+package io.scalecube.config;
+
+import io.scalecube.config.audit.ConfigEvent;
+import io.scalecube.config.audit.ConfigEventListener;
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of {@link DerivedConfigProperty}. Memoized value is kept in {@link Memo} holder;
+ * {@link #invalidate()} (called from config registry reload after dependencies were recomputed)
+ * replaces it with a new stale holder, so that a value computed concurrently with invalidation
+ * wouldn't be memoized. Registry holds property only weakly, via {@link Invalidator}.
+ *
+ * @param <T> type of derived value
+ */
+final class DerivedConfigPropertyImpl<T> implements DerivedConfigProperty<T> {
+
+  private final Supplier<T> function;
+  private final Set<String> dependencies;
+  private final AtomicReference<Memo<T>> memo = new AtomicReference<>(new Memo<>());
+  private volatile Runnable removal; // removes invalidating listener
+  private volatile boolean closed;
+
+  DerivedConfigPropertyImpl(Supplier<T> function, Set<String> dependencies) {
+    this.function = function;
+    this.dependencies = Collections.unmodifiableSet(dependencies);
+  }
+
+  @Override
+  public Set<String> dependencies() {
+    return dependencies;
+  }
+
+  /**
+   * Starts tracking dependencies.
+   *
+   * @param subscription adds given listener of dependency changes, returns action removing it
+   */
+  void track(Function<ConfigEventListener, Runnable> subscription) {
+    Invalidator invalidator = new Invalidator(this);
+    removal = invalidator.removal = subscription.apply(invalidator);
+  }
+
+  @Override
+  public Optional<T> value() {
+    if (closed) {
+      return Optional.ofNullable(function.get());
+    }
+    Memo<T> current = memo.get();
+    if (!current.stale) {
+      return current.value;
+    }
+    Memo<T> computed = new Memo<>(Optional.ofNullable(function.get()));
+    memo.compareAndSet(current, computed); // fails if invalidated meanwhile
+    return computed.value;
+  }
+
+  @Override
+  public T value(T defaultValue) {
+    return value().orElse(defaultValue);
+  }
+
+  @Override
+  public T valueOrThrow() {
+    return value()
+        .orElseThrow(
+            () -> new NoSuchElementException("Derived value is null for " + dependencies));
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    Runnable removal = this.removal;
+    if (removal != null) {
+      removal.run();
+    }
+  }
+
+  void invalidate() {
+    memo.set(new Memo<>());
+  }
+
+  /** Invalidates property on changes of dependencies, removes itself once property is gone. */
+  private static final class Invalidator implements ConfigEventListener {
+    private final WeakReference<DerivedConfigPropertyImpl<?>> property;
+    private volatile Runnable removal;
+
+    private Invalidator(DerivedConfigPropertyImpl<?> property) {
+      this.property = new WeakReference<>(property);
+    }
+
+    @Override
+    public void onEvents(Collection<ConfigEvent> events) {
+      DerivedConfigPropertyImpl<?> property = this.property.get();
+      if (property != null) {
+        property.invalidate();
+      } else if (removal != null) {
+        removal.run();
+      }
+    }
+  }
+
+  private static final class Memo<T> {
+    private final boolean stale;
+    private final Optional<T> value;
+
+    private Memo() {
+      this.stale = true;
+      this.value = null;
+    }
+
+    private Memo(Optional<T> value) {
+      this.stale = false;
+      this.value = value;
+    }
+  }
+}
@@ -9,8 +9,15 @@ class DoubleConfigPropertyImpl extends AbstractSimpleConfigProperty<Double>
   DoubleConfigPropertyImpl(
       String name,
       Map<String, LoadedConfigProperty> propertyMap,
-      Map<String, Map<Class, PropertyCallback>> propertyCallbackMap) {
-    super(name, Double.class, propertyMap, propertyCallbackMap, ConfigRegistryImpl.DOUBLE_PARSER);
+      Map<String, Map<Class, PropertyCallback>> propertyCallbackMap,
+      boolean lazy) {
+    super(
+        name,
+        Double.class,
+        propertyMap,
+        propertyCallbackMap,
+        ConfigRegistryImpl.DOUBLE_PARSER,
+        lazy);
   }
 
   @Override
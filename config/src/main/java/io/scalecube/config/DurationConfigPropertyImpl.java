@@ -10,9 +10,15 @@ class DurationConfigPropertyImpl extends AbstractSimpleConfigProperty<Duration>
   DurationConfigPropertyImpl(
       String name,
       Map<String, LoadedConfigProperty> propertyMap,
-      Map<String, Map<Class, PropertyCallback>> propertyCallbackMap) {
+      Map<String, Map<Class, PropertyCallback>> propertyCallbackMap,
+      boolean lazy) {
     super(
-        name, Duration.class, propertyMap, propertyCallbackMap, ConfigRegistryImpl.DURATION_PARSER);
+        name,
+        Duration.class,
+        propertyMap,
+        propertyCallbackMap,
+        ConfigRegistryImpl.DURATION_PARSER,
+        lazy);
   }
 
   @Override
@@ -23,9 +23,9 @@ static Duration parseDuration(String input) {
       return Duration.parse(input);
     }
 
-    String[] parts = splitNumericAndChar(input);
-    String numberString = parts[0];
-    String originalUnitString = parts[1];
+    int unitIndex = unitIndex(input);
+    String numberString = input.substring(0, unitIndex).trim();
+    String originalUnitString = input.substring(unitIndex).trim();
     String unitString = originalUnitString;
 
     if (numberString.length() == 0) {
@@ -71,7 +71,7 @@ static Duration parseDuration(String input) {
 
   // adapted from
   // https://github.com/typesafehub/config/blob/v1.3.0/config/src/main/java/com/typesafe/config/impl/ConfigImplUtil.java#L118-L164
-  private static String[] splitNumericAndChar(String input) {
+  private static int unitIndex(String input) {
     int i = input.length() - 1;
     while (i >= 0) {
       char c = input.charAt(i);
@@ -80,6 +80,6 @@ private static String[] splitNumericAndChar(String input) {
       }
       i -= 1;
     }
-    return new String[] {input.substring(0, i + 1).trim(), input.substring(i + 1).trim()};
+    return i + 1;
   }
 }
@@ -9,8 +9,10 @@ class IntConfigPropertyImpl extends AbstractSimpleConfigProperty<Integer>
   IntConfigPropertyImpl(
       String name,
       Map<String, LoadedConfigProperty> propertyMap,
-      Map<String, Map<Class, PropertyCallback>> propertyCallbackMap) {
-    super(name, Integer.class, propertyMap, propertyCallbackMap, ConfigRegistryImpl.INT_PARSER);
+      Map<String, Map<Class, PropertyCallback>> propertyCallbackMap,
+      boolean lazy) {
+    super(
+        name, Integer.class, propertyMap, propertyCallbackMap, ConfigRegistryImpl.INT_PARSER, lazy);
   }
 
   @Override
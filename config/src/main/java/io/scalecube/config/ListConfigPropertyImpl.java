@@ -1,30 +1,56 @@
 package io.scalecube.config;
 
 import io.scalecube.config.source.LoadedConfigProperty;
-import java.util.Arrays;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 class ListConfigPropertyImpl<T> extends AbstractSimpleConfigProperty<List<T>>
     implements ListConfigProperty<T> {
 
+  // keyed by element parser, so that parsed values are shared among handles
   static <T> Function<String, List<T>> toListPropertyParser(Function<String, T> valueParser) {
-    return str -> Arrays.stream(str.split(",")).map(valueParser).collect(Collectors.toList());
+    return ParsedValueCache.cached(
+        ParsedValueCache.derivedKey(List.class, valueParser),
+        str -> parseList(str, valueParser));
   }
 
+  private static <T> List<T> parseList(String str, Function<String, T> valueParser) {
+    List<String> tokens = ParsedValueCache.split(str, ',');
+    List<T> result = new ArrayList<>(tokens.size());
+    for (String token : tokens) {
+      result.add(valueParser.apply(token));
+    }
+    return Collections.unmodifiableList(result);
+  }
+
+  ListConfigPropertyImpl(
+      String name,
+      Map<String, LoadedConfigProperty> propertyMap,
+      Map<String, Map<Class, PropertyCallback>> propertyCallbackMap,
+      Function<String, T> valueParser,
+      boolean lazy) {
+    this(name, null, propertyMap, propertyCallbackMap, valueParser, lazy);
+  }
+
+  /** Constructor for list of values of the given type, parsed with the given converter. */
   ListConfigPropertyImpl(
       String name,
+      Class<T> type,
       Map<String, LoadedConfigProperty> propertyMap,
       Map<String, Map<Class, PropertyCallback>> propertyCallbackMap,
-      Function<String, T> valueParser) {
+      Function<String, T> valueParser,
+      boolean lazy) {
     super(
         name,
-        getListPropertyClass(valueParser),
+        getListPropertyClass(valueParser, type),
         propertyMap,
         propertyCallbackMap,
-        toListPropertyParser(valueParser));
+        toListPropertyParser(valueParser),
+        lazy);
   }
 
   @Override
@@ -37,7 +63,7 @@ public List<T> valueOrThrow() {
     return value().orElseThrow(this::newNoSuchElementException);
   }
 
-  private static <T> Class<?> getListPropertyClass(Function<String, T> valueParser) {
+  private static <T> Class<?> getListPropertyClass(Function<String, T> valueParser, Class<T> type) {
     Class<?> result = null;
     if (ConfigRegistryImpl.STRING_PARSER == valueParser) {
       result = StringList.class;
@@ -49,6 +75,8 @@ private static <T> Class<?> getListPropertyClass(Function<String, T> valueParser
       result = IntList.class;
     } else if (ConfigRegistryImpl.DURATION_PARSER == valueParser) {
       result = DurationList.class;
+    } else if (type != null) {
+      result = Array.newInstance(type, 0).getClass(); // unique per value type
     }
     if (result == null) {
       throw new IllegalArgumentException(
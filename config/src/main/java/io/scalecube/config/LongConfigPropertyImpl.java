@@ -9,8 +9,10 @@ class LongConfigPropertyImpl extends AbstractSimpleConfigProperty<Long>
   LongConfigPropertyImpl(
       String name,
       Map<String, LoadedConfigProperty> propertyMap,
-      Map<String, Map<Class, PropertyCallback>> propertyCallbackMap) {
-    super(name, Long.class, propertyMap, propertyCallbackMap, ConfigRegistryImpl.LONG_PARSER);
+      Map<String, Map<Class, PropertyCallback>> propertyCallbackMap,
+      boolean lazy) {
+    super(
+        name, Long.class, propertyMap, propertyCallbackMap, ConfigRegistryImpl.LONG_PARSER, lazy);
   }
 
   @Override
@@ -1,7 +1,9 @@
 package io.scalecube.config;
 
 import io.scalecube.config.source.LoadedConfigProperty;
+import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -10,40 +12,59 @@
 class MultimapConfigPropertyImpl<T> extends AbstractSimpleConfigProperty<Map<String, List<T>>>
     implements MultimapConfigProperty<T> {
 
+  // keyed by value parser, so that parsed values are shared among handles
   static <T> Function<String, Map<String, List<T>>> toMultimapPropertyParser(
       Function<String, T> valueParser) {
-    return str -> {
-      Map<String, List<T>> result = new HashMap<>();
-      String[] tokens = str.split(",");
-      String key = null;
-      for (String token : tokens) {
-        String[] entry = token.split("=", 2);
-        String value;
-        if (entry.length > 1) { // entry ["key", "value"]
-          key = entry[0];
-          value = entry[1];
-        } else { // only value ["value"]
-          value = entry[0];
-        }
-        if (key != null) {
-          result.computeIfAbsent(key, k -> new ArrayList<>()).add(valueParser.apply(value));
-        }
+    return ParsedValueCache.cached(
+        ParsedValueCache.derivedKey(Map.class, valueParser),
+        str -> parseMultimap(str, valueParser));
+  }
+
+  private static <T> Map<String, List<T>> parseMultimap(
+      String str, Function<String, T> valueParser) {
+    Map<String, List<T>> result = new HashMap<>();
+    String key = null;
+    for (String token : ParsedValueCache.split(str, ',')) {
+      int i = token.indexOf('=');
+      String value;
+      if (i >= 0) { // entry "key=value"
+        key = token.substring(0, i);
+        value = token.substring(i + 1);
+      } else { // only "value"
+        value = token;
+      }
+      if (key != null) {
+        result.computeIfAbsent(key, k -> new ArrayList<>()).add(valueParser.apply(value));
       }
-      return result;
-    };
+    }
+    result.replaceAll((k, list) -> Collections.unmodifiableList(list));
+    return Collections.unmodifiableMap(result);
   }
 
   MultimapConfigPropertyImpl(
       String name,
       Map<String, LoadedConfigProperty> propertyMap,
       Map<String, Map<Class, PropertyCallback>> propertyCallbackMap,
-      Function<String, T> valueParser) {
+      Function<String, T> valueParser,
+      boolean lazy) {
+    this(name, null, propertyMap, propertyCallbackMap, valueParser, lazy);
+  }
+
+  /** Constructor for multimap of values of the given type, parsed with the given converter. */
+  MultimapConfigPropertyImpl(
+      String name,
+      Class<T> type,
+      Map<String, LoadedConfigProperty> propertyMap,
+      Map<String, Map<Class, PropertyCallback>> propertyCallbackMap,
+      Function<String, T> valueParser,
+      boolean lazy) {
     super(
         name,
-        getMapPropertyClass(valueParser),
+        getMapPropertyClass(valueParser, type),
         propertyMap,
         propertyCallbackMap,
-        toMultimapPropertyParser(valueParser));
+        toMultimapPropertyParser(valueParser),
+        lazy);
   }
 
   @Override
@@ -56,7 +77,7 @@ public Map<String, List<T>> valueOrThrow() {
     return value().orElseThrow(this::newNoSuchElementException);
   }
 
-  private static <T> Class<?> getMapPropertyClass(Function<String, T> valueParser) {
+  private static <T> Class<?> getMapPropertyClass(Function<String, T> valueParser, Class<T> type) {
     Class<?> result = null;
     if (ConfigRegistryImpl.STRING_PARSER == valueParser) {
       result = StringMultimap.class;
@@ -68,6 +89,8 @@ private static <T> Class<?> getMapPropertyClass(Function<String, T> valueParser)
       result = IntMultimap.class;
     } else if (ConfigRegistryImpl.DURATION_PARSER == valueParser) {
       result = DurationMultimap.class;
+    } else if (type != null) {
+      result = Array.newInstance(type, 0, 0).getClass(); // unique per value type
     }
     if (result == null) {
       throw new IllegalArgumentException(
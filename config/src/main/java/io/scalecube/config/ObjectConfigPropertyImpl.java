@@ -5,8 +5,10 @@
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
@@ -18,16 +20,24 @@
 class ObjectConfigPropertyImpl<T> extends AbstractConfigProperty<T>
     implements ObjectConfigProperty<T> {
 
+  private final Set<String> propertyNames; // names of properties bound to fields
+
   @SuppressWarnings("rawtypes")
   ObjectConfigPropertyImpl(
       Map<String, String> bindingMap,
       Class<T> cfgClass,
       Map<String, LoadedConfigProperty> propertyMap,
-      Map<String, Map<Class, PropertyCallback>> propertyCallbackMap) {
+      Map<String, Map<Class, PropertyCallback>> propertyCallbackMap,
+      Converters converters) {
 
     super(cfgClass.getName(), cfgClass);
 
-    List<ObjectPropertyField> propertyFields = toPropertyFields(bindingMap, cfgClass);
+    List<ObjectPropertyField> propertyFields = toPropertyFields(bindingMap, cfgClass, converters);
+    this.propertyNames =
+        Collections.unmodifiableSet(
+            propertyFields.stream()
+                .map(ObjectPropertyField::getPropertyName)
+                .collect(Collectors.toSet()));
     setPropertyCallback(computePropertyCallback(cfgClass, propertyFields, propertyCallbackMap));
 
     computeValue(
@@ -43,8 +53,12 @@ public T value(T defaultValue) {
     return value().orElse(defaultValue);
   }
 
+  Set<String> propertyNames() {
+    return propertyNames;
+  }
+
   private List<ObjectPropertyField> toPropertyFields(
-      Map<String, String> bindingMap, Class<T> cfgClass) {
+      Map<String, String> bindingMap, Class<T> cfgClass, Converters converters) {
     List<ObjectPropertyField> propertyFields = new ArrayList<>(bindingMap.size());
     for (String fieldName : bindingMap.keySet()) {
       Field field;
@@ -55,7 +69,7 @@ private List<ObjectPropertyField> toPropertyFields(
       }
       int modifiers = field.getModifiers();
       if (!Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers)) {
-        propertyFields.add(new ObjectPropertyField(field, bindingMap.get(fieldName)));
+        propertyFields.add(new ObjectPropertyField(field, bindingMap.get(fieldName), converters));
       }
     }
     return propertyFields;
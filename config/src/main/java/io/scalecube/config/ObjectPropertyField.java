@@ -5,7 +5,6 @@
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -20,6 +19,10 @@ class ObjectPropertyField {
   private final Function<String, ?> valueParser;
 
   ObjectPropertyField(Field field, String propertyName) {
+    this(field, propertyName, Converters.DEFAULT);
+  }
+
+  ObjectPropertyField(Field field, String propertyName, Converters converters) {
     int modifiers = field.getModifiers();
     if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers)) {
       throw new IllegalArgumentException(
@@ -36,19 +39,20 @@ class ObjectPropertyField {
       ParameterizedType paramType = (ParameterizedType) field.getGenericType();
       if (isList(paramType)) {
         Type type = paramType.getActualTypeArguments()[0];
-        this.valueParser = ListConfigPropertyImpl.toListPropertyParser(getValueParser(type));
+        this.valueParser =
+            ListConfigPropertyImpl.toListPropertyParser(getValueParser(type, converters));
       } else if (isMultimap(paramType)) {
         Type[] typeArguments = paramType.getActualTypeArguments();
         ParameterizedType valueType = ((ParameterizedType) typeArguments[1]);
         Type type = valueType.getActualTypeArguments()[0];
         this.valueParser =
-            MultimapConfigPropertyImpl.toMultimapPropertyParser(getValueParser(type));
+            MultimapConfigPropertyImpl.toMultimapPropertyParser(getValueParser(type, converters));
       } else {
         throw new IllegalArgumentException(
             "ObjectPropertyField: unsupported type on field: " + field);
       }
     } else {
-      this.valueParser = getValueParser(field.getType());
+      this.valueParser = getValueParser(field.getType(), converters);
     }
   }
 
@@ -72,22 +76,12 @@ private boolean isMultimap(ParameterizedType paramType) {
     return result;
   }
 
-  private Function<String, ?> getValueParser(Type type) {
-    if (type == String.class) {
-      return str -> str;
-    } else if (type == Duration.class) {
-      return DurationParser::parseDuration;
-    } else if (type == Integer.TYPE || type == Integer.class) {
-      return Integer::parseInt;
-    } else if (type == Double.TYPE || type == Double.class) {
-      return Double::parseDouble;
-    } else if (type == Boolean.TYPE || type == Boolean.class) {
-      return Boolean::parseBoolean;
-    } else if (type == Long.TYPE || type == Long.class) {
-      return Long::parseLong;
-    } else {
-      return Function.identity();
+  private Function<String, ?> getValueParser(Type type, Converters converters) {
+    if (!(type instanceof Class)) {
+      throw new IllegalArgumentException(
+          "ObjectPropertyField: unsupported type on field: " + field);
     }
+    return converters.converter((Class<?>) type);
   }
 
   String getPropertyName() {
@@ -0,0 +1,64 @@
+package io.scalecube.config;
+
+import io.scalecube.config.source.LoadedConfigProperty;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Immutable view of properties of child registry: properties of its own sources (overlay) on top
+ * of merged properties of parent registry (base). Neither map is being copied, so children of the
+ * same parent share its property map and {@link LoadedConfigProperty} instances. Both maps must
+ * not be modified afterwards.
+ */
+final class OverlayPropertyMap extends AbstractMap<String, LoadedConfigProperty> {
+
+  private final Map<String, LoadedConfigProperty> overlay;
+  private final Map<String, LoadedConfigProperty> base;
+  private final int size;
+
+  OverlayPropertyMap(
+      Map<String, LoadedConfigProperty> overlay, Map<String, LoadedConfigProperty> base) {
+    this.overlay = overlay;
+    this.base = base;
+    this.size =
+        base.size() + (int) overlay.keySet().stream().filter(key -> !base.containsKey(key)).count();
+  }
+
+  @Override
+  public LoadedConfigProperty get(Object key) {
+    LoadedConfigProperty property = overlay.get(key);
+    return property != null ? property : base.get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return overlay.containsKey(key) || base.containsKey(key);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public Set<Entry<String, LoadedConfigProperty>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Entry<String, LoadedConfigProperty>> iterator() {
+        return Stream.concat(
+                overlay.entrySet().stream(),
+                base.entrySet().stream().filter(entry -> !overlay.containsKey(entry.getKey())))
+            .iterator();
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+    };
+  }
+}
@@ -0,0 +1,216 @@
+package io.scalecube.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of parsed property values shared among all config registries, keyed by raw string
+ * value and the parser which produced the value. Reloads and property handles of different types
+ * which parse the same raw string get the same instance, so that unchanged raw values never get
+ * re-parsed. Cached parsers must produce immutable values. Cache is split into {@link #STRIPES}
+ * independently locked stripes (by key hash), so that registries parsing at once rarely contend;
+ * least recently used entries of a stripe are evicted once it exceeds its share of {@link
+ * #CAPACITY}.
+ */
+final class ParsedValueCache {
+
+  static final int CAPACITY = 4096;
+  static final int STRIPES = 16; // power of two
+
+  private static final Stripe[] CACHE = new Stripe[STRIPES];
+
+  // cached in place of null value, so that null result isn't parsed again on every lookup
+  private static final Object NULL = new Object();
+
+  static {
+    for (int i = 0; i < STRIPES; i++) {
+      CACHE[i] = new Stripe(CAPACITY / STRIPES);
+    }
+  }
+
+  private ParsedValueCache() {
+    // Do not instantiate
+  }
+
+  /**
+   * Wraps given parser with cache lookup. Parser failures are not cached.
+   *
+   * @param parser parser producing immutable values
+   * @param <T> type of the value
+   * @return caching parser
+   */
+  static <T> Function<String, T> cached(Function<String, T> parser) {
+    return new Function<String, T>() {
+      @Override
+      public T apply(String str) {
+        return get(str, this, parser);
+      }
+    };
+  }
+
+  /**
+   * Wraps given parser with cache lookup, keyed by given parser key rather than by identity of
+   * returned function. This way parsers derived from the same element parser (list, multimap and
+   * etc.) share cached values without keeping registry of derived parsers.
+   *
+   * @param parserKey key identifying parser, compared by {@code equals}
+   * @param parser parser producing immutable values
+   * @param <T> type of the value
+   * @return caching parser
+   */
+  static <T> Function<String, T> cached(Object parserKey, Function<String, T> parser) {
+    Objects.requireNonNull(parserKey);
+    return str -> get(str, parserKey, parser);
+  }
+
+  @SuppressWarnings("unchecked") // values of the key's parser are of type T
+  private static <T> T get(String str, Object parserKey, Function<String, T> parser) {
+    Key key = new Key(parserKey, str);
+    Stripe stripe = CACHE[key.hashCode() & (STRIPES - 1)];
+    Object value;
+    synchronized (stripe) {
+      value = stripe.get(key);
+    }
+    if (value == null) {
+      value = parser.apply(str); // parse outside of lock
+      synchronized (stripe) {
+        stripe.put(key, value != null ? value : NULL);
+      }
+    }
+    return value != NULL ? (T) value : null;
+  }
+
+  /**
+   * Returns key of parser of given kind derived from given element parser, for {@link
+   * #cached(Object, Function)}.
+   *
+   * @param kind kind of derived parser
+   * @param elementParser element parser
+   * @return parser key
+   */
+  static Object derivedKey(Class<?> kind, Function<String, ?> elementParser) {
+    return new DerivedKey(kind, elementParser);
+  }
+
+  static int size() {
+    int size = 0;
+    for (Stripe stripe : CACHE) {
+      synchronized (stripe) {
+        size += stripe.size();
+      }
+    }
+    return size;
+  }
+
+  static void clear() {
+    for (Stripe stripe : CACHE) {
+      synchronized (stripe) {
+        stripe.clear();
+      }
+    }
+  }
+
+  /**
+   * Splits given string around given separator without regex. Has same semantics as {@link
+   * String#split(String)} with single char literal: trailing empty tokens are removed.
+   *
+   * @param str string to split
+   * @param separator separator char
+   * @return list of tokens
+   */
+  static List<String> split(String str, char separator) {
+    if (str.isEmpty()) {
+      return Collections.singletonList(str);
+    }
+    List<String> tokens = new ArrayList<>();
+    int start = 0;
+    for (int i = str.indexOf(separator); i >= 0; i = str.indexOf(separator, start)) {
+      tokens.add(str.substring(start, i));
+      start = i + 1;
+    }
+    tokens.add(str.substring(start));
+    int size = tokens.size();
+    while (size > 0 && tokens.get(size - 1).isEmpty()) {
+      size--;
+    }
+    return size == tokens.size() ? tokens : tokens.subList(0, size);
+  }
+
+  /** Access-ordered map evicting least recently used entry beyond capacity, guarded by itself. */
+  private static final class Stripe extends LinkedHashMap<Key, Object> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int capacity;
+
+    private Stripe(int capacity) {
+      super(16, 0.75f, true /* accessOrder */);
+      this.capacity = capacity;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+      return size() > capacity;
+    }
+  }
+
+  private static final class Key {
+    private final Object parser;
+    private final String str;
+
+    private Key(Object parser, String str) {
+      this.parser = parser;
+      this.str = str;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      Key key = (Key) o;
+      return parser.equals(key.parser) && str.equals(key.str);
+    }
+
+    @Override
+    public int hashCode() {
+      int hash = Objects.hash(parser, str);
+      return hash ^ (hash >>> 16); // spread over stripes
+    }
+  }
+
+  private static final class DerivedKey {
+    private final Class<?> kind;
+    private final Function<String, ?> elementParser;
+
+    private DerivedKey(Class<?> kind, Function<String, ?> elementParser) {
+      this.kind = Objects.requireNonNull(kind);
+      this.elementParser = Objects.requireNonNull(elementParser);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      DerivedKey key = (DerivedKey) o;
+      return kind == key.kind && elementParser == key.elementParser;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * kind.hashCode() + System.identityHashCode(elementParser);
+    }
+  }
+}
@@ -0,0 +1,311 @@
+package io.scalecube.config;
+
+import io.scalecube.config.source.LoadedConfigProperty;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Resolves placeholders of form {@code ${name}} or {@code ${name:default}} in property values
+ * against other properties. Keeps raw values, parsed templates and dependency graph between
+ * reloads, so that on every reload only properties which raw values changed, and their transitive
+ * dependents, get re-resolved. Properties referencing themselves (directly or transitively) are
+ * detected up front and keep their raw values, references to them are left unresolved (logged as
+ * error), so the outcome doesn't depend on resolution order. References to absent properties
+ * without default are left as is.
+ *
+ * <p>Not thread-safe, is being called from config registry reload process only.
+ */
+final class PlaceholderResolver {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PlaceholderResolver.class);
+
+  private static final String PREFIX = "${";
+  private static final char SUFFIX = '}';
+  private static final char DEFAULT_SEPARATOR = ':';
+
+  private final Map<String, String> rawValues = new HashMap<>(); // of previous reload
+  private final Map<String, Template> templates = new HashMap<>(); // name -> parsed raw value
+  private final Map<String, Set<String>> dependents = new HashMap<>(); // ref -> templated names
+  private final Map<String, String> resolvedValues = new HashMap<>(); // templated name -> value
+  private final Set<String> cyclicNames = new HashSet<>(); // templated names on reference cycle
+
+  /**
+   * Replaces values of templated properties in the given map with resolved ones, comparing raw
+   * values of all properties with previous reload.
+   *
+   * @param propertyMap merged properties of current reload, being modified in place
+   * @return names of properties which raw or resolved values changed
+   */
+  Set<String> resolve(Map<String, LoadedConfigProperty> propertyMap) {
+    return resolve(propertyMap, null);
+  }
+
+  /**
+   * Replaces values of templated properties in the given map with resolved ones.
+   *
+   * @param propertyMap merged properties of current reload, being modified in place
+   * @param names names of properties which raw values could have changed since previous reload,
+   *     or null if any property could have changed
+   * @return names of properties which raw or resolved values changed
+   */
+  Set<String> resolve(Map<String, LoadedConfigProperty> propertyMap, Set<String> names) {
+    Set<String> changed = new HashSet<>();
+    if (names != null) {
+      for (String name : names) {
+        updateRawValue(name, propertyMap.get(name), changed);
+      }
+    } else {
+      propertyMap.forEach((name, property) -> updateRawValue(name, property, changed));
+      List<String> removedNames = new ArrayList<>();
+      for (String name : rawValues.keySet()) {
+        if (!propertyMap.containsKey(name)) {
+          removedNames.add(name);
+        }
+      }
+      removedNames.forEach(name -> updateRawValue(name, null, changed));
+    }
+
+    Set<String> dirty = collectDirty(changed);
+    resolvedValues.keySet().removeAll(dirty);
+    cyclicNames.removeAll(changed);
+    cyclicNames.removeAll(dirty);
+    markCycles(dirty);
+    for (String name : dirty) {
+      resolveValue(name);
+    }
+
+    // apply resolved values (unchanged ones come from cache)
+    for (String name : templates.keySet()) {
+      LoadedConfigProperty property = propertyMap.get(name);
+      String value = resolvedValues.get(name);
+      if (property != null && !Objects.equals(value, property.valueAsString(null))) {
+        propertyMap.put(
+            name,
+            LoadedConfigProperty.withNameAndValue(name, value)
+                .source(property.source().orElse(null))
+                .origin(property.origin().orElse(null))
+                .build());
+      }
+    }
+
+    changed.addAll(dirty);
+    return changed;
+  }
+
+  private void updateRawValue(String name, LoadedConfigProperty property, Set<String> changed) {
+    String value = property != null ? property.valueAsString(null) : null;
+    if (property != null
+        ? rawValues.containsKey(name) && Objects.equals(rawValues.get(name), value)
+        : !rawValues.containsKey(name)) {
+      return;
+    }
+    if (property != null) {
+      rawValues.put(name, value);
+    } else {
+      rawValues.remove(name);
+    }
+    changed.add(name);
+    updateTemplate(name, value);
+  }
+
+  private void updateTemplate(String name, String value) {
+    Template previous = templates.remove(name);
+    if (previous != null) {
+      for (String ref : previous.refs()) {
+        Set<String> names = dependents.get(ref);
+        if (names != null && names.remove(name) && names.isEmpty()) {
+          dependents.remove(ref);
+        }
+      }
+      resolvedValues.remove(name);
+    }
+    Template template = value != null ? Template.parse(value) : null;
+    if (template != null) {
+      templates.put(name, template);
+      for (String ref : template.refs()) {
+        dependents.computeIfAbsent(ref, k -> new HashSet<>()).add(name);
+      }
+    }
+  }
+
+  // templated properties affected by the given changes, including transitive dependents
+  private Set<String> collectDirty(Set<String> changed) {
+    Set<String> dirty = new HashSet<>();
+    Deque<String> queue = new ArrayDeque<>(changed);
+    while (!queue.isEmpty()) {
+      String name = queue.poll();
+      if (templates.containsKey(name) && !dirty.add(name)) {
+        continue;
+      }
+      Set<String> names = dependents.get(name);
+      if (names != null) {
+        for (String dependent : names) {
+          if (!dirty.contains(dependent)) {
+            queue.add(dependent);
+          }
+        }
+      }
+    }
+    return dirty;
+  }
+
+  /**
+   * Adds dirty templated properties which reference themselves (directly or transitively) to
+   * {@link #cyclicNames}. Every cycle going through dirty property consists of dirty properties
+   * only (they all depend on it), so other properties on cycles are already there.
+   */
+  private void markCycles(Set<String> dirty) {
+    Map<String, int[]> visited = new HashMap<>(); // name -> {index, low link, on stack}
+    Deque<String> stack = new ArrayDeque<>();
+    for (String name : dirty) {
+      if (!visited.containsKey(name)) {
+        markCycles(name, dirty, visited, stack);
+      }
+    }
+  }
+
+  // Tarjan's strongly connected components algorithm
+  private void markCycles(
+      String name, Set<String> dirty, Map<String, int[]> visited, Deque<String> stack) {
+    int[] node = {visited.size(), visited.size(), 1};
+    visited.put(name, node);
+    stack.push(name);
+    boolean selfReference = false;
+    for (String ref : templates.get(name).refs()) {
+      if (!dirty.contains(ref)) {
+        continue;
+      }
+      selfReference |= ref.equals(name);
+      int[] refNode = visited.get(ref);
+      if (refNode == null) {
+        markCycles(ref, dirty, visited, stack);
+        node[1] = Math.min(node[1], visited.get(ref)[1]);
+      } else if (refNode[2] == 1) {
+        node[1] = Math.min(node[1], refNode[0]);
+      }
+    }
+    if (node[1] != node[0]) {
+      return;
+    }
+    Set<String> component = new TreeSet<>();
+    String member;
+    do {
+      member = stack.pop();
+      visited.get(member)[2] = 0;
+      component.add(member);
+    } while (!member.equals(name));
+    if (component.size() > 1 || selfReference) {
+      LOGGER.error("Cyclic placeholder references, left unresolved: {}", component);
+      cyclicNames.addAll(component);
+    }
+  }
+
+  private String resolveValue(String name) {
+    Template template = templates.get(name);
+    if (template == null) {
+      return rawValues.get(name); // plain value or absent
+    }
+    String resolved = resolvedValues.get(name);
+    if (resolved != null) {
+      return resolved;
+    }
+    if (cyclicNames.contains(name)) {
+      resolved = rawValues.get(name);
+    } else {
+      StringBuilder sb = new StringBuilder();
+      for (Object segment : template.segments) {
+        if (segment instanceof String) {
+          sb.append((String) segment);
+          continue;
+        }
+        Ref ref = (Ref) segment;
+        if (cyclicNames.contains(ref.name)) {
+          sb.append(ref.raw);
+          continue;
+        }
+        String value = resolveValue(ref.name);
+        if (value == null) {
+          value = ref.defaultValue != null ? ref.defaultValue : ref.raw;
+        }
+        sb.append(value);
+      }
+      resolved = sb.toString();
+    }
+    resolvedValues.put(name, resolved);
+    return resolved;
+  }
+
+  private static final class Template {
+    private final List<Object> segments; // String literals or Refs
+
+    private Template(List<Object> segments) {
+      this.segments = segments;
+    }
+
+    /** Returns parsed template, or null if value has no placeholders. */
+    static Template parse(String value) {
+      int start = value.indexOf(PREFIX);
+      if (start < 0) {
+        return null;
+      }
+      List<Object> segments = new ArrayList<>();
+      int pos = 0;
+      while (start >= 0) {
+        int end = value.indexOf(SUFFIX, start + PREFIX.length());
+        if (end < 0) {
+          break;
+        }
+        if (start > pos) {
+          segments.add(value.substring(pos, start));
+        }
+        segments.add(Ref.parse(value.substring(start, end + 1)));
+        pos = end + 1;
+        start = value.indexOf(PREFIX, pos);
+      }
+      if (pos < value.length()) {
+        segments.add(value.substring(pos));
+      }
+      return segments.stream().anyMatch(Ref.class::isInstance) ? new Template(segments) : null;
+    }
+
+    Iterable<String> refs() {
+      Set<String> refs = new HashSet<>();
+      for (Object segment : segments) {
+        if (segment instanceof Ref) {
+          refs.add(((Ref) segment).name);
+        }
+      }
+      return refs;
+    }
+  }
+
+  private static final class Ref {
+    private final String raw; // ${name:default}
+    private final String name;
+    private final String defaultValue; // nullable
+
+    private Ref(String raw, String name, String defaultValue) {
+      this.raw = raw;
+      this.name = name;
+      this.defaultValue = defaultValue;
+    }
+
+    static Ref parse(String raw) {
+      String body = raw.substring(PREFIX.length(), raw.length() - 1);
+      int i = body.indexOf(DEFAULT_SEPARATOR);
+      return i < 0
+          ? new Ref(raw, body.trim(), null)
+          : new Ref(raw, body.substring(0, i).trim(), body.substring(i + 1));
+    }
+  }
+}
@@ -2,6 +2,7 @@
 
 import io.scalecube.config.audit.ConfigEvent;
 import io.scalecube.config.source.LoadedConfigProperty;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArraySet;
@@ -50,7 +51,9 @@ void addConfigProperty(AbstractConfigProperty<T> configProperty) {
 
   /**
    * Computes new value for config property instances (of type {@link T}) from the list of {@link
-   * ConfigEvent} objects. This method is being called from config registry reload process.
+   * ConfigEvent} objects. This method is being called from config registry reload process. Config
+   * property instances in lazy mode only get new input list, and value isn't parsed at all if there
+   * are no others.
    *
    * @param events config events computed during config registry reload.
    */
@@ -69,6 +72,16 @@ void computeValue(List<ConfigEvent> events) {
                         .build())
             .collect(Collectors.toList());
 
+    List<AbstractConfigProperty<T>> eagerConfigProperties = new ArrayList<>();
+    for (AbstractConfigProperty<T> configProperty : configProperties) {
+      if (!configProperty.deferValue(inputList)) {
+        eagerConfigProperties.add(configProperty);
+      }
+    }
+    if (eagerConfigProperties.isEmpty()) {
+      return; // nothing to parse right now
+    }
+
     T value;
     try {
       value = applyValueParser(inputList);
@@ -78,7 +91,7 @@ void computeValue(List<ConfigEvent> events) {
     }
 
     T newValue = value; // new value
-    configProperties.forEach(
+    eagerConfigProperties.forEach(
         configProperty -> {
           try {
             configProperty.acceptValue(newValue, inputList, true /* invokeCallbacks */);
@@ -112,7 +125,7 @@ void computeValue(
     }
   }
 
-  private T applyValueParser(List<LoadedConfigProperty> inputList) {
+  T applyValueParser(List<LoadedConfigProperty> inputList) {
     try {
       return valueParser.apply(inputList);
     } catch (Exception e) {
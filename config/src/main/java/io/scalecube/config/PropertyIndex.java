@@ -0,0 +1,86 @@
+package io.scalecube.config;
+
+import io.scalecube.config.source.LoadedConfigProperty;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable sorted index of loaded properties of one config registry generation. Lookups by name
+ * prefix are done with binary search, so they cost O(log n + k) where k is a number of matching
+ * properties.
+ */
+final class PropertyIndex {
+
+  static final PropertyIndex EMPTY = new PropertyIndex(new String[0], new LoadedConfigProperty[0]);
+
+  private final String[] names; // sorted
+  private final LoadedConfigProperty[] properties; // in the order of names
+
+  private PropertyIndex(String[] names, LoadedConfigProperty[] properties) {
+    this.names = names;
+    this.properties = properties;
+  }
+
+  static PropertyIndex of(Map<String, LoadedConfigProperty> propertyMap) {
+    String[] names = propertyMap.keySet().toArray(new String[0]);
+    Arrays.sort(names);
+    LoadedConfigProperty[] properties = new LoadedConfigProperty[names.length];
+    for (int i = 0; i < names.length; i++) {
+      properties[i] = propertyMap.get(names[i]);
+    }
+    return new PropertyIndex(names, properties);
+  }
+
+  /**
+   * Returns property names starting with the given prefix.
+   *
+   * @param prefix name prefix
+   * @return sorted set of property names
+   */
+  Set<String> names(String prefix) {
+    int from = lowerBound(prefix);
+    int to = upperBound(prefix, from);
+    return Collections.unmodifiableSet(
+        new LinkedHashSet<>(Arrays.asList(names).subList(from, to)));
+  }
+
+  /**
+   * Returns properties which names start with the given prefix.
+   *
+   * @param prefix name prefix
+   * @return sorted map of property name to loaded property
+   */
+  Map<String, LoadedConfigProperty> properties(String prefix) {
+    int from = lowerBound(prefix);
+    int to = upperBound(prefix, from);
+    Map<String, LoadedConfigProperty> result = new LinkedHashMap<>();
+    for (int i = from; i < to; i++) {
+      result.put(names[i], properties[i]);
+    }
+    return Collections.unmodifiableMap(result);
+  }
+
+  private int lowerBound(String prefix) {
+    int i = Arrays.binarySearch(names, prefix);
+    return i >= 0 ? i : -(i + 1);
+  }
+
+  // names starting with prefix form contiguous range right after lowerBound
+  private int upperBound(String prefix, int from) {
+    int low = from;
+    int high = names.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (names[mid].startsWith(prefix)) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+}
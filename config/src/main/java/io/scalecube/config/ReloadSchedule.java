@@ -0,0 +1,69 @@
+package io.scalecube.config;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Reload schedule of single config source. Delay of next reload is based on reload interval of the
+ * source: it doubles after every failed load, and grows gradually while source stays unchanged
+ * (after {@link #UNCHANGED_RELOADS_BEFORE_SLOWDOWN} reloads in a row), but not beyond max reload
+ * interval. Delay is then reduced by random jitter. Not thread safe, being used on reload executor.
+ */
+final class ReloadSchedule {
+
+  private static final int UNCHANGED_RELOADS_BEFORE_SLOWDOWN = 3;
+  private static final double SLOWDOWN_FACTOR = 1.5;
+  private static final int MAX_EXPONENT = 64;
+
+  private final long intervalNanos;
+  private final long maxIntervalNanos;
+  private final double jitter;
+
+  private int failures;
+  private int unchangedReloads;
+  private ScheduledFuture<?> nextReload;
+
+  ReloadSchedule(Duration interval, Duration maxInterval, double jitter) {
+    this.intervalNanos = interval.toNanos();
+    this.maxIntervalNanos = maxInterval.toNanos();
+    this.jitter = jitter;
+  }
+
+  void onLoaded(boolean changed) {
+    failures = 0;
+    unchangedReloads = changed ? 0 : Math.min(unchangedReloads + 1, MAX_EXPONENT);
+  }
+
+  void onFailed() {
+    failures = Math.min(failures + 1, MAX_EXPONENT);
+  }
+
+  /**
+   * Returns delay of next reload.
+   *
+   * @return delay in nanos
+   */
+  long nextDelayNanos() {
+    double interval = intervalNanos;
+    if (failures > 0) {
+      interval *= Math.pow(2, failures);
+    } else if (unchangedReloads > UNCHANGED_RELOADS_BEFORE_SLOWDOWN) {
+      interval *= Math.pow(SLOWDOWN_FACTOR, unchangedReloads - UNCHANGED_RELOADS_BEFORE_SLOWDOWN);
+    }
+    interval = Math.min(interval, maxIntervalNanos);
+    return (long) (interval - interval * jitter * ThreadLocalRandom.current().nextDouble());
+  }
+
+  /**
+   * Replaces scheduled reload with given one.
+   *
+   * @param nextReload next reload
+   */
+  void reschedule(ScheduledFuture<?> nextReload) {
+    if (this.nextReload != null) {
+      this.nextReload.cancel(false);
+    }
+    this.nextReload = nextReload;
+  }
+}
@@ -0,0 +1,98 @@
+package io.scalecube.config;
+
+import io.scalecube.config.source.ConfigSource;
+import java.time.Duration;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load results of config sources shared by config registries of the same JVM, keyed by source
+ * identity. Registry acquires its sources on init and releases them on close, entry is dropped
+ * (and unsubscribed from the source) once no registry references the source. Load result is
+ * reused by registries reloading the same source within given window after it was loaded; loads
+ * of the same source are serialized, so registries reloading it at once wait for single load.
+ * Changes pushed by source invalidate its load result.
+ */
+final class SharedSourceCache {
+
+  static final SharedSourceCache INSTANCE = new SharedSourceCache();
+
+  private final Map<ConfigSource, Entry> entries = new IdentityHashMap<>(); // guarded by this
+
+  private SharedSourceCache() {}
+
+  synchronized void acquire(ConfigSource source) {
+    Entry entry = entries.get(source);
+    if (entry == null) {
+      Entry newEntry = new Entry(source);
+      entries.put(source, newEntry);
+      // subscribed before registry does, so that pushed changes invalidate result first
+      newEntry.unsubscribe = source.subscribe(names -> newEntry.invalidate());
+      entry = newEntry;
+    }
+    entry.refCount++;
+  }
+
+  synchronized void release(ConfigSource source) {
+    Entry entry = entries.get(source);
+    if (entry != null && --entry.refCount == 0) {
+      entries.remove(source);
+      if (entry.unsubscribe != null) {
+        entry.unsubscribe.run();
+      }
+    }
+  }
+
+  /**
+   * Loads given source, or returns its result loaded within given window.
+   *
+   * @param source config source
+   * @param window load result is reused within this window
+   * @return loaded properties
+   */
+  Map<String, ConfigProperty> load(ConfigSource source, Duration window) {
+    Entry entry = entry(source);
+    return entry != null ? entry.load(window) : source.loadConfig();
+  }
+
+  private synchronized Entry entry(ConfigSource source) {
+    return entries.get(source);
+  }
+
+  private static final class Entry {
+
+    private final ConfigSource source;
+    private final AtomicLong invalidations = new AtomicLong();
+    private int refCount; // guarded by SharedSourceCache.this
+    private Runnable unsubscribe; // guarded by SharedSourceCache.this
+    private Map<String, ConfigProperty> result; // guarded by this
+    private long loadedAt; // guarded by this
+    private long loadedInvalidations; // guarded by this
+
+    private Entry(ConfigSource source) {
+      this.source = source;
+    }
+
+    private synchronized Map<String, ConfigProperty> load(Duration window) {
+      long now = System.nanoTime();
+      long invalidations = this.invalidations.get();
+      if (result != null
+          && loadedInvalidations == invalidations
+          && now - loadedAt < window.toNanos()) {
+        return result;
+      }
+      result = null;
+      Map<String, ConfigProperty> result = source.loadConfig();
+      this.result = result;
+      this.loadedAt = now;
+      this.loadedInvalidations = invalidations;
+      return result;
+    }
+
+    /** Doesn't take the lock, since source may push changes while being loaded. */
+    private void invalidate() {
+      invalidations.incrementAndGet();
+    }
+  }
+}
@@ -9,8 +9,15 @@ class StringConfigPropertyImpl extends AbstractSimpleConfigProperty<String>
   StringConfigPropertyImpl(
       String name,
       Map<String, LoadedConfigProperty> propertyMap,
-      Map<String, Map<Class, PropertyCallback>> propertyCallbackMap) {
-    super(name, String.class, propertyMap, propertyCallbackMap, ConfigRegistryImpl.STRING_PARSER);
+      Map<String, Map<Class, PropertyCallback>> propertyCallbackMap,
+      boolean lazy) {
+    super(
+        name,
+        String.class,
+        propertyMap,
+        propertyCallbackMap,
+        ConfigRegistryImpl.STRING_PARSER,
+        lazy);
   }
 
   @Override
@@ -0,0 +1,30 @@
+package io.scalecube.config;
+
+import io.scalecube.config.source.LoadedConfigProperty;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Implementation of {@link ObjectConfigProperty} of single property parsed with {@link
+ * ConfigConverter converter} of the given type.
+ *
+ * @param <T> type of the property value
+ */
+class TypedConfigPropertyImpl<T> extends AbstractSimpleConfigProperty<T>
+    implements ObjectConfigProperty<T> {
+
+  TypedConfigPropertyImpl(
+      String name,
+      Class<T> type,
+      Map<String, LoadedConfigProperty> propertyMap,
+      Map<String, Map<Class, PropertyCallback>> propertyCallbackMap,
+      Function<String, T> converter,
+      boolean lazy) {
+    super(name, type, propertyMap, propertyCallbackMap, converter, lazy);
+  }
+
+  @Override
+  public T value(T defaultValue) {
+    return value().orElse(defaultValue);
+  }
+}
@@ -0,0 +1,177 @@
+package io.scalecube.config.keyvalue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-memory key-value config repository. Keeps every change under its own version, thus supports
+ * batch and incremental fetch, and watch. Watch listeners are notified synchronously from within
+ * the modifying call. Useful for tests and local runs.
+ */
+public class InMemoryKeyValueConfigRepository implements KeyValueConfigRepository {
+
+  // config name -> prop name -> latest entity (disabled one if removed)
+  private final Map<KeyValueConfigName, Map<String, Entry>> entries = new HashMap<>();
+  private long version; // guarded by entries
+
+  private final List<Watch> watches = new CopyOnWriteArrayList<>();
+  private final Object deliveryLock = new Object(); // keeps changes delivered in order
+
+  /**
+   * Puts property value under given config name.
+   *
+   * @param configName config name.
+   * @param propName property name.
+   * @param propValue property value.
+   * @return version of the change.
+   */
+  public long put(KeyValueConfigName configName, String propName, String propValue) {
+    KeyValueConfigEntity entity =
+        new KeyValueConfigEntity(
+            Objects.requireNonNull(propName), Objects.requireNonNull(propValue), configName);
+    return change(entity);
+  }
+
+  /**
+   * Removes property under given config name, it's reported as disabled entry to incremental fetch
+   * and watch.
+   *
+   * @param configName config name.
+   * @param propName property name.
+   * @return version of the change.
+   */
+  public long remove(KeyValueConfigName configName, String propName) {
+    KeyValueConfigEntity entity =
+        new KeyValueConfigEntity(Objects.requireNonNull(propName), null, configName);
+    entity.setDisabled(true);
+    return change(entity);
+  }
+
+  /**
+   * Returns version of the latest change.
+   *
+   * @return version.
+   */
+  public long version() {
+    synchronized (entries) {
+      return version;
+    }
+  }
+
+  private long change(KeyValueConfigEntity entity) {
+    Objects.requireNonNull(entity.getConfigName());
+    synchronized (deliveryLock) {
+      long changeVersion;
+      synchronized (entries) {
+        changeVersion = ++version;
+        entries
+            .computeIfAbsent(entity.getConfigName(), key -> new HashMap<>())
+            .put(entity.getPropName(), new Entry(entity, changeVersion));
+      }
+      for (Watch watch : watches) {
+        if (watch.configNames.contains(entity.getConfigName())) {
+          watch.deliver(new KeyValueConfigChanges(changeVersion, copyOf(entity)));
+        }
+      }
+      return changeVersion;
+    }
+  }
+
+  @Override
+  public List<KeyValueConfigEntity> findAll(KeyValueConfigName configName) {
+    List<KeyValueConfigEntity> result = new ArrayList<>();
+    synchronized (entries) {
+      for (Entry entry : entries.getOrDefault(configName, new HashMap<>()).values()) {
+        if (!entry.entity.getDisabled()) {
+          result.add(entry.entity.setConfigName(configName));
+        }
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public boolean supportsBatchFetch() {
+    return true;
+  }
+
+  @Override
+  public boolean supportsChangedSince() {
+    return true;
+  }
+
+  @Override
+  public KeyValueConfigChanges findChangedSince(
+      List<KeyValueConfigName> configNames, long version) {
+    List<KeyValueConfigEntity> result = new ArrayList<>();
+    synchronized (entries) {
+      for (KeyValueConfigName configName : configNames) {
+        for (Entry entry : entries.getOrDefault(configName, new HashMap<>()).values()) {
+          boolean changed = version < 0 ? !entry.entity.getDisabled() : entry.version > version;
+          if (changed) {
+            result.add(entry.entity.setConfigName(configName));
+          }
+        }
+      }
+      return new KeyValueConfigChanges(this.version, result);
+    }
+  }
+
+  @Override
+  public boolean supportsWatch() {
+    return true;
+  }
+
+  @Override
+  public AutoCloseable watch(
+      List<KeyValueConfigName> configNames, long version, KeyValueConfigWatchListener listener) {
+    Watch watch = new Watch(new ArrayList<>(configNames), version, listener);
+    synchronized (deliveryLock) {
+      KeyValueConfigChanges changes = findChangedSince(configNames, version);
+      watches.add(watch);
+      if (changes.getVersion() > version) {
+        watch.deliver(changes); // catch up
+      }
+    }
+    return () -> watches.remove(watch);
+  }
+
+  private static List<KeyValueConfigEntity> copyOf(KeyValueConfigEntity entity) {
+    List<KeyValueConfigEntity> list = new ArrayList<>(1);
+    list.add(entity.setConfigName(entity.getConfigName()));
+    return list;
+  }
+
+  private static class Entry {
+    private final KeyValueConfigEntity entity;
+    private final long version;
+
+    private Entry(KeyValueConfigEntity entity, long version) {
+      this.entity = entity;
+      this.version = version;
+    }
+  }
+
+  private static class Watch {
+    private final List<KeyValueConfigName> configNames;
+    private final KeyValueConfigWatchListener listener;
+    private long version; // version of last delivered changes, guarded by deliveryLock
+
+    private Watch(
+        List<KeyValueConfigName> configNames, long version, KeyValueConfigWatchListener listener) {
+      this.configNames = configNames;
+      this.version = version;
+      this.listener = listener;
+    }
+
+    private void deliver(KeyValueConfigChanges changes) {
+      long fromVersion = version;
+      version = changes.getVersion();
+      listener.onChanges(fromVersion, changes);
+    }
+  }
+}
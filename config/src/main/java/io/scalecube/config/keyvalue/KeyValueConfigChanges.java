@@ -0,0 +1,43 @@
+package io.scalecube.config.keyvalue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Result of incremental fetch, see {@link KeyValueConfigRepository#findChangedSince(List, long)}.
+ * Comes in two parts: entries changed since requested version and version of data source these
+ * changes are up to.
+ */
+public final class KeyValueConfigChanges {
+  /** Version (or timestamp) of data source the changes are up to. */
+  private final long version;
+
+  /**
+   * Added, updated, disabled or deleted entries. Deleted entries have to be reported as disabled
+   * ones. Not null.
+   */
+  private final List<KeyValueConfigEntity> entities;
+
+  public KeyValueConfigChanges(long version, List<KeyValueConfigEntity> entities) {
+    this.version = version;
+    this.entities = Collections.unmodifiableList(Objects.requireNonNull(entities));
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public List<KeyValueConfigEntity> getEntities() {
+    return entities;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder sb = new StringBuilder("KeyValueConfigChanges{");
+    sb.append("version=").append(version);
+    sb.append(", entities=").append(entities.size());
+    sb.append('}');
+    return sb.toString();
+  }
+}
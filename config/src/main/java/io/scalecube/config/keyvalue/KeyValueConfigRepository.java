@@ -1,8 +1,21 @@
 package io.scalecube.config.keyvalue;
 
+import io.scalecube.config.source.PropertySelection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
-/** Generic key-value config data access interface. */
+/**
+ * Generic key-value config data access interface. Besides mandatory {@link
+ * #findAll(KeyValueConfigName)} implementation may support batch fetch of several config names in
+ * one round trip ({@link #findAllBatch(List)}) and incremental fetch of changes only ({@link
+ * #findChangedSince(List, long)}), which is announced by corresponding {@code supports*} method.
+ * Repository supporting incremental fetch may also push changes as they happen ({@link #watch(List,
+ * long, KeyValueConfigWatchListener)}). Implementation may also narrow fetch to selected property
+ * names ({@link #findAll(KeyValueConfigName, PropertySelection)}, {@link #findAllBatch(List,
+ * PropertySelection)}), by default fetched entries are filtered afterwards.
+ */
 public interface KeyValueConfigRepository {
 
   /**
@@ -13,4 +26,120 @@ public interface KeyValueConfigRepository {
    * @throws Exception in case of any issue happened when accessing config data source.
    */
   List<KeyValueConfigEntity> findAll(KeyValueConfigName configName) throws Exception;
+
+  /**
+   * Retrieves key-value pairs under given config name with selected property names. Default
+   * implementation filters result of {@link #findAll(KeyValueConfigName)}.
+   *
+   * @param configName a config name.
+   * @param selection selected property names and prefixes.
+   * @return list of key-value entries.
+   * @throws Exception in case of any issue happened when accessing config data source.
+   */
+  default List<KeyValueConfigEntity> findAll(
+      KeyValueConfigName configName, PropertySelection selection) throws Exception {
+    return findAll(configName).stream()
+        .filter(entity -> selection.matches(entity.getPropName()))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Returns whether {@link #findAllBatch(List)} is implemented with single round trip.
+   *
+   * @return true if batch fetch is supported, false by default.
+   */
+  default boolean supportsBatchFetch() {
+    return false;
+  }
+
+  /**
+   * Retrieves all key-value pairs under given config names. Default implementation calls {@link
+   * #findAll(KeyValueConfigName)} for every config name.
+   *
+   * @param configNames config names.
+   * @return key-value entries by config name.
+   * @throws Exception in case of any issue happened when accessing config data source.
+   */
+  default Map<KeyValueConfigName, List<KeyValueConfigEntity>> findAllBatch(
+      List<KeyValueConfigName> configNames) throws Exception {
+    Map<KeyValueConfigName, List<KeyValueConfigEntity>> result = new LinkedHashMap<>();
+    for (KeyValueConfigName configName : configNames) {
+      result.put(configName, findAll(configName));
+    }
+    return result;
+  }
+
+  /**
+   * Retrieves key-value pairs under given config names with selected property names. Default
+   * implementation filters result of {@link #findAllBatch(List)}.
+   *
+   * @param configNames config names.
+   * @param selection selected property names and prefixes.
+   * @return key-value entries by config name.
+   * @throws Exception in case of any issue happened when accessing config data source.
+   */
+  default Map<KeyValueConfigName, List<KeyValueConfigEntity>> findAllBatch(
+      List<KeyValueConfigName> configNames, PropertySelection selection) throws Exception {
+    Map<KeyValueConfigName, List<KeyValueConfigEntity>> result = new LinkedHashMap<>();
+    findAllBatch(configNames)
+        .forEach(
+            (configName, entities) ->
+                result.put(
+                    configName,
+                    entities.stream()
+                        .filter(entity -> selection.matches(entity.getPropName()))
+                        .collect(Collectors.toList())));
+    return result;
+  }
+
+  /**
+   * Returns whether {@link #findChangedSince(List, long)} is implemented.
+   *
+   * @return true if incremental fetch is supported, false by default.
+   */
+  default boolean supportsChangedSince() {
+    return false;
+  }
+
+  /**
+   * Retrieves key-value pairs under given config names changed after given version (or timestamp)
+   * of data source. Returned entries must have {@link KeyValueConfigEntity#getConfigName()} set,
+   * and deleted entries must be reported as disabled ones.
+   *
+   * @param configNames config names.
+   * @param version version returned by previous call, or negative number on the very first call,
+   *     in this case all (not disabled) entries should be returned.
+   * @return changes and the version they are up to.
+   * @throws Exception in case of any issue happened when accessing config data source.
+   */
+  default KeyValueConfigChanges findChangedSince(List<KeyValueConfigName> configNames, long version)
+      throws Exception {
+    throw new UnsupportedOperationException("findChangedSince");
+  }
+
+  /**
+   * Returns whether {@link #watch(List, long, KeyValueConfigWatchListener)} is implemented.
+   * Watch is used only together with incremental fetch, see {@link #supportsChangedSince()}.
+   *
+   * @return true if watch is supported, false by default.
+   */
+  default boolean supportsWatch() {
+    return false;
+  }
+
+  /**
+   * Starts watching key-value pairs under given config names changed after given version. Changes
+   * are reported the same way as by {@link #findChangedSince(List, long)}.
+   *
+   * @param configNames config names.
+   * @param version version returned by previous {@link #findChangedSince(List, long)} call.
+   * @param listener listener of changes.
+   * @return handle to stop watching.
+   * @throws Exception in case of any issue happened when accessing config data source.
+   */
+  default AutoCloseable watch(
+      List<KeyValueConfigName> configNames, long version, KeyValueConfigWatchListener listener)
+      throws Exception {
+    throw new UnsupportedOperationException("watch");
+  }
 }
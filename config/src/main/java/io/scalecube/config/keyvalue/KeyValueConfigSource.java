@@ -4,23 +4,36 @@
 import io.scalecube.config.ConfigSourceNotAvailableException;
 import io.scalecube.config.source.ConfigSource;
 import io.scalecube.config.source.LoadedConfigProperty;
+import io.scalecube.config.source.PropertySelection;
 import io.scalecube.config.utils.ThrowableUtil;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -29,35 +42,71 @@
 
 /**
  * Generic key-value config source. Communicates with concrete config data source (mongodb, redis,
- * zookeeper) using injectable {@link #repository}.
+ * zookeeper) using injectable {@link #repository}. Depending on repository capabilities config
+ * names are fetched either with one {@link KeyValueConfigRepository#findAll(KeyValueConfigName)}
+ * call per config name, or with single batch call, or incrementally: then only changes since last
+ * reload are fetched and applied to locally materialized {@link #view}. If repository supports
+ * watch, then after incremental fetch changes are pushed into {@link #view} as they happen, and
+ * subscribers are notified with names of changed properties. In case pushed changes don't follow
+ * previously seen ones (i.e. some changes were missed) watch is stopped, and {@link #view} gets
+ * fully reloaded on next {@link #loadConfig()}.
+ *
+ * <p>Repository calls run on bounded executor (own one per source by default, see {@link
+ * Builder#executor(Executor)}), so slow repository doesn't starve other sources. Fetch which didn't
+ * complete within {@link #repositoryTimeout} is not being abandoned: next {@link #loadConfig()}
+ * joins it instead of issuing new one, so slow repository occupies at most one thread per config
+ * name. Optionally, if fetch didn't complete within {@link #hedgeDelay}, the same (hedged) fetch is
+ * issued once again and whichever completes first wins; fetch is hedged at most once, and at most
+ * {@link #MAX_HEDGES_IN_FLIGHT} hedged fetches of the source run at a time (others are skipped).
+ *
+ * <p>Source supports selective loading ({@link #loadConfig(PropertySelection)}): then only
+ * selected properties are fetched (if repository can narrow the fetch) or kept. Incrementally
+ * fetched view holds all properties, and selection is applied to its content.
  */
 public class KeyValueConfigSource implements ConfigSource {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(KeyValueConfigSource.class);
 
-  private static final ThreadFactory threadFactory;
+  private static final String THREAD_NAME = "keyvalue-config-executor";
 
-  static {
-    threadFactory =
-        r -> {
-          Thread thread = new Thread(r);
-          thread.setDaemon(true);
-          thread.setName("keyvalue-config-executor");
-          thread.setUncaughtExceptionHandler((t, e) -> LOGGER.error("Exception occurred", e));
-          return thread;
-        };
-  }
+  private static final int DEFAULT_EXECUTOR_QUEUE_SIZE = 64;
+
+  private static final int MAX_HEDGES_IN_FLIGHT = 2;
 
-  private static final Executor executor = Executors.newCachedThreadPool(threadFactory);
+  // keys of in-flight fetches, besides config names
+  private static final String BATCH_KEY = "batch";
+  private static final String CHANGES_KEY = "changes";
 
   private final KeyValueConfigRepository repository;
   private final Duration repositoryTimeout;
+  private final Duration hedgeDelay; // null means no hedging
+  private final Executor executor;
+  private final AtomicInteger hedgesInFlight = new AtomicInteger();
   private final List<KeyValueConfigName> configNames; // calculated field
 
+  // in-flight fetches by config name (or batch/changes key) and selection
+  private final Map<Object, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+
+  // materialized view for incremental fetch: config name -> prop name -> entity
+  private final Map<KeyValueConfigName, Map<String, KeyValueConfigEntity>> view = new HashMap<>();
+  private long viewVersion = -1; // guarded by view
+  private boolean resyncNeeded; // guarded by view
+  private WatchListener watchListener; // guarded by view
+  private AutoCloseable watch; // guarded by view
+
+  private final List<Consumer<Set<String>>> listeners = new CopyOnWriteArrayList<>();
+
   private KeyValueConfigSource(Builder builder) {
     this.repository = builder.repository;
     this.repositoryTimeout = builder.repositoryTimeout;
+    this.hedgeDelay = builder.hedgeDelay;
     this.configNames = configureConfigNames(builder.groupList, builder.collectionName);
+    // one thread per config name (or batch/changes fetch) and per hedged fetch
+    this.executor =
+        builder.executor != null
+            ? builder.executor
+            : newDefaultExecutor(configNames.size() + MAX_HEDGES_IN_FLIGHT);
+    this.configNames.forEach(configName -> view.put(configName, new HashMap<>()));
   }
 
   private static List<KeyValueConfigName> configureConfigNames(
@@ -70,6 +119,41 @@ private static List<KeyValueConfigName> configureConfigNames(
         .collect(Collectors.toList());
   }
 
+  /**
+   * Creates bounded executor (both threads and queue), threads of which are virtual ones if runtime
+   * supports them. Threads are released after being idle for a minute.
+   */
+  private static Executor newDefaultExecutor(int size) {
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            size,
+            size,
+            1,
+            TimeUnit.MINUTES,
+            new ArrayBlockingQueue<>(DEFAULT_EXECUTOR_QUEUE_SIZE),
+            newThreadFactory());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  private static ThreadFactory newThreadFactory() {
+    try {
+      // Thread.ofVirtual().name(THREAD_NAME).factory(), available since java 21
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      builder = builderClass.getMethod("name", String.class).invoke(builder, THREAD_NAME);
+      return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+    } catch (ReflectiveOperationException e) {
+      return r -> {
+        Thread thread = new Thread(r);
+        thread.setDaemon(true);
+        thread.setName(THREAD_NAME);
+        thread.setUncaughtExceptionHandler((t, ex) -> LOGGER.error("Exception occurred", ex));
+        return thread;
+      };
+    }
+  }
+
   public static Builder withRepository(KeyValueConfigRepository repository) {
     return new Builder(repository);
   }
@@ -78,17 +162,40 @@ public static Builder withRepository(KeyValueConfigRepository repository, String
     return new Builder(repository, collectionName);
   }
 
+  @Override
+  public Runnable subscribe(Consumer<Set<String>> listener) {
+    listeners.add(Objects.requireNonNull(listener));
+    return () -> listeners.remove(listener);
+  }
+
+  @Override
+  public boolean supportsSelection() {
+    return true;
+  }
+
   @Override
   public Map<String, ConfigProperty> loadConfig() {
-    List<CompletableFuture<List<KeyValueConfigEntity>>> futureList =
-        configNames.stream().map(this::loadConfig).collect(Collectors.toList());
+    return load(null);
+  }
 
-    CompletableFuture<Void> allResults =
-        CompletableFuture.allOf(futureList.toArray(new CompletableFuture[futureList.size()]));
+  @Override
+  public Map<String, ConfigProperty> loadConfig(PropertySelection selection) {
+    return load(Objects.requireNonNull(selection));
+  }
 
-    CompletableFuture<List<List<KeyValueConfigEntity>>> joinedFuture =
-        allResults.thenApply(
-            input -> futureList.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+  private Map<String, ConfigProperty> load(PropertySelection selection) {
+    // null selection means all properties, in-flight fetches of another selection aren't joined
+    CompletableFuture<List<List<KeyValueConfigEntity>>> joinedFuture;
+    if (repository.supportsChangedSince()) {
+      // view is taken after in-flight refresh completes, so it includes changes pushed meanwhile
+      joinedFuture =
+          singleFlight(CHANGES_KEY, () -> CompletableFuture.runAsync(this::refreshView, executor))
+              .thenApply(aVoid -> viewContent());
+    } else if (repository.supportsBatchFetch()) {
+      joinedFuture = loadBatch(selection);
+    } else {
+      joinedFuture = loadEach(selection);
+    }
 
     List<List<KeyValueConfigEntity>> resultList;
     try {
@@ -96,6 +203,7 @@ public Map<String, ConfigProperty> loadConfig() {
     } catch (ExecutionException e) {
       throw ThrowableUtil.propagate(e.getCause());
     } catch (TimeoutException e) {
+      // in-flight fetches are kept and get joined on next load
       String message =
           String.format("TimeoutException after '%s' millis", repositoryTimeout.toMillis());
       throw new ConfigSourceNotAvailableException(message, e);
@@ -107,6 +215,7 @@ public Map<String, ConfigProperty> loadConfig() {
     return resultList.stream()
         .flatMap(Collection::stream)
         .filter(i -> !i.getDisabled())
+        .filter(i -> selection == null || selection.matches(i.getPropName()))
         .collect(
             Collector.of(
                 (Supplier<TreeMap<String, ConfigProperty>>) TreeMap::new,
@@ -121,19 +230,329 @@ public Map<String, ConfigProperty> loadConfig() {
                 (map1, map2) -> map1));
   }
 
-  private CompletableFuture<List<KeyValueConfigEntity>> loadConfig(KeyValueConfigName configName) {
-    return CompletableFuture.supplyAsync(
+  private CompletableFuture<List<List<KeyValueConfigEntity>>> loadEach(
+      PropertySelection selection) {
+    List<CompletableFuture<List<KeyValueConfigEntity>>> futureList =
+        configNames.stream()
+            .map(configName -> loadConfig(configName, selection))
+            .collect(Collectors.toList());
+
+    CompletableFuture<Void> allResults =
+        CompletableFuture.allOf(futureList.toArray(new CompletableFuture<?>[0]));
+
+    return allResults.thenApply(
+        input -> futureList.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+  }
+
+  private CompletableFuture<List<List<KeyValueConfigEntity>>> loadBatch(
+      PropertySelection selection) {
+    return singleFlight(
+            Arrays.asList(BATCH_KEY, selection),
+            () ->
+                hedged(
+                    () ->
+                        selection != null
+                            ? repository.findAllBatch(configNames, selection)
+                            : repository.findAllBatch(configNames)))
+        .exceptionally(
+            e -> {
+              LOGGER.warn(
+                  "[loadBatch] Exception occurred, configNames: {}", configNames, unwrap(e));
+              return Collections.emptyMap();
+            })
+        .thenApply(
+            result -> {
+              List<List<KeyValueConfigEntity>> resultList = new ArrayList<>(configNames.size());
+              for (KeyValueConfigName configName : configNames) {
+                resultList.add(result.getOrDefault(configName, Collections.emptyList()));
+              }
+              return resultList;
+            });
+  }
+
+  /**
+   * Fetches changes since last seen version and applies them to materialized {@link #view}. In
+   * case of failure keeps previously materialized view. While watch is active the view is up to
+   * date and no fetch is done. Repository is being called without holding the lock, so that
+   * watch isn't blocked by slow fetch; fetched changes are dropped if view moved on meanwhile.
+   */
+  private void refreshView() {
+    long fromVersion;
+    synchronized (view) {
+      if (watchListener != null) {
+        return;
+      }
+      fromVersion = resyncNeeded ? -1 : viewVersion;
+    }
+    KeyValueConfigChanges changes;
+    try {
+      changes = repository.findChangedSince(configNames, fromVersion);
+    } catch (Exception e) {
+      LOGGER.warn(
+          "[loadChanges] Exception occurred, configNames: {}, version: {}",
+          configNames,
+          fromVersion,
+          e);
+      return;
+    }
+    long version;
+    synchronized (view) {
+      if (watchListener != null || fromVersion != (resyncNeeded ? -1 : viewVersion)) {
+        return; // refreshed or invalidated meanwhile
+      }
+      if (fromVersion < 0) {
+        view.values().forEach(Map::clear);
+      }
+      applyChanges(changes.getEntities());
+      viewVersion = changes.getVersion();
+      resyncNeeded = false;
+      version = viewVersion;
+    }
+    if (repository.supportsWatch()) {
+      startWatch(version);
+    }
+  }
+
+  private List<List<KeyValueConfigEntity>> viewContent() {
+    List<List<KeyValueConfigEntity>> resultList = new ArrayList<>(configNames.size());
+    synchronized (view) {
+      for (KeyValueConfigName configName : configNames) {
+        resultList.add(new ArrayList<>(view.get(configName).values()));
+      }
+    }
+    return resultList;
+  }
+
+  /**
+   * Applies changes to materialized {@link #view}, must be called under lock.
+   *
+   * @return names of changed properties
+   */
+  private Set<String> applyChanges(List<KeyValueConfigEntity> entities) {
+    Set<String> names = new TreeSet<>();
+    for (KeyValueConfigEntity entity : entities) {
+      Map<String, KeyValueConfigEntity> entries = view.get(entity.getConfigName());
+      if (entries == null) {
+        continue; // not ours
+      }
+      if (entity.getDisabled()) {
+        if (entries.remove(entity.getPropName()) != null) {
+          names.add(entity.getPropName());
+        }
+      } else {
+        entries.put(entity.getPropName(), entity);
+        names.add(entity.getPropName());
+      }
+    }
+    return names;
+  }
+
+  /**
+   * Starts watch from given version. Repository is being called without holding the lock, since
+   * repository may push changes synchronously from within the call.
+   */
+  private void startWatch(long version) {
+    WatchListener listener = new WatchListener();
+    synchronized (view) {
+      if (watchListener != null || viewVersion != version) {
+        return; // already started, or view changed meanwhile
+      }
+      watchListener = listener;
+    }
+    AutoCloseable handle;
+    try {
+      handle = repository.watch(configNames, version, listener);
+    } catch (Exception e) {
+      LOGGER.warn(
+          "[startWatch] Exception occurred, configNames: {}, version: {}", configNames, version, e);
+      synchronized (view) {
+        if (watchListener == listener) {
+          watchListener = null;
+        }
+      }
+      return;
+    }
+    synchronized (view) {
+      if (watchListener == listener) {
+        watch = handle;
+        return;
+      }
+    }
+    close(handle); // watch was broken before it got started
+  }
+
+  /** Stops watch, must be called under lock. */
+  private void stopWatch() {
+    AutoCloseable handle = watch;
+    watchListener = null;
+    watch = null;
+    if (handle != null) {
+      close(handle);
+    }
+  }
+
+  private static void close(AutoCloseable handle) {
+    try {
+      handle.close();
+    } catch (Exception e) {
+      LOGGER.warn("[close] Exception occurred on closing watch", e);
+    }
+  }
+
+  private void notifyListeners(Set<String> names) {
+    for (Consumer<Set<String>> listener : listeners) {
+      try {
+        listener.accept(names);
+      } catch (Exception e) {
+        LOGGER.error("[notifyListeners] Exception occurred, listener: {}", listener, e);
+      }
+    }
+  }
+
+  private CompletableFuture<List<KeyValueConfigEntity>> loadConfig(
+      KeyValueConfigName configName, PropertySelection selection) {
+    return singleFlight(
+            Arrays.asList(configName, selection),
+            () ->
+                hedged(
+                    () ->
+                        selection != null
+                            ? repository.findAll(configName, selection)
+                            : repository.findAll(configName)))
+        .exceptionally(
+            e -> {
+              LOGGER.warn("[loadConfig] Exception occurred, configName: {}", configName, unwrap(e));
+              return Collections.emptyList();
+            });
+  }
+
+  /**
+   * Returns in-flight fetch by the given key, or starts new one.
+   *
+   * @param key config name (or batch/changes key) along with selection
+   * @param fetch starts fetch
+   * @param <T> type of result
+   * @return fetch result
+   */
+  @SuppressWarnings("unchecked") // fetches of the same key are of the same type
+  private <T> CompletableFuture<T> singleFlight(Object key, Supplier<CompletableFuture<T>> fetch) {
+    CompletableFuture<?> future = inFlight.computeIfAbsent(key, k -> fetch.get());
+    future.whenComplete((result, throwable) -> inFlight.remove(key, future));
+    return (CompletableFuture<T>) future;
+  }
+
+  /**
+   * Runs fetch on {@link #executor}, and if it didn't complete within {@link #hedgeDelay} runs it
+   * once again, unless {@link #MAX_HEDGES_IN_FLIGHT} hedged fetches already run or executor rejects
+   * it. Result is the first successful one, or the last failure.
+   */
+  private <T> CompletableFuture<T> hedged(Callable<T> fetch) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    AtomicInteger attemptsLeft = new AtomicInteger(hedgeDelay != null ? 2 : 1);
+    AtomicReference<Throwable> lastFailure = new AtomicReference<>();
+    Consumer<Throwable> onFailure = // null failure means skipped attempt
+        e -> {
+          if (e != null) {
+            lastFailure.set(e);
+          }
+          if (attemptsLeft.decrementAndGet() == 0) {
+            result.completeExceptionally(lastFailure.get());
+          }
+        };
+    Runnable attempt =
         () -> {
-          List<KeyValueConfigEntity> result;
+          if (result.isDone()) {
+            return; // hedged fetch is not needed
+          }
           try {
-            result = repository.findAll(configName);
-          } catch (Exception e) {
-            LOGGER.warn("[loadConfig] Exception occurred, configName: {}", configName, e);
-            result = Collections.emptyList();
+            result.complete(fetch.call());
+          } catch (Throwable e) {
+            onFailure.accept(e);
           }
-          return result;
-        },
-        executor);
+        };
+    try {
+      executor.execute(attempt);
+    } catch (RejectedExecutionException e) {
+      onFailure.accept(e);
+    }
+    if (hedgeDelay != null) {
+      CompletableFuture.delayedExecutor(hedgeDelay.toMillis(), TimeUnit.MILLISECONDS)
+          .execute(() -> hedge(result, attempt, onFailure));
+    }
+    return result;
+  }
+
+  private void hedge(CompletableFuture<?> result, Runnable attempt, Consumer<Throwable> onFailure) {
+    if (result.isDone()) {
+      return; // hedged fetch is not needed
+    }
+    if (hedgesInFlight.incrementAndGet() > MAX_HEDGES_IN_FLIGHT) {
+      hedgesInFlight.decrementAndGet();
+      onFailure.accept(null);
+      return;
+    }
+    try {
+      executor.execute(
+          () -> {
+            try {
+              attempt.run();
+            } finally {
+              hedgesInFlight.decrementAndGet();
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      hedgesInFlight.decrementAndGet();
+      onFailure.accept(null);
+    }
+  }
+
+  private static Throwable unwrap(Throwable throwable) {
+    return throwable instanceof CompletionException && throwable.getCause() != null
+        ? throwable.getCause()
+        : throwable;
+  }
+
+  private class WatchListener implements KeyValueConfigWatchListener {
+
+    @Override
+    public void onChanges(long fromVersion, KeyValueConfigChanges changes) {
+      Set<String> names;
+      synchronized (view) {
+        if (watchListener != this) {
+          return; // stale
+        }
+        if (fromVersion > viewVersion) {
+          LOGGER.warn(
+              "[onChanges] Missed changes from version: {} to version: {}, will resync",
+              viewVersion,
+              fromVersion);
+          stopWatch();
+          resyncNeeded = true;
+          names = null;
+        } else if (changes.getVersion() <= viewVersion) {
+          return; // already seen
+        } else {
+          names = applyChanges(changes.getEntities());
+          viewVersion = changes.getVersion();
+          if (names.isEmpty()) {
+            return;
+          }
+        }
+      }
+      notifyListeners(names);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      synchronized (view) {
+        if (watchListener != this) {
+          return; // stale
+        }
+        stopWatch();
+      }
+      LOGGER.warn("[onError] Watch is broken, configNames: {}", configNames, throwable);
+      notifyListeners(null);
+    }
   }
 
   public static class Builder {
@@ -144,6 +563,8 @@ public static class Builder {
     private final String collectionName;
     private List<String> groupList = new ArrayList<>();
     private Duration repositoryTimeout = DEFAULT_REPOSITORY_TIMEOUT;
+    private Duration hedgeDelay;
+    private Executor executor; // null means own bounded executor
 
     private Builder(KeyValueConfigRepository repository) {
       this(repository, DEFAULT_COLLECTION_NAME);
@@ -169,6 +590,30 @@ public Builder repositoryTimeout(Duration repositoryTimeout) {
       return this;
     }
 
+    /**
+     * Enables hedged fetch: if fetch didn't complete within given delay, it's issued once again
+     * and whichever completes first wins. Doesn't apply to incremental fetch. Disabled by default.
+     *
+     * @param hedgeDelay delay before hedged fetch, null disables hedging
+     * @return this builder
+     */
+    public Builder hedgeDelay(Duration hedgeDelay) {
+      this.hedgeDelay = hedgeDelay;
+      return this;
+    }
+
+    /**
+     * Sets executor to run repository calls on. By default each source creates its own bounded
+     * executor, threads of which are released when idle.
+     *
+     * @param executor executor
+     * @return this builder
+     */
+    public Builder executor(Executor executor) {
+      this.executor = Objects.requireNonNull(executor);
+      return this;
+    }
+
     public KeyValueConfigSource build() {
       return new KeyValueConfigSource(this);
     }
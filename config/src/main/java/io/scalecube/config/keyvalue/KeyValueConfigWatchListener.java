@@ -0,0 +1,26 @@
+package io.scalecube.config.keyvalue;
+
+import java.util.List;
+
+/**
+ * Listener of changes pushed by {@link KeyValueConfigRepository#watch(List, long,
+ * KeyValueConfigWatchListener)}.
+ */
+public interface KeyValueConfigWatchListener {
+
+  /**
+   * Called on every change of data source. Changes must be delivered in order, one call at a time.
+   *
+   * @param fromVersion version changes were made after, i.e. version of previous changes; in case
+   *     it's greater than version of previously received changes then some changes were missed.
+   * @param changes changed entries and version they are up to.
+   */
+  void onChanges(long fromVersion, KeyValueConfigChanges changes);
+
+  /**
+   * Called when watch is broken, no more changes will be delivered after this call.
+   *
+   * @param throwable cause.
+   */
+  void onError(Throwable throwable);
+}
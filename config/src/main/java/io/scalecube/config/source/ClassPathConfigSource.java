@@ -11,12 +11,16 @@
 import java.net.URLClassLoader;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -25,6 +29,7 @@
 import java.util.Set;
 import java.util.StringJoiner;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.jar.Attributes;
 import java.util.jar.JarEntry;
@@ -38,7 +43,12 @@ public final class ClassPathConfigSource extends FilteredPathConfigSource {
   private static final String PATH_SEPARATOR = System.getProperty("path.separator");
   private static final String CLASSPATH_ATTIBUTE_MANIFEST_SEPARATOR = " ";
 
-  private Map<String, ConfigProperty> loadedConfig;
+  private final ClassLoader classLoader;
+  private final boolean targetedScan;
+  private final boolean resourceIndex;
+  private final boolean reloadable;
+
+  private volatile LoadedState loadedState; // replaced as a whole on (re)load
 
   /**
    * Constructor.
@@ -56,6 +66,35 @@ public ClassPathConfigSource(Predicate<Path> predicate) {
    */
   public ClassPathConfigSource(List<Predicate<Path>> predicates) {
     super(predicates);
+    this.classLoader = ClassPathConfigSource.class.getClassLoader();
+    this.targetedScan = false;
+    this.resourceIndex = false;
+    this.reloadable = false;
+  }
+
+  private ClassPathConfigSource(Builder builder) {
+    super(builder.predicates);
+    this.classLoader = builder.classLoader;
+    this.targetedScan = builder.targetedScan;
+    this.resourceIndex = builder.resourceIndex;
+    this.reloadable = builder.reloadable;
+  }
+
+  public static Builder withPredicates(List<Predicate<Path>> predicates) {
+    return new Builder(predicates);
+  }
+
+  /**
+   * Creates builder using filename plus its prefixPatterns.
+   *
+   * @param filename filename for template of configuration property file
+   * @param prefixPatterns list of prefixPatterns (comma separated list of strings)
+   * @return builder instance
+   */
+  public static Builder withPattern(String filename, List<String> prefixPatterns) {
+    Objects.requireNonNull(filename, "ClassPathConfigSource: filename is required");
+    Objects.requireNonNull(prefixPatterns, "ClassPathConfigSource: prefixPatterns is required");
+    return new Builder(preparePatternPredicates(filename, prefixPatterns));
   }
 
   /**
@@ -87,36 +126,78 @@ public static ClassPathConfigSource createWithPattern(
 
   @Override
   public Map<String, ConfigProperty> loadConfig() {
-    if (loadedConfig != null) {
-      return loadedConfig;
+    LoadedState state = loadedState;
+    if (state != null) {
+      if (reloadable) {
+        // racing reloads may publish older state, its changed files are detected by next reload
+        loadedState = state = reloadMatchedConfig(state);
+      }
+      return state.config;
     }
 
-    Collection<Path> pathCollection = new ArrayList<>();
-    getClassPathEntries(getClass().getClassLoader()).stream()
-        .filter(uri -> uri.getScheme().equals("file"))
-        .forEach(
-            uri -> {
-              File file = new File(uri);
-              if (!file.exists()) {
-                return;
-              }
-              try {
-                if (file.isDirectory()) {
-                  Set<File> currentPath =
-                      new HashSet<>(Collections.singleton(file.getCanonicalFile()));
-                  scanDirectory(file, "", currentPath, pathCollection);
-                } else {
-                  scanJar(file, pathCollection);
-                }
-              } catch (Exception e) {
-                throw ThrowableUtil.propagate(e);
-              }
-            });
+    Collection<URI> classPathEntries =
+        getClassPathEntries(classLoader).stream()
+            .filter(uri -> uri.getScheme().equals("file"))
+            .collect(Collectors.toList());
+
+    Collection<Path> pathCollection =
+        targetedScan ? scanTargeted(classPathEntries) : scanAll(classPathEntries);
 
+    Map<Path, Map<String, String>> configMap = loadConfigMap(pathCollection);
+    Map<Path, FileTime> lastModifiedTimes = new HashMap<>();
+    if (reloadable) {
+      for (Path path : configMap.keySet()) {
+        // only files of default file system (i.e. exploded directories) are tracked
+        if (path.getFileSystem() == FileSystems.getDefault()) {
+          lastModifiedTimes.put(path, getLastModifiedTime(path));
+        }
+      }
+    }
+
+    state = new LoadedState(collectConfig(configMap), configMap, lastModifiedTimes);
+    loadedState = state;
+    return state.config;
+  }
+
+  /**
+   * Re-stats only files matched by the first scan, re-parses changed ones and re-collects result if
+   * anything changed. Files which appeared after the first scan are not detected.
+   */
+  private LoadedState reloadMatchedConfig(LoadedState state) {
+    Map<Path, Map<String, String>> matchedConfigMap = null; // copied on first change
+    Map<Path, FileTime> lastModifiedTimes = null;
+    for (Map.Entry<Path, FileTime> entry : state.lastModifiedTimes.entrySet()) {
+      Path path = entry.getKey();
+      FileTime lastModifiedTime = getLastModifiedTime(path);
+      if (!Objects.equals(lastModifiedTime, entry.getValue())) {
+        if (matchedConfigMap == null) {
+          matchedConfigMap = new HashMap<>(state.matchedConfigMap);
+          lastModifiedTimes = new HashMap<>(state.lastModifiedTimes);
+        }
+        matchedConfigMap.put(
+            path, lastModifiedTime != null ? loadProperties(path) : Collections.emptyMap());
+        lastModifiedTimes.put(path, lastModifiedTime);
+      }
+    }
+    if (matchedConfigMap == null) {
+      return state;
+    }
+    return new LoadedState(collectConfig(matchedConfigMap), matchedConfigMap, lastModifiedTimes);
+  }
+
+  private static FileTime getLastModifiedTime(Path path) {
+    try {
+      return Files.getLastModifiedTime(path);
+    } catch (IOException e) {
+      return null; // file is gone
+    }
+  }
+
+  private Map<String, ConfigProperty> collectConfig(Map<Path, Map<String, String>> configMap) {
     Map<String, ConfigProperty> result = new TreeMap<>();
     filterAndCollectInOrder(
         predicates.iterator(),
-        loadConfigMap(pathCollection),
+        configMap,
         (path, map) ->
             map.entrySet()
                 .forEach(
@@ -126,7 +207,105 @@ public Map<String, ConfigProperty> loadConfig() {
                             LoadedConfigProperty.withNameAndValue(entry)
                                 .origin(path.toString())
                                 .build())));
-    return loadedConfig = result;
+    return result;
+  }
+
+  private static Collection<Path> scanAll(Collection<URI> classPathEntries) {
+    Collection<Path> pathCollection = new ArrayList<>();
+    classPathEntries.forEach(
+        uri -> {
+          File file = new File(uri);
+          if (!file.exists()) {
+            return;
+          }
+          try {
+            if (file.isDirectory()) {
+              Set<File> currentPath =
+                  new HashSet<>(Collections.singleton(file.getCanonicalFile()));
+              scanDirectory(file, "", currentPath, pathCollection, path -> true);
+            } else {
+              scanJar(file, pathCollection);
+            }
+          } catch (Exception e) {
+            throw ThrowableUtil.propagate(e);
+          }
+        });
+    return pathCollection;
+  }
+
+  /**
+   * Scans classpath entries in parallel collecting only paths which match predicates, class files
+   * are skipped by name before any predicate is evaluated. Result preserves classpath order.
+   */
+  private Collection<Path> scanTargeted(Collection<URI> classPathEntries) {
+    Set<File> visited = ConcurrentHashMap.newKeySet();
+    return classPathEntries.parallelStream()
+        .map(uri -> scanTargeted(new File(uri), visited))
+        .flatMap(Collection::stream)
+        .collect(Collectors.toList());
+  }
+
+  private Collection<Path> scanTargeted(File file, Set<File> visited) {
+    Collection<Path> collector = new ArrayList<>();
+    try {
+      if (!file.exists() || !visited.add(file.getCanonicalFile())) {
+        return collector;
+      }
+      if (file.isDirectory()) {
+        List<String> index = resourceIndex ? ClassPathResourceIndex.read(file) : null;
+        if (index != null) {
+          index.stream()
+              .map(name -> new File(file, name).toPath())
+              .filter(this::isCandidate)
+              .forEach(collector::add);
+        } else {
+          Set<File> currentPath = new HashSet<>(Collections.singleton(file.getCanonicalFile()));
+          scanDirectory(file, "", currentPath, collector, this::isCandidate);
+        }
+      } else {
+        scanJarTargeted(file, visited, collector);
+      }
+    } catch (Exception e) {
+      throw ThrowableUtil.propagate(e);
+    }
+    return collector;
+  }
+
+  /**
+   * Predicates are evaluated against entry-relative path first, so that zip file system is opened
+   * only for jars having matching entries.
+   */
+  private void scanJarTargeted(File file, Set<File> visited, Collection<Path> collector)
+      throws IOException {
+    List<String> names;
+    try (JarFile jarFile = new JarFile(file)) {
+      for (File path : getClassPathFromManifest(file, jarFile.getManifest())) {
+        collector.addAll(scanTargeted(path, visited));
+      }
+      List<String> index = resourceIndex ? ClassPathResourceIndex.read(jarFile) : null;
+      names =
+          (index != null
+                  ? index.stream()
+                  : jarFile.stream()
+                      .filter(entry -> !entry.isDirectory())
+                      .map(JarEntry::getName))
+              .filter(ClassPathResourceIndex::isIndexable)
+              .filter(name -> isCandidate(Paths.get(name)))
+              .collect(Collectors.toList());
+    }
+    if (names.isEmpty()) {
+      return;
+    }
+    try (FileSystem zipfs = FileSystems.newFileSystem(file.toPath(), (ClassLoader) null)) {
+      names.forEach(name -> collector.add(zipfs.getPath(name)));
+    }
+  }
+
+  private boolean isCandidate(Path path) {
+    Path fileName = path.getFileName();
+    return fileName != null
+        && !fileName.toString().endsWith(ClassPathResourceIndex.CLASS_FILE_SUFFIX)
+        && predicates.stream().anyMatch(predicate -> predicate.test(path));
   }
 
   private static Collection<URI> getClassPathEntries(ClassLoader classloader) {
@@ -181,7 +360,11 @@ private static Collection<URL> parseJavaClassPath() {
   }
 
   private static void scanDirectory(
-      File directory, String prefix, Set<File> currentPath, Collection<Path> collector)
+      File directory,
+      String prefix,
+      Set<File> currentPath,
+      Collection<Path> collector,
+      Predicate<Path> filter)
       throws IOException {
 
     File[] files = directory.listFiles();
@@ -194,13 +377,16 @@ private static void scanDirectory(
       if (f.isDirectory()) {
         File deref = f.getCanonicalFile();
         if (currentPath.add(deref)) {
-          scanDirectory(deref, prefix + name + "/", currentPath, collector);
+          scanDirectory(deref, prefix + name + "/", currentPath, collector, filter);
           currentPath.remove(deref);
         }
       } else {
         String resourceName = prefix + name;
         if (!resourceName.equals(JarFile.MANIFEST_NAME)) {
-          collector.add(f.toPath());
+          Path path = f.toPath();
+          if (filter.test(path)) {
+            collector.add(path);
+          }
         }
       }
     }
@@ -268,7 +454,7 @@ private static void scanFrom(File file, Collection<Path> collector) throws IOExc
     }
     if (file.isDirectory()) {
       Set<File> currentPath = new HashSet<>(Collections.singleton(file.getCanonicalFile()));
-      scanDirectory(file, "", currentPath, collector);
+      scanDirectory(file, "", currentPath, collector, path -> true);
     } else {
       scanJar(file, collector);
     }
@@ -277,7 +463,91 @@ private static void scanFrom(File file, Collection<Path> collector) throws IOExc
   @Override
   public String toString() {
     return new StringJoiner(", ", ClassPathConfigSource.class.getSimpleName() + "[", "]")
-        .add("classLoader=" + getClass().getClassLoader())
+        .add("classLoader=" + classLoader)
+        .add("targetedScan=" + targetedScan)
+        .add("resourceIndex=" + resourceIndex)
+        .add("reloadable=" + reloadable)
         .toString();
   }
+
+  /** Immutable result of the last (re)load. */
+  private static final class LoadedState {
+
+    private final Map<String, ConfigProperty> config;
+    private final Map<Path, Map<String, String>> matchedConfigMap; // reloadable mode only
+    private final Map<Path, FileTime> lastModifiedTimes; // reloadable mode only
+
+    private LoadedState(
+        Map<String, ConfigProperty> config,
+        Map<Path, Map<String, String>> matchedConfigMap,
+        Map<Path, FileTime> lastModifiedTimes) {
+      this.config = Collections.unmodifiableMap(config);
+      this.matchedConfigMap = Collections.unmodifiableMap(matchedConfigMap);
+      this.lastModifiedTimes = Collections.unmodifiableMap(lastModifiedTimes);
+    }
+  }
+
+  public static class Builder {
+    private final List<Predicate<Path>> predicates;
+    private ClassLoader classLoader = ClassPathConfigSource.class.getClassLoader();
+    private boolean targetedScan;
+    private boolean resourceIndex;
+    private boolean reloadable;
+
+    private Builder(List<Predicate<Path>> predicates) {
+      this.predicates = Objects.requireNonNull(predicates);
+    }
+
+    /**
+     * Setter for class loader which classpath is scanned, by default it's class loader of this
+     * class.
+     *
+     * @param classLoader class loader
+     * @return builder instance
+     */
+    public Builder classLoader(ClassLoader classLoader) {
+      this.classLoader = Objects.requireNonNull(classLoader);
+      return this;
+    }
+
+    /**
+     * Enables targeted scan mode: predicates are pushed down into the scan, class files are skipped
+     * early, and classpath entries are scanned in parallel.
+     *
+     * @return builder instance
+     */
+    public Builder targetedScan() {
+      this.targetedScan = true;
+      return this;
+    }
+
+    /**
+     * Enables use of build-time generated {@link ClassPathResourceIndex} (if it's present in
+     * classpath entry) instead of walking the entry. Implies targeted scan mode.
+     *
+     * @return builder instance
+     */
+    public Builder resourceIndex() {
+      this.targetedScan = true;
+      this.resourceIndex = true;
+      return this;
+    }
+
+    /**
+     * Enables reloadable mode: files matched by the first scan are remembered together with their
+     * last modified times, and on every subsequent load only those files are re-checked, changed
+     * ones are re-parsed. Useful for exploded classpath directories (dev mode), files packed into
+     * jars are not tracked.
+     *
+     * @return builder instance
+     */
+    public Builder reloadable() {
+      this.reloadable = true;
+      return this;
+    }
+
+    public ClassPathConfigSource build() {
+      return new ClassPathConfigSource(this);
+    }
+  }
 }
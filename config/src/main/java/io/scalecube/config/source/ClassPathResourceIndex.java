@@ -0,0 +1,120 @@
+package io.scalecube.config.source;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Build-time generated index of non-class resources of a classpath entry (directory or jar). When
+ * present, {@link ClassPathConfigSource} in targeted scan mode reads resource names from the index
+ * instead of walking the directory tree or enumerating jar entries.
+ *
+ * <p>Index is a plain UTF-8 text file located at {@link #INDEX_NAME}, one resource name per line
+ * (relative to the classpath entry root, with '/' as separator). It can be generated at build time
+ * (for example at maven {@code process-classes} phase) by running {@link #main(String[])} against
+ * the classes output directory.
+ */
+public final class ClassPathResourceIndex {
+
+  public static final String INDEX_NAME = "META-INF/scalecube/config-resources.idx";
+
+  static final String CLASS_FILE_SUFFIX = ".class";
+
+  private ClassPathResourceIndex() {
+    // Do not instantiate
+  }
+
+  /**
+   * Generates resource index for every given classes directory.
+   *
+   * @param args classes directories
+   * @throws IOException in case index couldn't be written
+   */
+  public static void main(String[] args) throws IOException {
+    for (String arg : args) {
+      write(Paths.get(arg));
+    }
+  }
+
+  /**
+   * Writes resource index for the given classes directory, overwrites existing index if any.
+   *
+   * @param root classes directory
+   * @return path of written index file
+   * @throws IOException in case directory couldn't be walked or index couldn't be written
+   */
+  public static Path write(Path root) throws IOException {
+    List<String> names;
+    try (Stream<Path> stream = Files.walk(root)) {
+      names =
+          stream
+              .filter(Files::isRegularFile)
+              .map(path -> root.relativize(path).toString().replace(File.separatorChar, '/'))
+              .filter(ClassPathResourceIndex::isIndexable)
+              .sorted()
+              .collect(Collectors.toList());
+    }
+    Path index = root.resolve(INDEX_NAME);
+    Files.createDirectories(index.getParent());
+    return Files.write(index, names, StandardCharsets.UTF_8);
+  }
+
+  static boolean isIndexable(String resourceName) {
+    return !resourceName.endsWith(CLASS_FILE_SUFFIX)
+        && !resourceName.equals(JarFile.MANIFEST_NAME)
+        && !resourceName.equals(INDEX_NAME);
+  }
+
+  /**
+   * Reads resource index from the classes directory.
+   *
+   * @return list of resource names, or null if index doesn't exist
+   */
+  static List<String> read(File directory) throws IOException {
+    File index = new File(directory, INDEX_NAME);
+    if (!index.isFile()) {
+      return null;
+    }
+    return Files.readAllLines(index.toPath(), StandardCharsets.UTF_8).stream()
+        .map(String::trim)
+        .filter(line -> !line.isEmpty())
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Reads resource index from the jar file.
+   *
+   * @return list of resource names, or null if index doesn't exist
+   */
+  static List<String> read(JarFile jarFile) throws IOException {
+    JarEntry entry = jarFile.getJarEntry(INDEX_NAME);
+    if (entry == null) {
+      return null;
+    }
+    List<String> result = new ArrayList<>();
+    try (InputStream is = jarFile.getInputStream(entry);
+        BufferedReader reader =
+            new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        line = line.trim();
+        if (!line.isEmpty()) {
+          result.add(line);
+        }
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,145 @@
+package io.scalecube.config.source;
+
+import static io.scalecube.config.source.ConfigBundleFormat.ENTRY_SIZE;
+import static io.scalecube.config.source.ConfigBundleFormat.HEADER_SIZE;
+import static io.scalecube.config.source.ConfigBundleFormat.NULL;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Compiles property files into binary config bundle, to be memory-mapped by {@link
+ * ConfigBundleConfigSource} instead of being parsed on every start and reload. Properties are
+ * sorted by name and every distinct string is stored once. Can be run as build step:
+ *
+ * <pre>
+ * java -cp ... io.scalecube.config.source.ConfigBundleCompiler out.bundle a.properties b.properties
+ * </pre>
+ *
+ * <p>Property defined in several files is taken from the first one. Bundle is written to temporary
+ * file which then replaces output file atomically, so that readers never see partial bundle.
+ */
+public final class ConfigBundleCompiler {
+
+  private ConfigBundleCompiler() {
+    // Do not instantiate
+  }
+
+  /**
+   * Compiles property files given after output file.
+   *
+   * @param args output bundle file followed by property files
+   */
+  public static void main(String[] args) {
+    if (args.length < 2) {
+      System.err.println(
+          "Usage: ConfigBundleCompiler <output bundle> <properties file> [<properties file>...]");
+      System.exit(1);
+    }
+    List<Path> inputs =
+        Arrays.stream(args, 1, args.length).map(Paths::get).collect(Collectors.toList());
+    int count = compile(inputs, Paths.get(args[0]));
+    System.out.println("Compiled " + count + " properties into " + args[0]);
+  }
+
+  /**
+   * Compiles given property files into bundle.
+   *
+   * @param inputs property files, in order of precedence
+   * @param output bundle file
+   * @return number of compiled properties
+   */
+  public static int compile(List<Path> inputs, Path output) {
+    Map<String, LoadedConfigProperty> properties = new TreeMap<>();
+    for (Path input : inputs) {
+      FilteredPathConfigSource.loadProperties(input)
+          .forEach(
+              (name, value) ->
+                  properties.putIfAbsent(
+                      name,
+                      LoadedConfigProperty.withNameAndValue(name, value)
+                          .origin(input.toString())
+                          .build()));
+    }
+
+    Path parent = output.toAbsolutePath().getParent();
+    try {
+      Path temp = Files.createTempFile(parent, output.getFileName().toString(), ".tmp");
+      try {
+        try (OutputStream out = Files.newOutputStream(temp)) {
+          write(properties, out);
+        }
+        move(temp, output);
+      } finally {
+        Files.deleteIfExists(temp);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to compile config bundle: " + output, e);
+    }
+    return properties.size();
+  }
+
+  private static void move(Path source, Path target) throws IOException {
+    try {
+      Files.move(
+          source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private static void write(Map<String, LoadedConfigProperty> properties, OutputStream output)
+      throws IOException {
+    ByteArrayOutputStream stringBytes = new ByteArrayOutputStream();
+    DataOutputStream strings = new DataOutputStream(stringBytes);
+    Map<String, Integer> stringOffsets = new HashMap<>();
+
+    ByteArrayOutputStream entryBytes = new ByteArrayOutputStream();
+    DataOutputStream entries = new DataOutputStream(entryBytes);
+    for (LoadedConfigProperty property : properties.values()) { // sorted by name
+      entries.writeInt(stringOffset(property.name(), strings, stringOffsets));
+      entries.writeInt(stringOffset(property.valueAsString(null), strings, stringOffsets));
+      entries.writeInt(stringOffset(property.origin().orElse(null), strings, stringOffsets));
+    }
+
+    DataOutputStream out = new DataOutputStream(output);
+    out.writeInt(ConfigBundleFormat.MAGIC);
+    out.writeInt(ConfigBundleFormat.VERSION);
+    out.writeInt(properties.size());
+    out.writeInt(HEADER_SIZE + properties.size() * ENTRY_SIZE);
+    entryBytes.writeTo(out);
+    stringBytes.writeTo(out);
+    out.flush();
+  }
+
+  private static int stringOffset(
+      String str, DataOutputStream strings, Map<String, Integer> stringOffsets) throws IOException {
+    if (str == null) {
+      return NULL;
+    }
+    Integer offset = stringOffsets.get(str);
+    if (offset == null) {
+      offset = strings.size();
+      byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+      strings.writeInt(bytes.length);
+      strings.write(bytes);
+      stringOffsets.put(str, offset);
+    }
+    return offset;
+  }
+}
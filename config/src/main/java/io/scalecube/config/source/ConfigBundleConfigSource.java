@@ -0,0 +1,272 @@
+package io.scalecube.config.source;
+
+import static io.scalecube.config.source.ConfigBundleFormat.COUNT_OFFSET;
+import static io.scalecube.config.source.ConfigBundleFormat.ENTRY_SIZE;
+import static io.scalecube.config.source.ConfigBundleFormat.HEADER_SIZE;
+import static io.scalecube.config.source.ConfigBundleFormat.NAME;
+import static io.scalecube.config.source.ConfigBundleFormat.NULL;
+import static io.scalecube.config.source.ConfigBundleFormat.ORIGIN;
+import static io.scalecube.config.source.ConfigBundleFormat.STRINGS_OFFSET;
+import static io.scalecube.config.source.ConfigBundleFormat.VALUE;
+
+import io.scalecube.config.ConfigProperty;
+import io.scalecube.config.ConfigSourceNotAvailableException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Config source reading binary config bundle compiled by {@link ConfigBundleCompiler}. Bundle is
+ * memory-mapped and properties are decoded lazily, on first access: loaded map looks properties up
+ * by binary search over sorted names, so load costs a few page faults rather than parsing. Bundle
+ * is re-mapped only when its file is replaced, otherwise the same map is returned on reload.
+ *
+ * <p>Source supports selective loading ({@link #loadConfig(PropertySelection)}): then only
+ * selected names and ranges of selected prefixes are decoded. Properties of the last selection are
+ * kept until bundle is re-mapped or another selection is loaded.
+ */
+public final class ConfigBundleConfigSource implements ConfigSource {
+
+  private final Path file;
+
+  private Bundle bundle; // guarded by this
+  private PropertySelection lastSelection; // guarded by this
+  private Map<String, ConfigProperty> selectedProperties; // guarded by this, of lastSelection
+
+  /**
+   * Constructor.
+   *
+   * @param file bundle file
+   */
+  public ConfigBundleConfigSource(Path file) {
+    this.file = Objects.requireNonNull(file, "ConfigBundleConfigSource: file is required");
+  }
+
+  @Override
+  public synchronized Map<String, ConfigProperty> loadConfig() {
+    return map();
+  }
+
+  @Override
+  public synchronized Map<String, ConfigProperty> loadConfig(PropertySelection selection) {
+    Objects.requireNonNull(selection);
+    Bundle bundle = map(); // resets last selection if re-mapped
+    if (!selection.equals(lastSelection)) {
+      selectedProperties = bundle.select(selection);
+      lastSelection = selection;
+    }
+    return selectedProperties;
+  }
+
+  /** Maps bundle file, unless it's already mapped and wasn't replaced since. */
+  private Bundle map() {
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+      String fileVersion =
+          attributes.fileKey() + ":" + attributes.lastModifiedTime() + ":" + attributes.size();
+      if (bundle != null && bundle.version.equals(fileVersion)) {
+        return bundle;
+      }
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+        bundle =
+            new Bundle(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), fileVersion);
+        selectedProperties = null;
+        lastSelection = null;
+        return bundle;
+      }
+    } catch (ConfigSourceNotAvailableException e) {
+      throw e;
+    } catch (Exception e) {
+      String message =
+          String.format("Exception at ConfigBundleConfigSource (file='%s'), cause: %s", file, e);
+      throw new ConfigSourceNotAvailableException(message, e);
+    }
+  }
+
+  @Override
+  public boolean supportsSelection() {
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return new StringJoiner(", ", ConfigBundleConfigSource.class.getSimpleName() + "[", "]")
+        .add("file=" + file)
+        .toString();
+  }
+
+  /** Immutable map view of mapped bundle. */
+  private static final class Bundle extends AbstractMap<String, ConfigProperty> {
+
+    private final ByteBuffer buffer;
+    private final String version; // identifies file the buffer is mapped from
+    private final int count;
+    private final int stringsOffset;
+    private final ConfigProperty[] properties; // decoded on first access
+
+    private Bundle(ByteBuffer buffer, String version) {
+      if (buffer.capacity() < HEADER_SIZE
+          || buffer.getInt(ConfigBundleFormat.MAGIC_OFFSET) != ConfigBundleFormat.MAGIC
+          || buffer.getInt(ConfigBundleFormat.VERSION_OFFSET) != ConfigBundleFormat.VERSION) {
+        throw new ConfigSourceNotAvailableException("Not a config bundle");
+      }
+      int count = buffer.getInt(COUNT_OFFSET);
+      int stringsOffset = buffer.getInt(STRINGS_OFFSET);
+      if (count < 0
+          || HEADER_SIZE + (long) count * ENTRY_SIZE > stringsOffset
+          || stringsOffset > buffer.capacity()) {
+        throw new ConfigSourceNotAvailableException(
+            String.format(
+                "Corrupted config bundle: count=%d, stringsOffset=%d, size=%d",
+                count, stringsOffset, buffer.capacity()));
+      }
+      this.buffer = buffer;
+      this.version = version;
+      this.count = count;
+      this.stringsOffset = stringsOffset;
+      this.properties = new ConfigProperty[count];
+    }
+
+    private String string(int index, int field) {
+      int offset = buffer.getInt(HEADER_SIZE + index * ENTRY_SIZE + field);
+      if (offset == NULL) {
+        return null;
+      }
+      long position = (long) stringsOffset + offset; // string table ends at end of buffer
+      int length = -1;
+      if (offset >= 0 && position + 4 <= buffer.capacity()) {
+        length = buffer.getInt((int) position);
+      }
+      if (length < 0 || position + 4 + length > buffer.capacity()) {
+        throw new ConfigSourceNotAvailableException(
+            String.format(
+                "Corrupted config bundle: invalid string offset %d of property #%d",
+                offset, index));
+      }
+      byte[] bytes = new byte[length];
+      ByteBuffer stringBuffer = buffer.duplicate();
+      stringBuffer.position((int) position + 4);
+      stringBuffer.get(bytes);
+      return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private String name(int index) {
+      ConfigProperty property = properties[index];
+      return property != null ? property.name() : string(index, NAME);
+    }
+
+    private ConfigProperty property(int index) {
+      ConfigProperty property = properties[index];
+      if (property == null) {
+        property =
+            LoadedConfigProperty.withNameAndValue(string(index, NAME), string(index, VALUE))
+                .origin(string(index, ORIGIN))
+                .build();
+        properties[index] = property; // immutable, so racy publication is fine
+      }
+      return property;
+    }
+
+    /** Returns index of the first property which name is not less than given one. */
+    private int lowerBound(String name) {
+      int low = 0;
+      int high = count;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (name(mid).compareTo(name) < 0) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      return low;
+    }
+
+    private int indexOf(String name) {
+      int index = lowerBound(name);
+      return index < count && name(index).equals(name) ? index : -1;
+    }
+
+    private Map<String, ConfigProperty> select(PropertySelection selection) {
+      Map<String, ConfigProperty> result = new HashMap<>();
+      for (String name : selection.names()) {
+        int index = indexOf(name);
+        if (index >= 0) {
+          result.put(name, property(index));
+        }
+      }
+      for (String prefix : selection.prefixes()) {
+        for (int i = lowerBound(prefix); i < count; i++) {
+          String name = name(i);
+          if (!name.startsWith(prefix)) {
+            break;
+          }
+          if (!result.containsKey(name)) {
+            result.put(name, property(i));
+          }
+        }
+      }
+      return result;
+    }
+
+    @Override
+    public ConfigProperty get(Object key) {
+      int index = key instanceof String ? indexOf((String) key) : -1;
+      return index >= 0 ? property(index) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return key instanceof String && indexOf((String) key) >= 0;
+    }
+
+    @Override
+    public int size() {
+      return count;
+    }
+
+    @Override
+    public Set<Entry<String, ConfigProperty>> entrySet() {
+      return new AbstractSet<>() {
+        @Override
+        public Iterator<Entry<String, ConfigProperty>> iterator() {
+          return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+              return next < count;
+            }
+
+            @Override
+            public Entry<String, ConfigProperty> next() {
+              if (!hasNext()) {
+                throw new NoSuchElementException();
+              }
+              ConfigProperty property = property(next++);
+              return new SimpleImmutableEntry<>(property.name(), property);
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return count;
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package io.scalecube.config.source;
+
+/**
+ * Layout of config bundle file written by {@link ConfigBundleCompiler} and read by {@link
+ * ConfigBundleConfigSource}.
+ *
+ * <pre>
+ * 0  int magic
+ * 4  int version
+ * 8  int number of properties
+ * 12 int offset of string table
+ * 16 properties sorted by name, for every property three ints: offsets of name, value and
+ *    origin in string table (-1 for null)
+ * string table: every distinct string once, as int length followed by UTF-8 bytes
+ * </pre>
+ */
+final class ConfigBundleFormat {
+
+  static final int MAGIC = 0x53434342; // "SCCB"
+  static final int VERSION = 1;
+
+  static final int MAGIC_OFFSET = 0;
+  static final int VERSION_OFFSET = 4;
+  static final int COUNT_OFFSET = 8;
+  static final int STRINGS_OFFSET = 12;
+  static final int HEADER_SIZE = 16;
+  static final int ENTRY_SIZE = 12;
+
+  static final int NAME = 0;
+  static final int VALUE = 4;
+  static final int ORIGIN = 8;
+
+  static final int NULL = -1;
+
+  private ConfigBundleFormat() {
+    // Do not instantiate
+  }
+}
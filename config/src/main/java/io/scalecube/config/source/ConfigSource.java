@@ -2,10 +2,50 @@
 
 import io.scalecube.config.ConfigProperty;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /** Config source interface which represents specific provider of configuration properties. */
 public interface ConfigSource {
 
   /** Loads all properties from the source. */
   Map<String, ConfigProperty> loadConfig();
+
+  /**
+   * Subscribes on changes pushed by this source, if source supports it. Source calls given listener
+   * with names of changed properties (or with null if any property could have changed), and config
+   * registry then reloads this source right away instead of waiting for the next reload period.
+   * Default implementation does nothing, i.e. source is only being polled.
+   *
+   * @param listener listener of changed property names
+   * @return action unsubscribing given listener, being called by config registry on close
+   */
+  default Runnable subscribe(Consumer<Set<String>> listener) {
+    return () -> {
+      // no-op
+    };
+  }
+
+  /**
+   * Returns whether this source can load only selected properties, see {@link
+   * #loadConfig(PropertySelection)}.
+   *
+   * @return true if selective loading is supported, false by default
+   */
+  default boolean supportsSelection() {
+    return false;
+  }
+
+  /**
+   * Loads only properties of given selection. Being called instead of {@link #loadConfig()} by
+   * config registry with selective loading enabled (only if {@link #supportsSelection()}). Every
+   * registry passes its own selection, so the same source can be shared by registries which select
+   * different properties. Default implementation loads all properties.
+   *
+   * @param selection names and prefixes of properties to load
+   * @return loaded properties, may also include unselected ones
+   */
+  default Map<String, ConfigProperty> loadConfig(PropertySelection selection) {
+    return loadConfig();
+  }
 }
@@ -69,7 +69,7 @@ static void filterAndCollectInOrder(
     filterAndCollectInOrder(predicateIterator, configMap, configCollector);
   }
 
-  private static Map<String, String> loadProperties(Path input) {
+  static Map<String, String> loadProperties(Path input) {
     try (InputStream is = input.toUri().toURL().openStream()) {
       Properties properties = new Properties();
       properties.load(is);
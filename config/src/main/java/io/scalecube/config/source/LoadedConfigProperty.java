@@ -2,6 +2,7 @@
 
 import io.scalecube.config.ConfigProperty;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 // Helper class
@@ -43,6 +44,35 @@ public static Builder withCopyFrom(ConfigProperty property) {
     return builder;
   }
 
+  /**
+   * Returns property with the given source, and with name, value and origin of given property.
+   * Previously loaded property is returned in case it's equal to the result, otherwise its name and
+   * origin are reused, so that unchanged properties and strings are not duplicated across reloads.
+   *
+   * @param source source name
+   * @param property config property
+   * @param previous previously loaded property with the same name (nullable)
+   * @return loaded property
+   */
+  public static LoadedConfigProperty withSource(
+      String source, ConfigProperty property, LoadedConfigProperty previous) {
+    String value = property.valueAsString(null);
+    String origin = property.origin().orElse(null);
+    if (previous == null || !previous.name.equals(property.name())) {
+      return new Builder(property.name(), value).source(source).origin(origin).build();
+    }
+    boolean sameOrigin = Objects.equals(previous.origin, origin);
+    if (sameOrigin
+        && Objects.equals(previous.value, value)
+        && Objects.equals(previous.source, source)) {
+      return previous;
+    }
+    return new Builder(previous.name, value)
+        .source(source)
+        .origin(sameOrigin ? previous.origin : origin)
+        .build();
+  }
+
   @Override
   public String name() {
     return name;
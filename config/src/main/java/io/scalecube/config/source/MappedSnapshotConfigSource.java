@@ -0,0 +1,240 @@
+package io.scalecube.config.source;
+
+import static io.scalecube.config.source.MappedSnapshotFormat.COUNT_OFFSET;
+import static io.scalecube.config.source.MappedSnapshotFormat.HEADER_SIZE;
+import static io.scalecube.config.source.MappedSnapshotFormat.LENGTH_OFFSET;
+
+import io.scalecube.config.ConfigProperty;
+import io.scalecube.config.ConfigSourceNotAvailableException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Config source reading snapshot file written by {@link MappedSnapshotPublisher} of another
+ * process. File is memory-mapped, so load is a copy of snapshot data from shared memory (without
+ * file reads), and it's decoded only if generation of snapshot changed since the last load.
+ * Subscribers are notified of new generation, which is polled with given poll interval while
+ * there are subscribers. If snapshot file is replaced or recreated (detected by its file key), it's
+ * re-mapped and loaded again regardless of generation.
+ */
+public final class MappedSnapshotConfigSource implements ConfigSource {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(MappedSnapshotConfigSource.class);
+
+  private static final Duration DEFAULT_POLL_INTERVAL = Duration.ofMillis(100);
+  private static final int MAX_READ_ATTEMPTS = 1000;
+
+  private static final ScheduledExecutorService POLLER =
+      Executors.newSingleThreadScheduledExecutor(
+          r -> {
+            Thread thread = new Thread(r);
+            thread.setDaemon(true);
+            thread.setName("config-mapped-snapshot");
+            return thread;
+          });
+
+  private final Path file;
+  private final Duration pollInterval;
+  private final List<Consumer<Set<String>>> listeners = new CopyOnWriteArrayList<>();
+  private ScheduledFuture<?> pollTask; // guarded by listeners
+
+  private MappedByteBuffer buffer; // guarded by this
+  private Object bufferFileKey; // guarded by this
+  private long mappingEpoch; // guarded by this, incremented when file is replaced
+  private long loadedGeneration; // guarded by this
+  private Map<String, ConfigProperty> loadedProperties; // guarded by this
+  private long notifiedEpoch; // accessed by poller
+  private long notifiedGeneration; // accessed by poller
+
+  /**
+   * Constructor.
+   *
+   * @param file snapshot file
+   */
+  public MappedSnapshotConfigSource(Path file) {
+    this(file, DEFAULT_POLL_INTERVAL);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param file snapshot file
+   * @param pollInterval interval of polling generation of snapshot for subscribers
+   */
+  public MappedSnapshotConfigSource(Path file, Duration pollInterval) {
+    this.file = Objects.requireNonNull(file, "MappedSnapshotConfigSource: file is required");
+    this.pollInterval =
+        Objects.requireNonNull(
+            pollInterval, "MappedSnapshotConfigSource: pollInterval is required");
+  }
+
+  @Override
+  public synchronized Map<String, ConfigProperty> loadConfig() {
+    checkReplaced();
+    for (int attempt = 0; attempt < MAX_READ_ATTEMPTS; attempt++) {
+      ByteBuffer buffer = map(HEADER_SIZE);
+      long generation = MappedSnapshotFormat.generation(buffer);
+      if (generation == 0) {
+        throw new ConfigSourceNotAvailableException("Snapshot is not published yet: " + file);
+      }
+      if (generation == loadedGeneration) {
+        return loadedProperties;
+      }
+      if (generation % 2 != 0) {
+        Thread.yield(); // being written
+        continue;
+      }
+      int length = buffer.getInt(LENGTH_OFFSET);
+      int count = buffer.getInt(COUNT_OFFSET);
+      if (length < 0 || HEADER_SIZE + length > buffer.capacity()) {
+        map(HEADER_SIZE + Math.max(length, 0)); // grown or torn, check generation again
+        continue;
+      }
+      byte[] data = new byte[length];
+      ByteBuffer dataBuffer = buffer.duplicate();
+      dataBuffer.position(HEADER_SIZE);
+      dataBuffer.get(data);
+      VarHandle.loadLoadFence();
+      if (MappedSnapshotFormat.generation(buffer) != generation) {
+        continue;
+      }
+      loadedProperties = MappedSnapshotFormat.decode(data, count);
+      loadedGeneration = generation;
+      return loadedProperties;
+    }
+    throw new ConfigSourceNotAvailableException("Snapshot is being written too long: " + file);
+  }
+
+  /**
+   * Maps snapshot file, unless it's already mapped with at least given capacity.
+   *
+   * @param capacity required capacity
+   * @return mapped buffer
+   */
+  private MappedByteBuffer map(int capacity) {
+    if (buffer != null && buffer.capacity() >= capacity) {
+      return buffer;
+    }
+    try {
+      // read before opening, so that replacement in between is detected on next check
+      Object fileKey = Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+        MappedByteBuffer newBuffer =
+            channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        if (!MappedSnapshotFormat.isValid(newBuffer)) {
+          throw new ConfigSourceNotAvailableException("Not a snapshot file: " + file);
+        }
+        buffer = newBuffer;
+        bufferFileKey = fileKey;
+        return newBuffer;
+      }
+    } catch (ConfigSourceNotAvailableException e) {
+      throw e;
+    } catch (Exception e) {
+      String message =
+          String.format(
+              "Exception at MappedSnapshotConfigSource (file='%s'), cause: %s", file, e);
+      throw new ConfigSourceNotAvailableException(message, e);
+    }
+  }
+
+  /**
+   * Drops current mapping if snapshot file was replaced or recreated since it was mapped. Mapping
+   * is kept if file is missing, so that last snapshot is still available.
+   */
+  private void checkReplaced() {
+    if (buffer == null) {
+      return;
+    }
+    Object fileKey;
+    try {
+      fileKey = Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+    } catch (Exception e) {
+      return;
+    }
+    if (fileKey != null && !fileKey.equals(bufferFileKey)) {
+      LOGGER.debug("[checkReplaced] Snapshot file was replaced, file: {}", file);
+      buffer = null;
+      bufferFileKey = null;
+      loadedGeneration = 0;
+      loadedProperties = null;
+      mappingEpoch++;
+    }
+  }
+
+  @Override
+  public Runnable subscribe(Consumer<Set<String>> listener) {
+    Objects.requireNonNull(listener);
+    synchronized (listeners) {
+      listeners.add(listener);
+      if (pollTask == null) {
+        pollTask =
+            POLLER.scheduleWithFixedDelay(
+                this::poll, pollInterval.toNanos(), pollInterval.toNanos(), TimeUnit.NANOSECONDS);
+      }
+    }
+    return () -> {
+      synchronized (listeners) {
+        if (listeners.remove(listener) && listeners.isEmpty() && pollTask != null) {
+          pollTask.cancel(false);
+          pollTask = null;
+        }
+      }
+    };
+  }
+
+  private void poll() {
+    long epoch;
+    long generation;
+    try {
+      synchronized (this) {
+        checkReplaced();
+        generation = MappedSnapshotFormat.generation(map(HEADER_SIZE));
+        epoch = mappingEpoch;
+      }
+    } catch (Exception e) {
+      LOGGER.debug("[poll] Snapshot is not available, file: {}, cause: {}", file, e.toString());
+      return;
+    }
+    if ((epoch == notifiedEpoch && generation == notifiedGeneration) || generation % 2 != 0) {
+      return;
+    }
+    notifiedEpoch = epoch;
+    notifiedGeneration = generation;
+    for (Consumer<Set<String>> listener : listeners) {
+      try {
+        listener.accept(null);
+      } catch (Exception e) {
+        LOGGER.error("[poll] Exception occurred on listener, file: {}", file, e);
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return new StringJoiner(", ", MappedSnapshotConfigSource.class.getSimpleName() + "[", "]")
+        .add("file=" + file)
+        .add("pollInterval=" + pollInterval)
+        .toString();
+  }
+}
@@ -0,0 +1,111 @@
+package io.scalecube.config.source;
+
+import io.scalecube.config.ConfigProperty;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Layout of memory-mapped snapshot file shared by {@link MappedSnapshotPublisher} and {@link
+ * MappedSnapshotConfigSource}.
+ *
+ * <pre>
+ * 0  int  magic
+ * 4  int  version
+ * 8  long generation, odd while snapshot is being written, 0 before the first one
+ * 16 int  length of data
+ * 20 int  number of properties
+ * 24 data, for every property: name, value, origin
+ * </pre>
+ *
+ * <p>Every string is int length (-1 for null) followed by UTF-8 bytes. File is updated in place
+ * (seqlock): publisher makes generation odd, writes data and then makes generation even; reader
+ * copies data out and accepts it only if generation stayed the same even number.
+ */
+final class MappedSnapshotFormat {
+
+  static final int MAGIC = 0x53434d53; // "SCMS"
+  static final int VERSION = 1;
+
+  static final int MAGIC_OFFSET = 0;
+  static final int VERSION_OFFSET = 4;
+  static final int GENERATION_OFFSET = 8;
+  static final int LENGTH_OFFSET = 16;
+  static final int COUNT_OFFSET = 20;
+  static final int HEADER_SIZE = 24;
+
+  private static final VarHandle LONG_VIEW =
+      MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+  private MappedSnapshotFormat() {
+    // Do not instantiate
+  }
+
+  static long generation(ByteBuffer buffer) {
+    return (long) LONG_VIEW.getVolatile(buffer, GENERATION_OFFSET);
+  }
+
+  static void generation(ByteBuffer buffer, long generation) {
+    LONG_VIEW.setVolatile(buffer, GENERATION_OFFSET, generation);
+  }
+
+  static boolean isValid(ByteBuffer buffer) {
+    return buffer.capacity() >= HEADER_SIZE
+        && buffer.getInt(MAGIC_OFFSET) == MAGIC
+        && buffer.getInt(VERSION_OFFSET) == VERSION;
+  }
+
+  static byte[] encode(Map<String, ? extends ConfigProperty> properties) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      for (Map.Entry<String, ? extends ConfigProperty> entry : properties.entrySet()) {
+        writeString(out, entry.getKey());
+        writeString(out, entry.getValue().valueAsString(null));
+        writeString(out, entry.getValue().origin().orElse(null));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  static Map<String, ConfigProperty> decode(byte[] data, int count) {
+    ByteBuffer buffer = ByteBuffer.wrap(data);
+    Map<String, ConfigProperty> result = new HashMap<>(count * 2);
+    for (int i = 0; i < count; i++) {
+      String name = readString(buffer);
+      String value = readString(buffer);
+      String origin = readString(buffer);
+      result.put(name, LoadedConfigProperty.withNameAndValue(name, value).origin(origin).build());
+    }
+    return result;
+  }
+
+  private static void writeString(DataOutputStream out, String str) throws IOException {
+    if (str == null) {
+      out.writeInt(-1);
+      return;
+    }
+    byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(ByteBuffer buffer) {
+    int length = buffer.getInt();
+    if (length < 0) {
+      return null;
+    }
+    String str = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+    buffer.position(buffer.position() + length);
+    return str;
+  }
+}
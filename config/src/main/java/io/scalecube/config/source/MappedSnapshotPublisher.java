@@ -0,0 +1,143 @@
+package io.scalecube.config.source;
+
+import static io.scalecube.config.source.MappedSnapshotFormat.COUNT_OFFSET;
+import static io.scalecube.config.source.MappedSnapshotFormat.GENERATION_OFFSET;
+import static io.scalecube.config.source.MappedSnapshotFormat.HEADER_SIZE;
+import static io.scalecube.config.source.MappedSnapshotFormat.LENGTH_OFFSET;
+import static io.scalecube.config.source.MappedSnapshotFormat.MAGIC;
+import static io.scalecube.config.source.MappedSnapshotFormat.MAGIC_OFFSET;
+import static io.scalecube.config.source.MappedSnapshotFormat.VERSION;
+import static io.scalecube.config.source.MappedSnapshotFormat.VERSION_OFFSET;
+
+import io.scalecube.config.ConfigProperty;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * Writes config snapshots into memory-mapped file, to be read by {@link
+ * MappedSnapshotConfigSource} of co-located processes. This way single loader process fetches
+ * config from remote sources, and the rest of processes of the host read it from shared memory
+ * and detect changes by generation number:
+ *
+ * <pre>
+ * try (MappedSnapshotPublisher publisher = new MappedSnapshotPublisher(file)) {
+ *   publisher.publish(remoteSource.loadConfig()); // on every reload
+ * }
+ * </pre>
+ *
+ * <p>File is updated in place and only grows, so that readers never see truncated mapping.
+ * Publishers of different processes are serialized by file lock.
+ */
+public final class MappedSnapshotPublisher implements AutoCloseable {
+
+  private final Path file;
+  private final FileChannel channel;
+  private MappedByteBuffer buffer; // guarded by this
+
+  /**
+   * Constructor.
+   *
+   * @param file snapshot file, created if doesn't exist
+   */
+  public MappedSnapshotPublisher(Path file) {
+    this.file = Objects.requireNonNull(file, "MappedSnapshotPublisher: file is required");
+    try {
+      this.channel =
+          FileChannel.open(
+              file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      FileLock lock = channel.lock();
+      try {
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(channel.size(), 4096));
+        if (!MappedSnapshotFormat.isValid(buffer)) {
+          buffer.putInt(VERSION_OFFSET, VERSION);
+          buffer.putLong(GENERATION_OFFSET, 0);
+          buffer.putInt(LENGTH_OFFSET, 0);
+          buffer.putInt(COUNT_OFFSET, 0);
+          buffer.putInt(MAGIC_OFFSET, MAGIC);
+        }
+      } finally {
+        lock.release();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to open snapshot file: " + file, e);
+    }
+  }
+
+  /**
+   * Publishes given properties as new snapshot, unless they are the same as currently published
+   * ones.
+   *
+   * @param properties properties to publish
+   * @return generation of published snapshot (even number)
+   */
+  public synchronized long publish(Map<String, ? extends ConfigProperty> properties) {
+    byte[] data = MappedSnapshotFormat.encode(properties);
+    try {
+      FileLock lock = channel.lock();
+      try {
+        long generation = MappedSnapshotFormat.generation(buffer);
+        if (generation > 0 && generation % 2 == 0 && isPublished(data, properties.size())) {
+          return generation;
+        }
+        if (HEADER_SIZE + data.length > buffer.capacity()) {
+          int capacity = Math.max(HEADER_SIZE + data.length, buffer.capacity() * 2);
+          buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        }
+        // odd generation of crashed publisher is reused
+        long writing = generation % 2 == 0 ? generation + 1 : generation;
+        MappedSnapshotFormat.generation(buffer, writing);
+        // volatile write doesn't keep subsequent stores after it, pairs with reader's load fence
+        VarHandle.storeStoreFence();
+        buffer.putInt(LENGTH_OFFSET, data.length);
+        buffer.putInt(COUNT_OFFSET, properties.size());
+        ByteBuffer dataBuffer = buffer.duplicate();
+        dataBuffer.position(HEADER_SIZE);
+        dataBuffer.put(data);
+        MappedSnapshotFormat.generation(buffer, writing + 1);
+        return writing + 1;
+      } finally {
+        lock.release();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to publish snapshot to file: " + file, e);
+    }
+  }
+
+  private boolean isPublished(byte[] data, int count) {
+    if (buffer.getInt(LENGTH_OFFSET) != data.length || buffer.getInt(COUNT_OFFSET) != count) {
+      return false;
+    }
+    byte[] published = new byte[data.length];
+    ByteBuffer dataBuffer = buffer.duplicate();
+    dataBuffer.position(HEADER_SIZE);
+    dataBuffer.get(published);
+    return Arrays.equals(published, data);
+  }
+
+  @Override
+  public void close() {
+    try {
+      channel.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return new StringJoiner(", ", MappedSnapshotPublisher.class.getSimpleName() + "[", "]")
+        .add("file=" + file)
+        .toString();
+  }
+}
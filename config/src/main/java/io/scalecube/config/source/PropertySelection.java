@@ -0,0 +1,106 @@
+package io.scalecube.config.source;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+
+/**
+ * Names and name prefixes of properties which config registry is interested in, see {@link
+ * ConfigSource#loadConfig(PropertySelection)}. Immutable.
+ */
+public final class PropertySelection {
+
+  public static final PropertySelection EMPTY =
+      new PropertySelection(Collections.emptySet(), Collections.emptySet());
+
+  private final Set<String> names;
+  private final Set<String> prefixes;
+
+  private PropertySelection(Set<String> names, Set<String> prefixes) {
+    this.names = names;
+    this.prefixes = prefixes;
+  }
+
+  /**
+   * Returns selection of given names and prefixes.
+   *
+   * @param names property names
+   * @param prefixes property name prefixes
+   * @return selection
+   */
+  public static PropertySelection of(Collection<String> names, Collection<String> prefixes) {
+    return new PropertySelection(
+        Collections.unmodifiableSet(new TreeSet<>(names)),
+        Collections.unmodifiableSet(new TreeSet<>(prefixes)));
+  }
+
+  public Set<String> names() {
+    return names;
+  }
+
+  public Set<String> prefixes() {
+    return prefixes;
+  }
+
+  /**
+   * Returns whether property with given name is selected, i.e. it's one of {@link #names()} or
+   * starts with one of {@link #prefixes()}.
+   *
+   * @param name property name
+   * @return true if property is selected
+   */
+  public boolean matches(String name) {
+    if (names.contains(name)) {
+      return true;
+    }
+    for (String prefix : prefixes) {
+      if (name.startsWith(prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns whether every property selected by given selection is selected by this one.
+   *
+   * @param other selection
+   * @return true if given selection is covered by this one
+   */
+  public boolean covers(PropertySelection other) {
+    return other.names.stream().allMatch(this::matches)
+        && other.prefixes.stream().allMatch(this::coversPrefix);
+  }
+
+  private boolean coversPrefix(String prefix) {
+    return prefixes.stream().anyMatch(prefix::startsWith);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PropertySelection that = (PropertySelection) o;
+    return names.equals(that.names) && prefixes.equals(that.prefixes);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(names, prefixes);
+  }
+
+  @Override
+  public String toString() {
+    return new StringJoiner(", ", PropertySelection.class.getSimpleName() + "[", "]")
+        .add("names=" + names)
+        .add("prefixes=" + prefixes)
+        .toString();
+  }
+}
@@ -0,0 +1,134 @@
+package io.scalecube.config;
+
+import static io.scalecube.config.TestUtil.WAIT_FOR_RELOAD_PERIOD_MILLIS;
+import static io.scalecube.config.TestUtil.mapBuilder;
+import static io.scalecube.config.TestUtil.toConfigProps;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.scalecube.config.audit.ConfigEvent;
+import io.scalecube.config.source.ConfigSource;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ChangeListenerTest {
+
+  private final PushSource source = new PushSource();
+  private ConfigRegistry configRegistry;
+
+  @BeforeEach
+  void setUp() {
+    source.properties =
+        toConfigProps(mapBuilder().put("db.host", "h1").put("db.port", "1").put("x", "1").build());
+    configRegistry =
+        ConfigRegistry.create(
+            ConfigRegistrySettings.builder()
+                .jmxEnabled(false)
+                .noReload()
+                .addLastSource("source", source)
+                .build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    configRegistry.close();
+  }
+
+  private static Set<String> names(Collection<ConfigEvent> events) {
+    return events.stream().map(ConfigEvent::getName).collect(Collectors.toCollection(TreeSet::new));
+  }
+
+  @Test
+  void testOneCallbackPerReloadWithAllChangedNames() throws Exception {
+    List<Set<String>> changeSets = new CopyOnWriteArrayList<>();
+    configRegistry.addChangeListener(events -> changeSets.add(names(events)));
+
+    source.push(
+        toConfigProps(mapBuilder().put("db.host", "h2").put("db.port", "2").put("x", "1").build()));
+
+    assertEquals(1, changeSets.size());
+    assertEquals(new TreeSet<>(List.of("db.host", "db.port")), changeSets.get(0));
+  }
+
+  @Test
+  void testNothingReportedWhenNoValueChanged() throws Exception {
+    List<Set<String>> changeSets = new CopyOnWriteArrayList<>();
+    configRegistry.addChangeListener(events -> changeSets.add(names(events)));
+
+    source.push(
+        toConfigProps(mapBuilder().put("db.host", "h1").put("db.port", "1").put("x", "1").build()));
+
+    assertTrue(changeSets.isEmpty());
+  }
+
+  @Test
+  void testFilteredListeners() throws Exception {
+    List<Set<String>> prefixChangeSets = new CopyOnWriteArrayList<>();
+    List<Set<String>> nameChangeSets = new CopyOnWriteArrayList<>();
+    configRegistry.addPrefixListener("db.", events -> prefixChangeSets.add(names(events)));
+    configRegistry.addChangeListener(
+        Collections.singleton("x"), events -> nameChangeSets.add(names(events)));
+
+    source.push(
+        toConfigProps(mapBuilder().put("db.host", "h2").put("db.port", "1").put("y", "1").build()));
+
+    assertEquals(List.of(Set.of("db.host")), prefixChangeSets);
+    assertEquals(List.of(Set.of("x")), nameChangeSets); // removed
+  }
+
+  @Test
+  void testRemovedListenerIsNotCalled() throws Exception {
+    List<Set<String>> changeSets = new CopyOnWriteArrayList<>();
+    Runnable removal = configRegistry.addChangeListener(events -> changeSets.add(names(events)));
+
+    source.push(
+        toConfigProps(mapBuilder().put("db.host", "h2").put("db.port", "1").put("x", "1").build()));
+    removal.run();
+    source.push(
+        toConfigProps(mapBuilder().put("db.host", "h3").put("db.port", "1").put("x", "1").build()));
+
+    assertEquals(List.of(Set.of("db.host")), changeSets);
+  }
+
+  @Test
+  void testCloseUnsubscribesFromSource() {
+    assertEquals(1, source.listeners.size());
+
+    configRegistry.close();
+
+    assertTrue(source.listeners.isEmpty());
+  }
+
+  private static class PushSource implements ConfigSource {
+
+    private volatile Map<String, ConfigProperty> properties;
+    private final List<Consumer<Set<String>>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Map<String, ConfigProperty> loadConfig() {
+      return properties;
+    }
+
+    @Override
+    public Runnable subscribe(Consumer<Set<String>> listener) {
+      listeners.add(listener);
+      return () -> listeners.remove(listener);
+    }
+
+    void push(Map<String, ConfigProperty> properties) throws InterruptedException {
+      this.properties = properties;
+      listeners.forEach(listener -> listener.accept(null));
+      Thread.sleep(WAIT_FOR_RELOAD_PERIOD_MILLIS);
+    }
+  }
+}
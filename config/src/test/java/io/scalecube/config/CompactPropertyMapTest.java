@@ -0,0 +1,81 @@
+package io.scalecube.config;
+
+import static io.scalecube.config.TestUtil.WAIT_FOR_RELOAD_PERIOD_MILLIS;
+import static io.scalecube.config.TestUtil.mapBuilder;
+import static io.scalecube.config.TestUtil.toConfigProps;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import io.scalecube.config.source.ConfigSource;
+import io.scalecube.config.source.LoadedConfigProperty;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CompactPropertyMapTest {
+
+  @Mock private ConfigSource configSource;
+  @Captor private ArgumentCaptor<Consumer<Set<String>>> listenerCaptor;
+
+  @Test
+  void testMapSemantics() {
+    Map<String, LoadedConfigProperty> propertyMap = new HashMap<>();
+    for (int i = 0; i < 100; i++) {
+      propertyMap.put("prop" + i, LoadedConfigProperty.forNameAndValue("prop" + i, "" + i));
+    }
+
+    Map<String, LoadedConfigProperty> compactMap = CompactPropertyMap.of(propertyMap);
+
+    assertEquals(propertyMap, compactMap);
+    assertEquals(100, compactMap.entrySet().size());
+    assertSame(propertyMap.get("prop42"), compactMap.get("prop42"));
+    assertNull(compactMap.get("prop100"));
+    assertFalse(compactMap.containsKey(null));
+    assertSame(compactMap, CompactPropertyMap.of(compactMap));
+    assertThrows(
+        UnsupportedOperationException.class,
+        () -> compactMap.put("prop", LoadedConfigProperty.forNameAndValue("prop", "")));
+  }
+
+  @Test
+  void testUnchangedPropertiesAreReusedOnReload() throws Exception {
+    when(configSource.loadConfig())
+        .thenReturn(toConfigProps(mapBuilder().put("a", "1").put("b", "2").build()))
+        .thenReturn(toConfigProps(mapBuilder().put("a", "1").put("b", "3").build()));
+    when(configSource.subscribe(listenerCaptor.capture())).thenReturn(() -> {});
+
+    ConfigRegistryImpl configRegistry =
+        (ConfigRegistryImpl)
+            ConfigRegistry.create(
+                ConfigRegistrySettings.builder()
+                    .jmxEnabled(false)
+                    .noReload()
+                    .addLastSource("source", configSource)
+                    .build());
+    Map<String, LoadedConfigProperty> propertyMap1 = configRegistry.snapshot().propertyMap();
+
+    listenerCaptor.getValue().accept(null);
+    Thread.sleep(WAIT_FOR_RELOAD_PERIOD_MILLIS);
+    Map<String, LoadedConfigProperty> propertyMap2 = configRegistry.snapshot().propertyMap();
+
+    assertSame(propertyMap1.get("a"), propertyMap2.get("a"));
+    assertNotSame(propertyMap1.get("b"), propertyMap2.get("b"));
+    assertSame(propertyMap1.get("b").name(), propertyMap2.get("b").name());
+    assertEquals("3", configRegistry.stringValue("b", null));
+
+    configRegistry.close();
+  }
+}
@@ -0,0 +1,119 @@
+package io.scalecube.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.scalecube.config.source.ConfigBundleCompiler;
+import io.scalecube.config.source.ConfigBundleConfigSource;
+import io.scalecube.config.source.PropertySelection;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ConfigBundleConfigSourceTest {
+
+  @TempDir Path tempDir;
+
+  private Path first;
+  private Path second;
+  private Path bundle;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    first = tempDir.resolve("first.properties");
+    second = tempDir.resolve("second.properties");
+    bundle = tempDir.resolve("config.bundle");
+    write(first, "db.host=first\ndb.port=5432\n");
+    write(second, "db.host=second\nname=value\n");
+  }
+
+  private static void write(Path file, String content) throws Exception {
+    Files.write(file, content.getBytes(StandardCharsets.ISO_8859_1));
+  }
+
+  @Test
+  void testCompileAndLoad() {
+    assertEquals(3, ConfigBundleCompiler.compile(Arrays.asList(first, second), bundle));
+
+    ConfigBundleConfigSource source = new ConfigBundleConfigSource(bundle);
+    Map<String, ConfigProperty> properties = source.loadConfig();
+
+    assertEquals(new TreeSet<>(Arrays.asList("db.host", "db.port", "name")), properties.keySet());
+    assertEquals("first", properties.get("db.host").valueAsString(null));
+    assertEquals(first.toString(), properties.get("db.host").origin().orElse(null));
+    assertEquals("value", properties.get("name").valueAsString(null));
+    assertNull(properties.get("missing"));
+    assertSame(properties, source.loadConfig());
+  }
+
+  @Test
+  void testSelectiveLoading() {
+    ConfigBundleCompiler.compile(Arrays.asList(first, second), bundle);
+
+    ConfigBundleConfigSource source = new ConfigBundleConfigSource(bundle);
+    PropertySelection selection =
+        PropertySelection.of(Arrays.asList("name", "missing"), Collections.singleton("db."));
+    Map<String, ConfigProperty> properties = source.loadConfig(selection);
+
+    assertEquals(new TreeSet<>(Arrays.asList("db.host", "db.port", "name")), properties.keySet());
+    assertSame(properties, source.loadConfig(selection));
+
+    Set<String> names =
+        source
+            .loadConfig(
+                PropertySelection.of(Collections.singleton("name"), Collections.emptySet()))
+            .keySet();
+    assertEquals(Collections.singleton("name"), names);
+    assertEquals(3, source.loadConfig().size());
+  }
+
+  @Test
+  void testRecompiledBundleIsReloaded() throws Exception {
+    ConfigBundleCompiler.compile(Collections.singletonList(second), bundle);
+    ConfigBundleConfigSource source = new ConfigBundleConfigSource(bundle);
+    assertEquals("value", source.loadConfig().get("name").valueAsString(null));
+
+    write(second, "name=changed\n");
+    ConfigBundleCompiler.compile(Collections.singletonList(second), bundle);
+
+    assertEquals("changed", source.loadConfig().get("name").valueAsString(null));
+  }
+
+  @Test
+  void testNotBundle() throws Exception {
+    ConfigBundleConfigSource source = new ConfigBundleConfigSource(first);
+    assertThrows(ConfigSourceNotAvailableException.class, source::loadConfig);
+  }
+
+  @Test
+  void testCorruptedBundle() throws Exception {
+    ConfigBundleCompiler.compile(Arrays.asList(first, second), bundle);
+    byte[] bytes = Files.readAllBytes(bundle);
+    ConfigBundleConfigSource source = new ConfigBundleConfigSource(bundle);
+
+    Files.write(bundle, Arrays.copyOf(bytes, 20)); // truncated entries
+    assertThrows(ConfigSourceNotAvailableException.class, source::loadConfig);
+
+    byte[] corrupted = bytes.clone();
+    ByteBuffer.wrap(corrupted).putInt(12, bytes.length + 1); // string table beyond file
+    Files.write(bundle, corrupted);
+    assertThrows(ConfigSourceNotAvailableException.class, source::loadConfig);
+
+    corrupted = bytes.clone();
+    ByteBuffer.wrap(corrupted).putInt(16, bytes.length); // name offset beyond file
+    Files.write(bundle, corrupted);
+    Map<String, ConfigProperty> properties = source.loadConfig();
+    assertThrows(ConfigSourceNotAvailableException.class, () -> properties.get("db.host"));
+  }
+}
@@ -0,0 +1,78 @@
+package io.scalecube.config;
+
+import static io.scalecube.config.TestUtil.mapBuilder;
+import static io.scalecube.config.TestUtil.newConfigRegistry;
+import static io.scalecube.config.TestUtil.toConfigProps;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.when;
+
+import io.scalecube.config.source.ConfigSource;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigScopeTest {
+
+  @Mock private ConfigSource configSource;
+
+  @Test
+  void testScopeResolvesKeysAgainstPrefix() {
+    when(configSource.loadConfig())
+        .thenReturn(
+            toConfigProps(
+                mapBuilder()
+                    .put("tenant.acme.pool.size", "16")
+                    .put("tenant.acme.timeout", "5s")
+                    .build()));
+    ConfigRegistryImpl configRegistry = newConfigRegistry(configSource);
+
+    ConfigScope scope = configRegistry.scope("tenant.acme");
+
+    assertEquals("tenant.acme.pool.size", scope.name("pool.size"));
+    assertEquals(16, scope.intValue("pool.size", 8));
+    assertEquals(Duration.ofSeconds(5), scope.durationValue("timeout", null));
+    assertEquals(16, (int) scope.scope("pool").intProperty("size").valueOrThrow());
+  }
+
+  @Test
+  void testScopeAndPropertyInstancesAreCached() {
+    ConfigRegistryImpl configRegistry = newConfigRegistry(configSource);
+
+    ConfigScope scope = configRegistry.scope("tenant.acme");
+
+    assertSame(scope, configRegistry.scope("tenant.acme"));
+    assertSame(scope.intProperty("pool.size"), scope.intProperty("pool.size"));
+    assertSame(
+        scope.intProperty("pool.size"),
+        scope.withFallback(configRegistry.scope("tenant.default")).intProperty("pool.size"));
+  }
+
+  @Test
+  void testFallbackChain() {
+    when(configSource.loadConfig())
+        .thenReturn(
+            toConfigProps(
+                mapBuilder()
+                    .put("tenant.acme.pool.size", "16")
+                    .put("tenant.default.pool.size", "8")
+                    .put("tenant.default.pool.name", "default")
+                    .put("global.pool.enabled", "true")
+                    .build()));
+    ConfigRegistryImpl configRegistry = newConfigRegistry(configSource);
+
+    ConfigScope scope =
+        configRegistry
+            .scope("tenant.acme")
+            .withFallback(configRegistry.scope("tenant.default"))
+            .withFallback(configRegistry.scope("global"));
+
+    assertEquals(16, scope.intValue("pool.size", 1));
+    assertEquals("default", scope.stringValue("pool.name", null));
+    assertEquals(true, scope.booleanValue("pool.enabled", false));
+    assertEquals(42L, scope.longValue("pool.absent", 42L));
+  }
+}
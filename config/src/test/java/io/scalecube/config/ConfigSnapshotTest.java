@@ -0,0 +1,59 @@
+package io.scalecube.config;
+
+import static io.scalecube.config.TestUtil.WAIT_FOR_RELOAD_PERIOD_MILLIS;
+import static io.scalecube.config.TestUtil.mapBuilder;
+import static io.scalecube.config.TestUtil.newConfigRegistry;
+import static io.scalecube.config.TestUtil.toConfigProps;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.when;
+
+import io.scalecube.config.source.ConfigSource;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigSnapshotTest {
+
+  @Mock private ConfigSource configSource;
+
+  @Test
+  void testSnapshotIsConsistentAndGenerationIncrementedOnChange() throws Exception {
+    when(configSource.loadConfig())
+        .thenReturn(toConfigProps(mapBuilder().put("host", "h1").put("port", "1").build()))
+        .thenReturn(toConfigProps(mapBuilder().put("host", "h2").put("port", "2").build()));
+    ConfigRegistryImpl configRegistry = newConfigRegistry(configSource);
+
+    ConfigSnapshot snapshot = configRegistry.snapshot();
+    assertEquals(1, snapshot.generation());
+    assertEquals("h1", snapshot.stringValue("host", null));
+    assertEquals(1, snapshot.intValue("port", 0));
+
+    TimeUnit.MILLISECONDS.sleep(WAIT_FOR_RELOAD_PERIOD_MILLIS);
+
+    // old snapshot stays intact
+    assertEquals("h1", snapshot.stringValue("host", null));
+    assertEquals(1, snapshot.intValue("port", 0));
+
+    ConfigSnapshot snapshot1 = configRegistry.snapshot();
+    assertEquals(2, snapshot1.generation());
+    assertEquals("h2", snapshot1.stringValue("host", null));
+    assertEquals(2, snapshot1.intValue("port", 0));
+  }
+
+  @Test
+  void testSnapshotNotRepublishedWhenNothingChanged() throws Exception {
+    when(configSource.loadConfig())
+        .thenReturn(toConfigProps(mapBuilder().put("host", "h1").build()));
+    ConfigRegistryImpl configRegistry = newConfigRegistry(configSource);
+
+    ConfigSnapshot snapshot = configRegistry.snapshot();
+
+    TimeUnit.MILLISECONDS.sleep(WAIT_FOR_RELOAD_PERIOD_MILLIS);
+
+    assertSame(snapshot, configRegistry.snapshot());
+  }
+}
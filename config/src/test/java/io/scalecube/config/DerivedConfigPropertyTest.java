@@ -0,0 +1,127 @@
+package io.scalecube.config;
+
+import static io.scalecube.config.TestUtil.WAIT_FOR_RELOAD_PERIOD_MILLIS;
+import static io.scalecube.config.TestUtil.mapBuilder;
+import static io.scalecube.config.TestUtil.newConfigRegistry;
+import static io.scalecube.config.TestUtil.toConfigProps;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import io.scalecube.config.source.ConfigSource;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DerivedConfigPropertyTest {
+
+  @Mock private ConfigSource configSource;
+
+  @Test
+  void testDerivedValueIsMemoizedAndRecomputedOnDependencyChange() throws Exception {
+    when(configSource.loadConfig())
+        .thenReturn(toConfigProps(mapBuilder().put("host", "h1").put("port", "1").build()))
+        .thenReturn(toConfigProps(mapBuilder().put("host", "h2").put("port", "1").build()));
+    ConfigRegistryImpl configRegistry = newConfigRegistry(configSource);
+
+    StringConfigProperty host = configRegistry.stringProperty("host");
+    IntConfigProperty port = configRegistry.intProperty("port");
+    AtomicInteger computations = new AtomicInteger();
+    DerivedConfigProperty<String> address =
+        configRegistry.derived(
+            () -> {
+              computations.incrementAndGet();
+              return host.valueOrThrow() + ":" + port.valueOrThrow();
+            },
+            host,
+            port);
+
+    assertEquals("h1:1", address.valueOrThrow());
+    assertEquals("h1:1", address.valueOrThrow());
+    assertEquals(1, computations.get());
+
+    TimeUnit.MILLISECONDS.sleep(WAIT_FOR_RELOAD_PERIOD_MILLIS);
+
+    assertEquals("h2:1", address.valueOrThrow());
+    assertEquals("h2:1", address.valueOrThrow());
+    assertEquals(2, computations.get());
+  }
+
+  @Test
+  void testDerivedValueNotRecomputedOnOtherPropertyChange() throws Exception {
+    when(configSource.loadConfig())
+        .thenReturn(toConfigProps(mapBuilder().put("host", "h1").put("other", "1").build()))
+        .thenReturn(toConfigProps(mapBuilder().put("host", "h1").put("other", "2").build()));
+    ConfigRegistryImpl configRegistry = newConfigRegistry(configSource);
+
+    StringConfigProperty host = configRegistry.stringProperty("host");
+    AtomicInteger computations = new AtomicInteger();
+    DerivedConfigProperty<String> upperHost =
+        configRegistry.derived(
+            () -> {
+              computations.incrementAndGet();
+              return host.valueOrThrow().toUpperCase();
+            },
+            host);
+
+    assertEquals("H1", upperHost.valueOrThrow());
+
+    TimeUnit.MILLISECONDS.sleep(WAIT_FOR_RELOAD_PERIOD_MILLIS);
+
+    assertEquals("H1", upperHost.valueOrThrow());
+    assertEquals(1, computations.get());
+  }
+
+  @Test
+  void testDerivedValueIsRecomputedOnObjectPropertyFieldChange() throws Exception {
+    when(configSource.loadConfig())
+        .thenReturn(toConfigProps(mapBuilder().put("db.host", "h1").put("db.port", "1").build()))
+        .thenReturn(toConfigProps(mapBuilder().put("db.host", "h1").put("db.port", "2").build()));
+    ConfigRegistryImpl configRegistry = newConfigRegistry(configSource);
+
+    ObjectConfigProperty<DbSettings> db = configRegistry.objectProperty("db", DbSettings.class);
+    DerivedConfigProperty<String> address =
+        configRegistry.derived(
+            () -> db.value().map(settings -> settings.host + ":" + settings.port).orElse(null),
+            List.of(db));
+
+    assertEquals(Set.of("db.host", "db.port"), address.dependencies());
+    assertEquals("h1:1", address.valueOrThrow());
+
+    TimeUnit.MILLISECONDS.sleep(WAIT_FOR_RELOAD_PERIOD_MILLIS);
+
+    assertEquals("h1:2", address.valueOrThrow());
+  }
+
+  @Test
+  void testClosedDerivedValueIsNotMemoized() {
+    when(configSource.loadConfig())
+        .thenReturn(toConfigProps(mapBuilder().put("host", "h1").build()));
+    ConfigRegistryImpl configRegistry = newConfigRegistry(configSource);
+
+    StringConfigProperty host = configRegistry.stringProperty("host");
+    AtomicInteger computations = new AtomicInteger();
+    DerivedConfigProperty<String> upperHost =
+        configRegistry.derived(
+            () -> {
+              computations.incrementAndGet();
+              return host.valueOrThrow().toUpperCase();
+            },
+            host);
+
+    assertEquals("H1", upperHost.valueOrThrow());
+    upperHost.close();
+    assertEquals("H1", upperHost.valueOrThrow());
+    assertEquals(2, computations.get());
+  }
+
+  public static class DbSettings {
+    private String host;
+    private int port;
+  }
+}
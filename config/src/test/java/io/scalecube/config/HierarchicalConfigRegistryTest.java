@@ -0,0 +1,76 @@
+package io.scalecube.config;
+
+import static io.scalecube.config.TestUtil.WAIT_FOR_RELOAD_PERIOD_MILLIS;
+import static io.scalecube.config.TestUtil.mapBuilder;
+import static io.scalecube.config.TestUtil.toConfigProps;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.when;
+
+import io.scalecube.config.source.ConfigSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class HierarchicalConfigRegistryTest {
+
+  @Mock private ConfigSource parentSource;
+  @Mock private ConfigSource childSource;
+  @Captor private ArgumentCaptor<Consumer<Set<String>>> listenerCaptor;
+
+  @Test
+  void testChildOverlaysParentProperties() throws Exception {
+    when(parentSource.loadConfig())
+        .thenReturn(toConfigProps(mapBuilder().put("a", "1").put("b", "2").build()))
+        .thenReturn(toConfigProps(mapBuilder().put("a", "5").put("b", "2").build()));
+    when(parentSource.subscribe(listenerCaptor.capture())).thenReturn(() -> {});
+    when(childSource.loadConfig())
+        .thenReturn(toConfigProps(mapBuilder().put("b", "20").put("c", "30").build()));
+
+    ConfigRegistryImpl parent =
+        (ConfigRegistryImpl)
+            ConfigRegistry.create(
+                ConfigRegistrySettings.builder()
+                    .jmxEnabled(false)
+                    .noReload()
+                    .addLastSource("parent", parentSource)
+                    .build());
+    ConfigRegistryImpl child =
+        (ConfigRegistryImpl)
+            ConfigRegistry.create(
+                ConfigRegistrySettings.builder()
+                    .jmxEnabled(false)
+                    .noReload()
+                    .parent(parent)
+                    .addLastSource("child", childSource)
+                    .build());
+
+    assertEquals("1", child.stringValue("a", null));
+    assertEquals("20", child.stringValue("b", null));
+    assertEquals("30", child.stringValue("c", null));
+    assertEquals(3, child.allProperties().size());
+    assertSame(
+        parent.snapshot().propertyMap().get("a"), child.snapshot().propertyMap().get("a"));
+
+    List<String> events = new ArrayList<>();
+    child.stringProperty("a").addCallback((oldValue, newValue) -> events.add(newValue));
+
+    listenerCaptor.getValue().accept(null);
+    Thread.sleep(WAIT_FOR_RELOAD_PERIOD_MILLIS);
+
+    assertEquals("5", child.stringValue("a", null));
+    assertEquals("20", child.stringValue("b", null));
+    assertEquals(List.of("5"), events);
+
+    child.close();
+    parent.close();
+  }
+}
@@ -0,0 +1,127 @@
+package io.scalecube.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.scalecube.config.source.LoadedConfigProperty;
+import io.scalecube.config.source.MappedSnapshotConfigSource;
+import io.scalecube.config.source.MappedSnapshotPublisher;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedSnapshotConfigSourceTest {
+
+  @TempDir Path tempDir;
+
+  private static Map<String, ConfigProperty> properties(String... namesAndValues) {
+    Map<String, ConfigProperty> properties = new HashMap<>();
+    for (int i = 0; i < namesAndValues.length; i += 2) {
+      String name = namesAndValues[i];
+      properties.put(
+          name,
+          LoadedConfigProperty.withNameAndValue(name, namesAndValues[i + 1])
+              .origin("remote")
+              .build());
+    }
+    return properties;
+  }
+
+  @Test
+  void testPublishAndLoad() {
+    Path file = tempDir.resolve("config.snapshot");
+    try (MappedSnapshotPublisher publisher = new MappedSnapshotPublisher(file)) {
+      MappedSnapshotConfigSource source = new MappedSnapshotConfigSource(file);
+      assertThrows(ConfigSourceNotAvailableException.class, source::loadConfig);
+
+      long generation = publisher.publish(properties("a", "1", "b", null));
+      assertEquals(generation, publisher.publish(properties("a", "1", "b", null)));
+
+      Map<String, ConfigProperty> loaded = source.loadConfig();
+      assertEquals("1", loaded.get("a").valueAsString(null));
+      assertEquals("remote", loaded.get("a").origin().orElse(null));
+      assertNull(loaded.get("b").valueAsString(null));
+      assertSame(loaded, source.loadConfig());
+
+      StringBuilder largeValue = new StringBuilder();
+      for (int i = 0; i < 10_000; i++) {
+        largeValue.append('x');
+      }
+      publisher.publish(properties("a", "2", "large", largeValue.toString()));
+
+      loaded = source.loadConfig();
+      assertEquals("2", loaded.get("a").valueAsString(null));
+      assertEquals(largeValue.toString(), loaded.get("large").valueAsString(null));
+      assertEquals(2, loaded.size());
+    }
+  }
+
+  @Test
+  void testRegistryIsNotifiedOfNewGeneration() throws Exception {
+    Path file = tempDir.resolve("config.snapshot");
+    try (MappedSnapshotPublisher publisher = new MappedSnapshotPublisher(file)) {
+      publisher.publish(properties("a", "1"));
+
+      ConfigRegistry configRegistry =
+          ConfigRegistry.create(
+              ConfigRegistrySettings.builder()
+                  .jmxEnabled(false)
+                  .noReload()
+                  .addLastSource(
+                      "snapshot", new MappedSnapshotConfigSource(file, Duration.ofMillis(10)))
+                  .build());
+      assertEquals("1", configRegistry.stringValue("a", null));
+
+      publisher.publish(properties("a", "2"));
+      Thread.sleep(TestUtil.WAIT_FOR_RELOAD_PERIOD_MILLIS);
+
+      assertEquals("2", configRegistry.stringValue("a", null));
+      configRegistry.close();
+    }
+  }
+
+  @Test
+  void testReplacedFileIsRemapped() throws Exception {
+    Path file = tempDir.resolve("config.snapshot");
+    Path other = tempDir.resolve("other.snapshot");
+    MappedSnapshotConfigSource source = new MappedSnapshotConfigSource(file);
+    try (MappedSnapshotPublisher publisher = new MappedSnapshotPublisher(file)) {
+      assertEquals(2, publisher.publish(properties("a", "1")));
+    }
+    assertEquals("1", source.loadConfig().get("a").valueAsString(null));
+
+    try (MappedSnapshotPublisher publisher = new MappedSnapshotPublisher(other)) {
+      assertEquals(2, publisher.publish(properties("a", "2"))); // same generation
+    }
+    Files.move(other, file, StandardCopyOption.REPLACE_EXISTING);
+
+    assertEquals("2", source.loadConfig().get("a").valueAsString(null));
+  }
+
+  @Test
+  void testPollingStopsOnUnsubscribe() throws Exception {
+    Path file = tempDir.resolve("config.snapshot");
+    try (MappedSnapshotPublisher publisher = new MappedSnapshotPublisher(file)) {
+      publisher.publish(properties("a", "1"));
+      MappedSnapshotConfigSource source =
+          new MappedSnapshotConfigSource(file, Duration.ofMillis(10));
+      AtomicInteger notifications = new AtomicInteger();
+      Runnable unsubscribe = source.subscribe(names -> notifications.incrementAndGet());
+      Thread.sleep(TestUtil.WAIT_FOR_RELOAD_PERIOD_MILLIS);
+      assertEquals(1, notifications.get());
+
+      unsubscribe.run();
+      publisher.publish(properties("a", "2"));
+      Thread.sleep(TestUtil.WAIT_FOR_RELOAD_PERIOD_MILLIS);
+      assertEquals(1, notifications.get());
+    }
+  }
+}
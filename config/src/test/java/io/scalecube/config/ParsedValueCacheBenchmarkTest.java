@@ -0,0 +1,118 @@
+package io.scalecube.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Throughput comparison of cached list, multimap and duration parsers against previous regex-split
+ * based parsers, on a fixed set of raw values which are parsed over and over (like on every
+ * reload). Skipped by default, run with {@code mvn test -Dtest=ParsedValueCacheBenchmarkTest
+ * -Dbenchmark=true}.
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ParsedValueCacheBenchmarkTest {
+
+  private static final String[] LIST_VALUES = {
+    "1,2,3,4,5,6,7,8,9,10", "host1:4801,host2:4801,host3:4801", "a,b,,c,,"
+  };
+  private static final String[] MULTIMAP_VALUES = {
+    "a=1,2,3,b=4,5,c=6", "key1=10,key2=20,key2=30", "x=1,y=2,z=3,,"
+  };
+  private static final String[] DURATION_VALUES = {"100ms", "5s", "1 m", "PT15M", "250us"};
+
+  private static final int WARMUP_ITERATIONS = 5;
+  private static final int ITERATIONS = 10;
+  private static final int OPS_PER_ITERATION = 1_000_000;
+
+  @Test
+  void benchmarkListParser() {
+    Function<String, List<String>> cachedParser =
+        ListConfigPropertyImpl.toListPropertyParser(ConfigRegistryImpl.STRING_PARSER);
+    for (String value : LIST_VALUES) {
+      assertEquals(regexListParser(value), cachedParser.apply(value), value);
+    }
+
+    run("list (regex split)", LIST_VALUES, ParsedValueCacheBenchmarkTest::regexListParser);
+    run("list (cached)", LIST_VALUES, cachedParser);
+  }
+
+  @Test
+  void benchmarkMultimapParser() {
+    Function<String, Map<String, List<Long>>> cachedParser =
+        MultimapConfigPropertyImpl.toMultimapPropertyParser(ConfigRegistryImpl.LONG_PARSER);
+    for (String value : MULTIMAP_VALUES) {
+      assertEquals(regexMultimapParser(value), cachedParser.apply(value), value);
+    }
+
+    run(
+        "multimap (regex split)",
+        MULTIMAP_VALUES,
+        ParsedValueCacheBenchmarkTest::regexMultimapParser);
+    run("multimap (cached)", MULTIMAP_VALUES, cachedParser);
+  }
+
+  @Test
+  void benchmarkDurationParser() {
+    run("duration (parser)", DURATION_VALUES, DurationParser::parseDuration);
+    run("duration (cached)", DURATION_VALUES, ConfigRegistryImpl.DURATION_PARSER);
+  }
+
+  private static void run(String name, String[] values, Function<String, ?> parser) {
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      iteration(values, parser);
+    }
+    long[] results = new long[ITERATIONS];
+    for (int i = 0; i < ITERATIONS; i++) {
+      results[i] = iteration(values, parser);
+    }
+    double avgNanos = Arrays.stream(results).average().orElse(0) / OPS_PER_ITERATION;
+    System.out.printf("%-25s %8.1f ns/op%n", name, avgNanos);
+  }
+
+  private static long iteration(String[] values, Function<String, ?> parser) {
+    long start = System.nanoTime();
+    int blackhole = 0;
+    for (int i = 0; i < OPS_PER_ITERATION; i++) {
+      blackhole += System.identityHashCode(parser.apply(values[i % values.length]));
+    }
+    long elapsed = System.nanoTime() - start;
+    if (blackhole == 42) {
+      System.out.println(blackhole); // keeps results alive
+    }
+    return elapsed;
+  }
+
+  private static List<String> regexListParser(String str) {
+    return Arrays.stream(str.split(",")).collect(Collectors.toList());
+  }
+
+  private static Map<String, List<Long>> regexMultimapParser(String str) {
+    Map<String, List<Long>> result = new LinkedHashMap<>();
+    String key = null;
+    for (String token : str.split(",")) {
+      String[] entry = token.split("=", 2);
+      String value;
+      if (entry.length > 1) {
+        key = entry[0];
+        value = entry[1];
+      } else {
+        value = entry[0];
+      }
+      if (key != null) {
+        result.computeIfAbsent(key, k -> new ArrayList<>()).add(Long.parseLong(value));
+      }
+    }
+    return result;
+  }
+}
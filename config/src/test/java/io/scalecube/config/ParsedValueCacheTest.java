@@ -0,0 +1,100 @@
+package io.scalecube.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class ParsedValueCacheTest {
+
+  @Test
+  void testSplitSameAsStringSplit() {
+    for (String str : new String[] {"", "a", ",", "a,,", ",a", "a,,b", ",,a,,", "k=v,2"}) {
+      assertEquals(Arrays.asList(str.split(",")), ParsedValueCache.split(str, ','), str);
+    }
+  }
+
+  @Test
+  void testSameRawValueParsedOnce() {
+    Function<String, List<Integer>> parser =
+        ListConfigPropertyImpl.toListPropertyParser(ConfigRegistryImpl.INT_PARSER);
+
+    List<Integer> list = parser.apply("1,2,3");
+
+    assertEquals(Arrays.asList(1, 2, 3), list);
+    assertSame(list, parser.apply("1,2,3"));
+    assertSame(
+        list,
+        ListConfigPropertyImpl.toListPropertyParser(ConfigRegistryImpl.INT_PARSER).apply("1,2,3"));
+    assertThrows(UnsupportedOperationException.class, () -> list.add(4));
+  }
+
+  @Test
+  void testMultimapParsedValueIsImmutable() {
+    Function<String, Map<String, List<String>>> parser =
+        MultimapConfigPropertyImpl.toMultimapPropertyParser(ConfigRegistryImpl.STRING_PARSER);
+
+    Map<String, List<String>> map = parser.apply("a=1,2,b=3");
+
+    assertEquals(Arrays.asList("1", "2"), map.get("a"));
+    assertEquals(Arrays.asList("3"), map.get("b"));
+    assertThrows(UnsupportedOperationException.class, () -> map.get("a").add("4"));
+    assertThrows(UnsupportedOperationException.class, () -> map.remove("b"));
+  }
+
+  @Test
+  void testCacheIsBounded() {
+    Function<String, List<Integer>> parser =
+        ListConfigPropertyImpl.toListPropertyParser(ConfigRegistryImpl.INT_PARSER);
+
+    for (int i = 0; i < 2 * ParsedValueCache.CAPACITY; i++) {
+      parser.apply(i + "," + i);
+    }
+
+    assertTrue(ParsedValueCache.size() <= ParsedValueCache.CAPACITY);
+    assertSame(parser.apply("1,1"), parser.apply("1,1"));
+  }
+
+  @Test
+  void testParsersAreSharedAmongRegistries() {
+    Converters converters = new Converters(Collections.emptyMap());
+    Converters customConverters =
+        new Converters(Collections.singletonMap(LocalDate.class, str -> LocalDate.MIN));
+
+    assertSame(converters.converter(TimeUnit.class), customConverters.converter(TimeUnit.class));
+    assertSame(
+        ListConfigPropertyImpl.toListPropertyParser(converters.converter(TimeUnit.class))
+            .apply("SECONDS,DAYS"),
+        ListConfigPropertyImpl.toListPropertyParser(customConverters.converter(TimeUnit.class))
+            .apply("SECONDS,DAYS"));
+    assertEquals(LocalDate.MIN, customConverters.converter(LocalDate.class).apply("2020-01-01"));
+    assertEquals(
+        LocalDate.of(2020, 1, 1), converters.converter(LocalDate.class).apply("2020-01-01"));
+  }
+
+  @Test
+  void testNullResultIsParsedOnce() {
+    AtomicInteger parses = new AtomicInteger();
+    Function<String, Object> parser =
+        ParsedValueCache.cached(
+            str -> {
+              parses.incrementAndGet();
+              return null;
+            });
+
+    assertNull(parser.apply("null-result"));
+    assertNull(parser.apply("null-result"));
+    assertEquals(1, parses.get());
+  }
+}
@@ -0,0 +1,110 @@
+package io.scalecube.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.scalecube.config.source.LoadedConfigProperty;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class PlaceholderResolverTest {
+
+  private final PlaceholderResolver resolver = new PlaceholderResolver();
+
+  private static Map<String, LoadedConfigProperty> props(String... namesAndValues) {
+    Map<String, LoadedConfigProperty> map = new HashMap<>();
+    for (int i = 0; i < namesAndValues.length; i += 2) {
+      map.put(
+          namesAndValues[i],
+          LoadedConfigProperty.withNameAndValue(namesAndValues[i], namesAndValues[i + 1])
+              .source("source")
+              .build());
+    }
+    return map;
+  }
+
+  private static String value(Map<String, LoadedConfigProperty> map, String name) {
+    return map.get(name).valueAsString(null);
+  }
+
+  @Test
+  void testResolveTransitivePlaceholders() {
+    Map<String, LoadedConfigProperty> map =
+        props("base.url", "http://a", "api", "${base.url}/api", "v2", "${api}/v2");
+
+    resolver.resolve(map);
+
+    assertEquals("http://a/api", value(map, "api"));
+    assertEquals("http://a/api/v2", value(map, "v2"));
+    assertEquals("source", map.get("v2").source().orElse(null));
+  }
+
+  @Test
+  void testReResolveOnReferencedPropertyChange() {
+    resolver.resolve(props("base.url", "http://a", "api", "${base.url}/api"));
+
+    Map<String, LoadedConfigProperty> map = props("base.url", "http://b", "api", "${base.url}/api");
+    resolver.resolve(map);
+
+    assertEquals("http://b/api", value(map, "api"));
+  }
+
+  @Test
+  void testDefaultsAndAbsentReferences() {
+    Map<String, LoadedConfigProperty> map = props("p", "${absent:42}-${absent}");
+
+    resolver.resolve(map);
+
+    assertEquals("42-${absent}", value(map, "p"));
+  }
+
+  @Test
+  void testCyclicReferencesDoNotFail() {
+    Map<String, LoadedConfigProperty> map = props("a", "${b}", "b", "${a}", "c", "c");
+
+    resolver.resolve(map);
+
+    assertEquals("c", value(map, "c"));
+  }
+
+  @Test
+  void testCyclicReferencesAreLeftUnresolved() {
+    Map<String, LoadedConfigProperty> map =
+        props("a", "${b}", "b", "${a}", "c", "${a}-${d}", "d", "d", "e", "${e}");
+
+    resolver.resolve(map);
+
+    assertEquals("${b}", value(map, "a"));
+    assertEquals("${a}", value(map, "b"));
+    assertEquals("${a}-d", value(map, "c"));
+    assertEquals("${e}", value(map, "e"));
+  }
+
+  @Test
+  void testReResolveOnBrokenCycle() {
+    resolver.resolve(props("a", "${b}", "b", "${a}", "c", "${a}"));
+
+    Map<String, LoadedConfigProperty> map = props("a", "${b}", "b", "x", "c", "${a}");
+    resolver.resolve(map, Collections.singleton("b"));
+
+    assertEquals("x", value(map, "a"));
+    assertEquals("x", value(map, "c"));
+  }
+
+  @Test
+  void testResolveReturnsChangedAndDependentNames() {
+    resolver.resolve(props("base.url", "http://a", "api", "${base.url}/api", "other", "o"));
+
+    Map<String, LoadedConfigProperty> map =
+        props("base.url", "http://b", "api", "${base.url}/api", "other", "o");
+    Set<String> names = resolver.resolve(map, Collections.singleton("base.url"));
+
+    assertEquals(new HashSet<>(Arrays.asList("base.url", "api")), names);
+    assertEquals("http://b/api", value(map, "api"));
+    assertEquals("o", value(map, "other"));
+  }
+}
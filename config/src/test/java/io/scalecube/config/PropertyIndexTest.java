@@ -0,0 +1,61 @@
+package io.scalecube.config;
+
+import static io.scalecube.config.TestUtil.mapBuilder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import io.scalecube.config.source.LoadedConfigProperty;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class PropertyIndexTest {
+
+  private static PropertyIndex newIndex(Map<String, String> props) {
+    Map<String, LoadedConfigProperty> propertyMap = new HashMap<>();
+    props.forEach((k, v) -> propertyMap.put(k, LoadedConfigProperty.forNameAndValue(k, v)));
+    return PropertyIndex.of(propertyMap);
+  }
+
+  @Test
+  void testNamesByPrefix() {
+    PropertyIndex index =
+        newIndex(
+            mapBuilder()
+                .put("db.shards.2.host", "h2")
+                .put("db.shards.1.host", "h1")
+                .put("db.shards", "2")
+                .put("db.user", "u")
+                .put("dc", "eu")
+                .build());
+
+    assertEquals(
+        ImmutableList.of("db.shards.1.host", "db.shards.2.host"),
+        new ArrayList<>(index.names("db.shards.")));
+    assertEquals(
+        ImmutableList.of("db.shards", "db.shards.1.host", "db.shards.2.host", "db.user"),
+        new ArrayList<>(index.names("db.")));
+    assertEquals(5, index.names("").size());
+    assertTrue(index.names("db.shards.3").isEmpty());
+    assertTrue(index.names("zzz").isEmpty());
+  }
+
+  @Test
+  void testPropertiesByPrefix() {
+    PropertyIndex index =
+        newIndex(mapBuilder().put("a.b", "1").put("a.c", "2").put("ab", "3").build());
+
+    Map<String, LoadedConfigProperty> properties = index.properties("a.");
+
+    assertEquals(ImmutableList.of("a.b", "a.c"), new ArrayList<>(properties.keySet()));
+    assertEquals("2", properties.get("a.c").valueAsString(null));
+  }
+
+  @Test
+  void testEmptyIndex() {
+    assertTrue(PropertyIndex.EMPTY.names("a").isEmpty());
+    assertTrue(PropertyIndex.EMPTY.properties("").isEmpty());
+  }
+}
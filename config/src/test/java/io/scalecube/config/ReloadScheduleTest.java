@@ -0,0 +1,84 @@
+package io.scalecube.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class ReloadScheduleTest {
+
+  private static final long INTERVAL = Duration.ofSeconds(1).toNanos();
+  private static final long MAX_INTERVAL = Duration.ofSeconds(5).toNanos();
+
+  private ReloadSchedule newSchedule(double jitter) {
+    return new ReloadSchedule(Duration.ofSeconds(1), Duration.ofSeconds(5), jitter);
+  }
+
+  @Test
+  void testBackoffOnFailure() {
+    ReloadSchedule schedule = newSchedule(0);
+
+    assertEquals(INTERVAL, schedule.nextDelayNanos());
+    schedule.onFailed();
+    assertEquals(2 * INTERVAL, schedule.nextDelayNanos());
+    schedule.onFailed();
+    assertEquals(4 * INTERVAL, schedule.nextDelayNanos());
+    schedule.onFailed();
+    assertEquals(MAX_INTERVAL, schedule.nextDelayNanos());
+
+    schedule.onLoaded(true);
+    assertEquals(INTERVAL, schedule.nextDelayNanos());
+  }
+
+  @Test
+  void testSlowdownWhileUnchanged() {
+    ReloadSchedule schedule = newSchedule(0);
+
+    for (int i = 0; i < 3; i++) {
+      schedule.onLoaded(false);
+      assertEquals(INTERVAL, schedule.nextDelayNanos());
+    }
+    schedule.onLoaded(false);
+    assertTrue(schedule.nextDelayNanos() > INTERVAL);
+    for (int i = 0; i < 100; i++) {
+      schedule.onLoaded(false);
+    }
+    assertEquals(MAX_INTERVAL, schedule.nextDelayNanos());
+
+    schedule.onLoaded(true);
+    assertEquals(INTERVAL, schedule.nextDelayNanos());
+  }
+
+  @Test
+  void testJitter() {
+    ReloadSchedule schedule = newSchedule(0.5);
+
+    for (int i = 0; i < 100; i++) {
+      long delay = schedule.nextDelayNanos();
+      assertTrue(delay > INTERVAL / 2 && delay <= INTERVAL, "delay: " + delay);
+    }
+  }
+
+  @Test
+  void testReloadIntervalSettings() {
+    ConfigRegistrySettings settings =
+        ConfigRegistrySettings.builder()
+            .reloadInterval(Duration.ofMillis(500))
+            .reloadInterval("remote", Duration.ofSeconds(10))
+            .maxReloadInterval(Duration.ofSeconds(5))
+            .build();
+
+    assertEquals(Duration.ofMillis(500), settings.getReloadInterval("local"));
+    assertEquals(Duration.ofSeconds(5), settings.getMaxReloadInterval("local"));
+    assertEquals(Duration.ofSeconds(10), settings.getReloadInterval("remote"));
+    assertEquals(Duration.ofSeconds(10), settings.getMaxReloadInterval("remote"));
+    assertEquals(1, settings.getReloadIntervalSec());
+    assertNull(ConfigRegistrySettings.builder().noReload().build().getReloadInterval());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ConfigRegistrySettings.builder().reloadInterval(Duration.ZERO));
+  }
+}
@@ -0,0 +1,195 @@
+package io.scalecube.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.scalecube.config.source.ConfigSource;
+import io.scalecube.config.source.LoadedConfigProperty;
+import io.scalecube.config.source.PropertySelection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SelectiveLoadingTest {
+
+  private final CountingSource source = new CountingSource();
+  private ConfigRegistry configRegistry;
+
+  @AfterEach
+  void tearDown() {
+    configRegistry.close();
+  }
+
+  private ConfigRegistry newConfigRegistry(PropertySelection initialSelection) {
+    configRegistry =
+        ConfigRegistry.create(
+            ConfigRegistrySettings.builder()
+                .jmxEnabled(false)
+                .noReload()
+                .selectiveLoadingEnabled(true)
+                .initialSelection(initialSelection)
+                .addLastSource("source", source)
+                .build());
+    return configRegistry;
+  }
+
+  @Test
+  void testInitiallySelectedPropertiesAreLoadedOnce() {
+    newConfigRegistry(
+        PropertySelection.of(Arrays.asList("a", "b"), Collections.singleton("db.")));
+
+    assertEquals("1", configRegistry.stringValue("a", null));
+    assertEquals("2", configRegistry.stringValue("b", null));
+    assertEquals("host", configRegistry.stringValue("db.host", null));
+    assertEquals(1, source.loads.get());
+  }
+
+  @Test
+  void testUnselectedPropertyIsLoadedOnRegistration() {
+    newConfigRegistry(PropertySelection.of(Collections.singleton("a"), Collections.emptySet()));
+
+    assertEquals("1", configRegistry.stringValue("a", null));
+    assertEquals("3", configRegistry.stringValue("c", null));
+    assertEquals(2, source.loads.get());
+  }
+
+  @Test
+  void testConcurrentRegistrationsShareReload() throws Exception {
+    newConfigRegistry(PropertySelection.EMPTY);
+    int loads = source.loads.get();
+    source.blockLoads();
+
+    List<Thread> threads = new ArrayList<>();
+    threads.add(register("a"));
+    source.awaitBlockedLoad(); // reload of the first registration is in progress
+    threads.add(register("b"));
+    threads.add(register("c"));
+    Thread.sleep(100); // let other registrations join pending push
+    source.unblockLoads();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    // the rest of registrations are pushed at once and share single reload
+    assertEquals("1", configRegistry.stringValue("a", null));
+    assertEquals("3", configRegistry.stringValue("c", null));
+    assertEquals(loads + 2, source.loads.get());
+  }
+
+  @Test
+  void testQueriesDontWidenSelection() {
+    newConfigRegistry(PropertySelection.of(Collections.singleton("a"), Collections.emptySet()));
+
+    assertEquals(Collections.emptySet(), configRegistry.propertyNames("db."));
+    assertEquals(Collections.emptyMap(), configRegistry.propertyValues("db."));
+    configRegistry.addChangeListener(Collections.singleton("c"), events -> {});
+    configRegistry.addPrefixListener("db.", events -> {});
+
+    assertEquals(Collections.singleton("a"), configRegistry.allProperties());
+    assertEquals(1, source.loads.get());
+  }
+
+  @Test
+  void testSharedSourceLoadsSelectionOfEachRegistry() {
+    newConfigRegistry(PropertySelection.of(Collections.singleton("a"), Collections.emptySet()));
+    ConfigRegistry other =
+        ConfigRegistry.create(
+            ConfigRegistrySettings.builder()
+                .jmxEnabled(false)
+                .noReload()
+                .selectiveLoadingEnabled(true)
+                .addLastSource("source", source)
+                .build());
+    ConfigRegistry nonSelective =
+        ConfigRegistry.create(
+            ConfigRegistrySettings.builder()
+                .jmxEnabled(false)
+                .noReload()
+                .addLastSource("source", source)
+                .build());
+    try {
+      assertEquals("3", other.stringValue("c", null));
+
+      assertEquals(Collections.singleton("a"), configRegistry.allProperties());
+      assertEquals(Collections.singleton("c"), other.allProperties());
+      assertEquals(4, nonSelective.allProperties().size());
+    } finally {
+      other.close();
+      nonSelective.close();
+    }
+  }
+
+  private Thread register(String name) {
+    Thread thread = new Thread(() -> configRegistry.stringProperty(name));
+    thread.start();
+    return thread;
+  }
+
+  private static class CountingSource implements ConfigSource {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private volatile CountDownLatch blockedLoad;
+    private volatile CountDownLatch unblock;
+
+    @Override
+    public Map<String, ConfigProperty> loadConfig() {
+      return loadConfig(PropertySelection.of(Collections.emptySet(), Collections.singleton("")));
+    }
+
+    @Override
+    public Map<String, ConfigProperty> loadConfig(PropertySelection selection) {
+      loads.incrementAndGet();
+      CountDownLatch unblock = this.unblock;
+      if (unblock != null) {
+        blockedLoad.countDown();
+        try {
+          unblock.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      Map<String, ConfigProperty> result = new HashMap<>();
+      put(result, selection, "a", "1");
+      put(result, selection, "b", "2");
+      put(result, selection, "c", "3");
+      put(result, selection, "db.host", "host");
+      return result;
+    }
+
+    private void put(
+        Map<String, ConfigProperty> result,
+        PropertySelection selection,
+        String name,
+        String value) {
+      if (selection.matches(name)) {
+        result.put(name, LoadedConfigProperty.forNameAndValue(name, value));
+      }
+    }
+
+    @Override
+    public boolean supportsSelection() {
+      return true;
+    }
+
+    void blockLoads() {
+      blockedLoad = new CountDownLatch(1);
+      unblock = new CountDownLatch(1);
+    }
+
+    void awaitBlockedLoad() throws InterruptedException {
+      blockedLoad.await();
+    }
+
+    void unblockLoads() {
+      CountDownLatch unblock = this.unblock;
+      this.unblock = null;
+      unblock.countDown();
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package io.scalecube.config;
+
+import static io.scalecube.config.TestUtil.WAIT_FOR_RELOAD_PERIOD_MILLIS;
+import static io.scalecube.config.TestUtil.mapBuilder;
+import static io.scalecube.config.TestUtil.toConfigProps;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.scalecube.config.source.ConfigSource;
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SharedSourceCacheTest {
+
+  @Mock private ConfigSource configSource;
+  @Captor private ArgumentCaptor<Consumer<Set<String>>> listenerCaptor;
+
+  private ConfigRegistrySettings settings() {
+    return ConfigRegistrySettings.builder()
+        .jmxEnabled(false)
+        .noReload()
+        .sharedLoadWindow(Duration.ofMinutes(1))
+        .addLastSource("source", configSource)
+        .build();
+  }
+
+  @Test
+  void testLoadResultIsSharedBetweenRegistries() throws Exception {
+    when(configSource.loadConfig())
+        .thenReturn(toConfigProps(mapBuilder().put("prop", "1").build()))
+        .thenReturn(toConfigProps(mapBuilder().put("prop", "2").build()));
+    when(configSource.subscribe(listenerCaptor.capture())).thenReturn(() -> {});
+
+    ConfigRegistry configRegistry1 = ConfigRegistry.create(settings());
+    ConfigRegistry configRegistry2 = ConfigRegistry.create(settings());
+
+    verify(configSource, times(1)).loadConfig();
+    assertEquals("1", configRegistry2.stringValue("prop", null));
+
+    // pushed change invalidates shared load result
+    listenerCaptor.getAllValues().forEach(listener -> listener.accept(null));
+    Thread.sleep(WAIT_FOR_RELOAD_PERIOD_MILLIS);
+
+    verify(configSource, times(2)).loadConfig();
+    assertEquals("2", configRegistry1.stringValue("prop", null));
+    assertEquals("2", configRegistry2.stringValue("prop", null));
+
+    configRegistry1.close();
+    configRegistry2.close();
+  }
+
+  @Test
+  void testSourceIsReleasedOnClose() {
+    when(configSource.loadConfig())
+        .thenReturn(toConfigProps(mapBuilder().put("prop", "1").build()));
+
+    ConfigRegistry.create(settings()).close();
+    ConfigRegistry.create(settings()).close();
+
+    verify(configSource, times(2)).loadConfig();
+  }
+
+  @Test
+  void testSourceIsUnsubscribedOnLastRelease() {
+    Runnable unsubscribe = mock(Runnable.class);
+    when(configSource.loadConfig())
+        .thenReturn(toConfigProps(mapBuilder().put("prop", "1").build()));
+    when(configSource.subscribe(any())).thenReturn(unsubscribe);
+
+    ConfigRegistry configRegistry1 = ConfigRegistry.create(settings());
+    ConfigRegistry configRegistry2 = ConfigRegistry.create(settings());
+
+    configRegistry1.close();
+    verify(unsubscribe, times(1)).run(); // subscription of the registry
+
+    configRegistry2.close();
+    verify(unsubscribe, times(3)).run(); // subscriptions of the registry and of shared entry
+  }
+}
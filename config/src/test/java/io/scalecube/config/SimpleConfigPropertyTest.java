@@ -231,6 +231,71 @@ void testValidationFailingWithNullPointerIfNullValueApplied() {
     assertThrows(NullPointerException.class, () -> intProperty.addValidator(i -> i >= 42));
   }
 
+  // Lazy parsing
+
+  @Test
+  void testLazyParsedValueReflectsReload() throws Exception {
+    when(configSource.loadConfig())
+        .thenReturn(toConfigProps(mapBuilder().put("prop", "1").build()))
+        .thenReturn(toConfigProps(mapBuilder().put("prop", "2").build()));
+    ConfigRegistryImpl configRegistry = newLazyConfigRegistry(configSource);
+
+    IntConfigProperty intProperty = configRegistry.intProperty("prop");
+    assertEquals(1, intProperty.valueOrThrow());
+
+    TimeUnit.MILLISECONDS.sleep(WAIT_FOR_RELOAD_PERIOD_MILLIS);
+
+    assertEquals(2, intProperty.valueOrThrow());
+    assertEquals("2", intProperty.valueAsString(null));
+  }
+
+  @Test
+  void testLazyParsingKeepsPreviousValueIfParsingFailed() throws Exception {
+    when(configSource.loadConfig())
+        .thenReturn(toConfigProps(mapBuilder().put("prop", "1").build()))
+        .thenReturn(toConfigProps(mapBuilder().put("prop", "not an int").build()));
+    ConfigRegistryImpl configRegistry = newLazyConfigRegistry(configSource);
+
+    IntConfigProperty intProperty = configRegistry.intProperty("prop");
+    assertEquals(1, intProperty.valueOrThrow());
+
+    TimeUnit.MILLISECONDS.sleep(WAIT_FOR_RELOAD_PERIOD_MILLIS);
+
+    assertEquals(1, intProperty.valueOrThrow());
+    assertEquals("1", intProperty.valueAsString(null));
+  }
+
+  @Test
+  void testLazyParsingValidatorsRunEagerly() throws Exception {
+    when(configSource.loadConfig())
+        .thenReturn(toConfigProps(mapBuilder().put("prop", "1").build()))
+        .thenReturn(toConfigProps(mapBuilder().put("prop", "100").build()));
+    ConfigRegistryImpl configRegistry = newLazyConfigRegistry(configSource);
+
+    IntConfigProperty intProperty = configRegistry.intProperty("prop");
+    intProperty.addValidator(i -> i < 42);
+    intProperty.addCallback((i1, i2) -> sideEffect.apply(i1, i2));
+
+    TimeUnit.MILLISECONDS.sleep(WAIT_FOR_RELOAD_PERIOD_MILLIS);
+
+    assertEquals(1, intProperty.valueOrThrow());
+    verify(sideEffect, never()).apply(any(), any());
+  }
+
+  private static ConfigRegistryImpl newLazyConfigRegistry(ConfigSource configSource) {
+    ConfigRegistryImpl configRegistry =
+        new ConfigRegistryImpl(
+            ConfigRegistrySettings.builder()
+                .jmxEnabled(false)
+                .keepRecentConfigEvents(0)
+                .addLastSource("source", configSource)
+                .reloadIntervalSec(TestUtil.RELOAD_PERIOD_SEC)
+                .lazyParsingEnabled(true)
+                .build());
+    configRegistry.init();
+    return configRegistry;
+  }
+
   public interface SideEffect {
     boolean apply(Object t1, Object t2);
   }
@@ -0,0 +1,125 @@
+package io.scalecube.config;
+
+import static io.scalecube.config.TestUtil.mapBuilder;
+import static io.scalecube.config.TestUtil.toConfigProps;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import io.scalecube.config.source.ConfigSource;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TypedConfigPropertyTest {
+
+  @Mock private ConfigSource configSource;
+
+  private ConfigRegistryImpl newConfigRegistry(ConfigRegistrySettings.Builder builder) {
+    ConfigRegistryImpl configRegistry =
+        new ConfigRegistryImpl(
+            builder.jmxEnabled(false).noReload().addLastSource("source", configSource).build());
+    configRegistry.init();
+    return configRegistry;
+  }
+
+  @Test
+  void testBuiltInAndDiscoveredConverters() {
+    when(configSource.loadConfig())
+        .thenReturn(
+            toConfigProps(
+                mapBuilder()
+                    .put("mode", "fast")
+                    .put("rate", "1.25")
+                    .put("uri", "http://localhost/api")
+                    .put("address", "[::1]:4801")
+                    .put("size", "64kb")
+                    .put("date", "2020-01-01")
+                    .build()));
+    ConfigRegistryImpl configRegistry = newConfigRegistry(ConfigRegistrySettings.builder());
+
+    assertEquals(Mode.FAST, configRegistry.typedValue("mode", Mode.class, null));
+    assertEquals(new BigDecimal("1.25"), configRegistry.typedValue("rate", BigDecimal.class, null));
+    assertEquals(
+        URI.create("http://localhost/api"), configRegistry.typedValue("uri", URI.class, null));
+    assertEquals(
+        InetSocketAddress.createUnresolved("::1", 4801),
+        configRegistry.typedValue("address", InetSocketAddress.class, null));
+    assertEquals(DataSize.ofKilobytes(64), configRegistry.typedValue("size", DataSize.class, null));
+    assertEquals(
+        LocalDate.of(2020, 1, 1), configRegistry.typedValue("date", LocalDate.class, null));
+  }
+
+  @Test
+  void testTypedListAndMultimap() {
+    when(configSource.loadConfig())
+        .thenReturn(
+            toConfigProps(
+                mapBuilder().put("modes", "FAST,slow").put("sizes", "a=1kb,2,b=1mb").build()));
+    ConfigRegistryImpl configRegistry = newConfigRegistry(ConfigRegistrySettings.builder());
+
+    List<Mode> modes = configRegistry.typedListValue("modes", Mode.class, null);
+    Map<String, List<DataSize>> sizes =
+        configRegistry.typedMultimapValue("sizes", DataSize.class, null);
+
+    assertEquals(Arrays.asList(Mode.FAST, Mode.SLOW), modes);
+    assertEquals(Arrays.asList(DataSize.ofKilobytes(1), DataSize.ofBytes(2)), sizes.get("a"));
+    assertEquals(Collections.singletonList(DataSize.ofMegabytes(1)), sizes.get("b"));
+  }
+
+  @Test
+  void testCustomConverterUsedByObjectProperty() {
+    when(configSource.loadConfig())
+        .thenReturn(toConfigProps(mapBuilder().put("cfg.money", "42").build()));
+    ConfigRegistryImpl configRegistry =
+        newConfigRegistry(
+            ConfigRegistrySettings.builder()
+                .addConverter(Money.class, str -> new Money(Long.parseLong(str))));
+
+    ConfigClass config = configRegistry.objectValue("cfg", ConfigClass.class, null);
+
+    assertEquals(42, config.money.amount);
+  }
+
+  @Test
+  void testBuiltInConverterCantBeOverridden() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ConfigRegistrySettings.builder().addConverter(Integer.class, Integer::valueOf));
+  }
+
+  @Test
+  void testNoConverterFound() {
+    ConfigRegistryImpl configRegistry = newConfigRegistry(ConfigRegistrySettings.builder());
+
+    assertThrows(
+        IllegalArgumentException.class, () -> configRegistry.typedProperty("money", Money.class));
+  }
+
+  public enum Mode {
+    FAST,
+    SLOW
+  }
+
+  private static class Money {
+    private final long amount;
+
+    private Money(long amount) {
+      this.amount = amount;
+    }
+  }
+
+  private static class ConfigClass {
+    private Money money;
+  }
+}
@@ -2,18 +2,36 @@
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import io.scalecube.config.ConfigProperty;
+import io.scalecube.config.ConfigRegistry;
+import io.scalecube.config.ConfigRegistrySettings;
 import io.scalecube.config.ConfigSourceNotAvailableException;
+import io.scalecube.config.source.PropertySelection;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
@@ -146,4 +164,261 @@ void testKeyValueLoadConfigFindAllRepositoryTimeout() throws Exception {
 
     assertThrows(ConfigSourceNotAvailableException.class, configSource::loadConfig);
   }
+
+  @Test
+  void testKeyValueLoadConfigJoinsInFlightFetchAfterTimeout() throws Exception {
+    KeyValueConfigName n1 = new KeyValueConfigName(g1, collectionName);
+    KeyValueConfigEntity entity = new KeyValueConfigEntity("p1", "v1", n1);
+    CountDownLatch latch = new CountDownLatch(1);
+
+    doAnswer(
+            (Answer<ImmutableList<KeyValueConfigEntity>>)
+                invocation -> {
+                  latch.await();
+                  return ImmutableList.of(entity);
+                })
+        .when(repository)
+        .findAll(n1);
+
+    assertThrows(ConfigSourceNotAvailableException.class, configSource::loadConfig);
+    assertThrows(ConfigSourceNotAvailableException.class, configSource::loadConfig);
+    verify(repository, times(1)).findAll(n1);
+
+    latch.countDown();
+
+    assertEquals("v1", configSource.loadConfig().get("p1").valueAsString().get());
+  }
+
+  @Test
+  void testKeyValueLoadConfigHedgedFetch() throws Exception {
+    KeyValueConfigName n1 = new KeyValueConfigName(g1, collectionName);
+    KeyValueConfigEntity entity = new KeyValueConfigEntity("p1", "v1", n1);
+    CountDownLatch latch = new CountDownLatch(1);
+    AtomicInteger attempts = new AtomicInteger();
+    KeyValueConfigSource configSource =
+        KeyValueConfigSource.withRepository(repository, collectionName)
+            .repositoryTimeout(Duration.ofSeconds(1))
+            .hedgeDelay(Duration.ofMillis(50))
+            .groups(g1)
+            .build();
+
+    doAnswer(
+            (Answer<ImmutableList<KeyValueConfigEntity>>)
+                invocation -> {
+                  if (attempts.incrementAndGet() == 1) {
+                    latch.await(); // slow primary fetch
+                  }
+                  return ImmutableList.of(entity);
+                })
+        .when(repository)
+        .findAll(n1);
+
+    try {
+      assertEquals("v1", configSource.loadConfig().get("p1").valueAsString().get());
+      assertEquals(2, attempts.get());
+    } finally {
+      latch.countDown();
+    }
+  }
+
+  @Test
+  void testKeyValueLoadConfigHedgedFetchesAreCapped() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    AtomicInteger attempts = new AtomicInteger();
+    KeyValueConfigSource configSource =
+        KeyValueConfigSource.withRepository(repository, collectionName)
+            .repositoryTimeout(Duration.ofMillis(500))
+            .hedgeDelay(Duration.ofMillis(50))
+            .groups(g1, g2, "group3")
+            .build();
+
+    doAnswer(
+            (Answer<ImmutableList<KeyValueConfigEntity>>)
+                invocation -> {
+                  attempts.incrementAndGet();
+                  latch.await(); // slow primary and hedged fetches
+                  return ImmutableList.of();
+                })
+        .when(repository)
+        .findAll(any(KeyValueConfigName.class));
+
+    try {
+      // 4 config names are being fetched, but only 2 of them are hedged
+      assertThrows(ConfigSourceNotAvailableException.class, configSource::loadConfig);
+      assertEquals(6, attempts.get());
+    } finally {
+      latch.countDown();
+    }
+  }
+
+  @Test
+  void testKeyValueLoadConfigBatchFetch() throws Exception {
+    KeyValueConfigName n1 = new KeyValueConfigName(g1, collectionName);
+    KeyValueConfigName n2 = new KeyValueConfigName(g2, collectionName);
+    KeyValueConfigName root = new KeyValueConfigName(null, collectionName);
+    KeyValueConfigEntity entity1 = new KeyValueConfigEntity("p1", "v1", n1);
+    KeyValueConfigEntity entity2 = new KeyValueConfigEntity("p1", "v2", root);
+
+    doReturn(true).when(repository).supportsBatchFetch();
+    doReturn(ImmutableMap.of(n1, ImmutableList.of(entity1), root, ImmutableList.of(entity2)))
+        .when(repository)
+        .findAllBatch(ImmutableList.of(n1, n2, root));
+
+    Map<String, ConfigProperty> config = configSource.loadConfig();
+
+    assertEquals(1, config.size());
+    assertEquals("v1", config.get("p1").valueAsString().get());
+    verify(repository, never()).findAll(any(KeyValueConfigName.class));
+  }
+
+  @Test
+  void testKeyValueLoadConfigAppliesChangesToMaterializedView() throws Exception {
+    KeyValueConfigName n1 = new KeyValueConfigName(g1, collectionName);
+    KeyValueConfigName root = new KeyValueConfigName(null, collectionName);
+    KeyValueConfigEntity entity1 = new KeyValueConfigEntity("p1", "v1", n1);
+    KeyValueConfigEntity entity2 = new KeyValueConfigEntity("p2", "v2", root);
+    KeyValueConfigEntity entity3 = new KeyValueConfigEntity("p3", "v3", root);
+    KeyValueConfigEntity entity1Updated = new KeyValueConfigEntity("p1", "v11", n1);
+    KeyValueConfigEntity entity2Deleted = new KeyValueConfigEntity("p2", "v2", root);
+    entity2Deleted.setDisabled(true);
+
+    doReturn(true).when(repository).supportsChangedSince();
+    doReturn(new KeyValueConfigChanges(1, ImmutableList.of(entity1, entity2, entity3)))
+        .when(repository)
+        .findChangedSince(anyList(), eq(-1L));
+    doReturn(new KeyValueConfigChanges(2, ImmutableList.of(entity1Updated, entity2Deleted)))
+        .when(repository)
+        .findChangedSince(anyList(), eq(1L));
+    doThrow(new RuntimeException("some exception"))
+        .when(repository)
+        .findChangedSince(anyList(), eq(2L));
+
+    assertEquals(3, configSource.loadConfig().size());
+
+    Map<String, ConfigProperty> config = configSource.loadConfig();
+
+    assertEquals(2, config.size());
+    assertEquals("v11", config.get("p1").valueAsString().get());
+    assertEquals("v3", config.get("p3").valueAsString().get());
+
+    assertEquals(config.keySet(), configSource.loadConfig().keySet()); // failed fetch keeps view
+  }
+
+  @Test
+  void testKeyValueWatchPushesChanges() {
+    KeyValueConfigName n1 = new KeyValueConfigName(g1, collectionName);
+    KeyValueConfigName root = new KeyValueConfigName(null, collectionName);
+    InMemoryKeyValueConfigRepository repository = new InMemoryKeyValueConfigRepository();
+    repository.put(root, "p1", "v1");
+    repository.put(root, "p2", "v2");
+    KeyValueConfigSource configSource =
+        KeyValueConfigSource.withRepository(repository, collectionName).groups(g1).build();
+    //noinspection unchecked
+    Consumer<Set<String>> listener = mock(Consumer.class);
+    configSource.subscribe(listener);
+
+    assertEquals(2, configSource.loadConfig().size());
+
+    repository.put(n1, "p1", "v11");
+    repository.remove(root, "p2");
+    repository.put(new KeyValueConfigName("other", collectionName), "p3", "v3");
+
+    verify(listener).accept(ImmutableSet.of("p1"));
+    verify(listener).accept(ImmutableSet.of("p2"));
+    verify(listener, times(2)).accept(any());
+
+    Map<String, ConfigProperty> config = configSource.loadConfig();
+
+    assertEquals(1, config.size());
+    assertEquals("v11", config.get("p1").valueAsString().get());
+  }
+
+  @Test
+  void testKeyValueWatchResyncsOnGap() throws Exception {
+    KeyValueConfigName root = new KeyValueConfigName(null, collectionName);
+    KeyValueConfigEntity entity1 = new KeyValueConfigEntity("p1", "v1", root);
+    KeyValueConfigEntity entity2 = new KeyValueConfigEntity("p2", "v2", root);
+    AutoCloseable watch = mock(AutoCloseable.class);
+    //noinspection unchecked
+    Consumer<Set<String>> listener = mock(Consumer.class);
+    configSource.subscribe(listener);
+
+    doReturn(true).when(repository).supportsChangedSince();
+    doReturn(true).when(repository).supportsWatch();
+    doReturn(new KeyValueConfigChanges(1, ImmutableList.of(entity1)))
+        .when(repository)
+        .findChangedSince(anyList(), eq(-1L));
+    ArgumentCaptor<KeyValueConfigWatchListener> watchListener =
+        ArgumentCaptor.forClass(KeyValueConfigWatchListener.class);
+    doReturn(watch).when(repository).watch(anyList(), eq(1L), watchListener.capture());
+
+    assertEquals(1, configSource.loadConfig().size());
+    assertEquals(1, configSource.loadConfig().size()); // served from view while watching
+
+    watchListener.getValue().onChanges(5, new KeyValueConfigChanges(6, Collections.emptyList()));
+
+    verify(watch).close();
+    verify(listener).accept(null);
+
+    doReturn(new KeyValueConfigChanges(6, ImmutableList.of(entity2)))
+        .when(repository)
+        .findChangedSince(anyList(), eq(-1L));
+
+    Map<String, ConfigProperty> config = configSource.loadConfig();
+
+    assertEquals(1, config.size());
+    assertEquals("v2", config.get("p2").valueAsString().get());
+    verify(repository, times(2)).findChangedSince(anyList(), eq(-1L));
+  }
+
+  @Test
+  void testKeyValueSelectiveLoading() {
+    KeyValueConfigName root = new KeyValueConfigName(null, collectionName);
+    InMemoryKeyValueConfigRepository repository = new InMemoryKeyValueConfigRepository();
+    repository.put(root, "p1", "v1");
+    repository.put(root, "p2", "v2");
+    repository.put(root, "a.p3", "v3");
+    repository.put(root, "b.p4", "v4");
+    KeyValueConfigSource configSource =
+        KeyValueConfigSource.withRepository(repository, collectionName).build();
+
+    assertEquals(
+        ImmutableSet.of("p1", "a.p3"),
+        configSource
+            .loadConfig(PropertySelection.of(ImmutableSet.of("p1"), ImmutableSet.of("a.")))
+            .keySet());
+
+    repository.put(root, "b.p4", "v44");
+
+    Map<String, ConfigProperty> config =
+        configSource.loadConfig(
+            PropertySelection.of(ImmutableSet.of("p1", "p2"), ImmutableSet.of("a.")));
+
+    assertEquals(ImmutableSet.of("p1", "p2", "a.p3"), config.keySet());
+    assertEquals("v2", config.get("p2").valueAsString().get());
+  }
+
+  @Test
+  void testRegistryLoadsOnlyRegisteredProperties() {
+    KeyValueConfigName root = new KeyValueConfigName(null, collectionName);
+    InMemoryKeyValueConfigRepository repository = new InMemoryKeyValueConfigRepository();
+    repository.put(root, "p1", "v1");
+    repository.put(root, "p2", "v2");
+    repository.put(root, "a.p3", "v3");
+    ConfigRegistry configRegistry =
+        ConfigRegistry.create(
+            ConfigRegistrySettings.builder()
+                .jmxEnabled(false)
+                .noReload()
+                .selectiveLoadingEnabled(true)
+                .addLastSource(
+                    "keyvalue",
+                    KeyValueConfigSource.withRepository(repository, collectionName).build())
+                .build());
+
+    assertEquals(Collections.emptySet(), configRegistry.allProperties());
+    assertEquals("v1", configRegistry.stringValue("p1", null));
+    assertEquals(Collections.emptySet(), configRegistry.propertyNames("a.")); // not selected
+    assertEquals(ImmutableSet.of("p1"), configRegistry.allProperties());
+  }
 }
@@ -0,0 +1,177 @@
+package io.scalecube.config.source;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.scalecube.config.ConfigProperty;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ClassPathConfigSourceTest {
+
+  private static final List<Predicate<Path>> PREDICATES =
+      Collections.singletonList(path -> path.toString().endsWith(".properties"));
+
+  @TempDir Path tempDir;
+
+  private Path classesDir;
+  private Path jar;
+  private URLClassLoader classLoader;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    classesDir = tempDir.resolve("classes");
+    write(classesDir.resolve("config/app.properties"), "app=dir\n");
+    write(classesDir.resolve("Foo.class"), "not a class");
+    write(classesDir.resolve("config/readme.txt"), "not a config");
+
+    jar = tempDir.resolve("lib.jar");
+    try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+      putEntry(out, "config/lib.properties", "lib=jar\n");
+      putEntry(out, "Bar.class", "not a class");
+      putEntry(out, ClassPathResourceIndex.INDEX_NAME, "config/lib.properties\n");
+    }
+
+    classLoader =
+        new URLClassLoader(new URL[] {classesDir.toUri().toURL(), jar.toUri().toURL()}, null);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    classLoader.close();
+  }
+
+  private static void write(Path file, String content) throws Exception {
+    Files.createDirectories(file.getParent());
+    Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static void putEntry(JarOutputStream out, String name, String content)
+      throws Exception {
+    out.putNextEntry(new JarEntry(name));
+    out.write(content.getBytes(StandardCharsets.UTF_8));
+    out.closeEntry();
+  }
+
+  private static Map<String, String> values(Map<String, ConfigProperty> config) {
+    Map<String, String> result = new TreeMap<>();
+    config.forEach((name, property) -> result.put(name, property.valueAsString(null)));
+    return result;
+  }
+
+  @Test
+  void testTargetedScanReturnsSameResultAsFullScan() {
+    Map<String, ConfigProperty> fullScan =
+        ClassPathConfigSource.withPredicates(PREDICATES)
+            .classLoader(classLoader)
+            .build()
+            .loadConfig();
+    Map<String, ConfigProperty> targetedScan =
+        ClassPathConfigSource.withPredicates(PREDICATES)
+            .classLoader(classLoader)
+            .targetedScan()
+            .build()
+            .loadConfig();
+
+    Map<String, String> expected = new TreeMap<>();
+    expected.put("app", "dir");
+    expected.put("lib", "jar");
+    assertEquals(expected, values(fullScan));
+    assertEquals(values(fullScan), values(targetedScan));
+  }
+
+  @Test
+  void testResourceIndexIsUsedForDirectory() throws Exception {
+    ClassPathResourceIndex.write(classesDir);
+    write(classesDir.resolve("config/unindexed.properties"), "unindexed=dir\n");
+
+    Map<String, String> indexed =
+        values(
+            ClassPathConfigSource.withPredicates(PREDICATES)
+                .classLoader(classLoader)
+                .resourceIndex()
+                .build()
+                .loadConfig());
+    Map<String, String> scanned =
+        values(
+            ClassPathConfigSource.withPredicates(PREDICATES)
+                .classLoader(classLoader)
+                .targetedScan()
+                .build()
+                .loadConfig());
+
+    assertNull(indexed.get("unindexed"));
+    assertEquals("jar", indexed.get("lib"));
+    assertEquals("dir", scanned.get("unindexed"));
+  }
+
+  @Test
+  void testResourceIndexRoundTrip() throws Exception {
+    Path index = ClassPathResourceIndex.write(classesDir);
+
+    assertEquals(classesDir.resolve(ClassPathResourceIndex.INDEX_NAME), index);
+    assertEquals(
+        Arrays.asList("config/app.properties", "config/readme.txt"),
+        ClassPathResourceIndex.read(classesDir.toFile()));
+    try (JarFile jarFile = new JarFile(jar.toFile())) {
+      assertEquals(
+          Collections.singletonList("config/lib.properties"),
+          ClassPathResourceIndex.read(jarFile));
+    }
+  }
+
+  @Test
+  void testMissingResourceIndex() throws Exception {
+    Path jarWithoutIndex = tempDir.resolve("noindex.jar");
+    try (OutputStream out = Files.newOutputStream(jarWithoutIndex);
+        JarOutputStream jarOut = new JarOutputStream(out)) {
+      putEntry(jarOut, "config/lib.properties", "lib=jar\n");
+    }
+
+    assertNull(ClassPathResourceIndex.read(classesDir.toFile()));
+    try (JarFile jarFile = new JarFile(jarWithoutIndex.toFile())) {
+      assertNull(ClassPathResourceIndex.read(jarFile));
+    }
+  }
+
+  @Test
+  void testReloadableModeReloadsChangedFile() throws Exception {
+    ClassPathConfigSource source =
+        ClassPathConfigSource.withPredicates(PREDICATES)
+            .classLoader(classLoader)
+            .targetedScan()
+            .reloadable()
+            .build();
+    Map<String, ConfigProperty> config = source.loadConfig();
+    assertEquals("dir", config.get("app").valueAsString(null));
+    assertSame(config, source.loadConfig());
+
+    Path file = classesDir.resolve("config/app.properties");
+    write(file, "app=changed\n");
+    Files.setLastModifiedTime(
+        file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 10_000));
+
+    config = source.loadConfig();
+    assertEquals("changed", config.get("app").valueAsString(null));
+    assertEquals("jar", config.get("lib").valueAsString(null));
+  }
+}